@@ -3,14 +3,32 @@ package organisation.structure.exercise;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
 
 @Slf4j
-@SpringBootApplication
+// The datasource is only configured when a URL is set, see DataSourceConfiguration
+@SpringBootApplication(exclude = DataSourceAutoConfiguration.class)
 public class ExerciseApplication {
 
+    private static final String CLI_PROFILE = "cli";
+
     public static void main(String[] args) {
          log.info("[Organization Analyzes] [Organization Analyzes] Starting the Organization Analyzes Application. Happy using!");
-        SpringApplication.run(ExerciseApplication.class, args);
+        SpringApplication application = new SpringApplication(ExerciseApplication.class);
+        if (hasPositionalArguments(args)) {
+            // Input paths on the command line switch to the fast-start, one-shot CLI mode
+            application.setAdditionalProfiles(CLI_PROFILE);
+        }
+        application.run(args);
+    }
+
+    private static boolean hasPositionalArguments(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                return true;
+            }
+        }
+        return false;
     }
 
 }
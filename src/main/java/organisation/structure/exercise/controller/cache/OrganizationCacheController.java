@@ -0,0 +1,75 @@
+package organisation.structure.exercise.controller.cache;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.configuration.properties.HttpProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.CacheStatistics;
+import organisation.structure.exercise.core.model.query.AnalysisOverview;
+import organisation.structure.exercise.core.model.query.EmployeeInfo;
+import organisation.structure.exercise.service.cache.OrganizationCacheService;
+
+import java.util.Set;
+
+/**
+ * HTTP API exposing the tenant organization cache: tenant analyses, configured tenants, statistics and invalidation.
+ * A tenant is loaded and analysed on its first request and served from the cache until its source changes.
+ */
+@RestController
+@RequestMapping("/api/cache")
+@ConditionalOnProperty(prefix = "app.http", name = "enabled", havingValue = "true")
+public class OrganizationCacheController {
+
+    @Autowired
+    private OrganizationCacheService organizationCacheService;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Autowired
+    private HttpProperties httpProperties;
+
+    @GetMapping("/tenants")
+    public ResponseEntity<Set<String>> getTenants() {
+        return ResponseEntity.ok(organizationCacheService.getTenants());
+    }
+
+    @GetMapping("/tenants/{tenant}/analysis")
+    public ResponseEntity<?> getAnalysis(@PathVariable("tenant") String tenant) {
+        if (!organizationCacheService.getTenants().contains(tenant)) {
+            return ResponseEntity.notFound().build();
+        }
+
+        AnalysisResult result = organizationCacheService.analyzeTenant(tenant);
+        if (!result.isSuccess()) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(result.getErrorMessage());
+        }
+        return ResponseEntity.ok(AnalysisOverview.of(result, httpProperties.getOverviewTopFindings(),
+                employee -> EmployeeInfo.of(employee,
+                        analysisProperties.getUnderpaidThreshold(),
+                        analysisProperties.getOverpaidThreshold(),
+                        analysisProperties.getMaxReportingLevels())));
+    }
+
+    @GetMapping("/statistics")
+    public ResponseEntity<CacheStatistics> getStatistics() {
+        return ResponseEntity.ok(organizationCacheService.getStatistics());
+    }
+
+    @PostMapping("/tenants/{tenant}/invalidate")
+    public ResponseEntity<?> invalidate(@PathVariable("tenant") String tenant) {
+        if (!organizationCacheService.getTenants().contains(tenant)) {
+            return ResponseEntity.notFound().build();
+        }
+        organizationCacheService.invalidate(tenant);
+        return ResponseEntity.ok().build();
+    }
+}
@@ -0,0 +1,164 @@
+package organisation.structure.exercise.controller.query;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationResult;
+import organisation.structure.exercise.core.model.query.AnalysisOverview;
+import organisation.structure.exercise.core.model.query.SubtreeExport;
+import organisation.structure.exercise.core.model.query.VersionedResponse;
+import organisation.structure.exercise.facade.query.OrganizationQueryFacade;
+
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * HTTP API for lookups, subtree and analysis queries over the loaded organization snapshot.
+ * Every response carries an ETag derived from the snapshot version and the request, so clients
+ * revalidate with If-None-Match and receive 304 until a new snapshot is published.
+ * Hierarchy exports are streamed to the client while the tree is walked, and what-if simulations
+ * are evaluated against the served snapshot without modifying it. Loaded snapshots are recorded by date,
+ * and the analysis of any recorded version can be queried.
+ */
+@RestController
+@RequestMapping("/api/organization")
+@ConditionalOnProperty(prefix = "app.http", name = "enabled", havingValue = "true")
+public class OrganizationQueryController {
+
+    @Autowired
+    private OrganizationQueryFacade organizationQueryFacade;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        // Load the snapshot before serving, so a missing or unreadable source fails startup
+        organizationQueryFacade.getSnapshotVersion();
+    }
+
+    @GetMapping("/employees/{employeeId}")
+    public ResponseEntity<?> getEmployee(@PathVariable("employeeId") String employeeId, WebRequest request) {
+        return respond(request, "employee:" + employeeId,
+                () -> organizationQueryFacade.findEmployee(employeeId));
+    }
+
+    @GetMapping("/employees/{employeeId}/subtree")
+    public ResponseEntity<?> getSubtree(@PathVariable("employeeId") String employeeId,
+                                        @RequestParam(name = "maxDepth", defaultValue = "2147483647") int maxDepth,
+                                        @RequestParam(name = "offset", defaultValue = "0") int offset,
+                                        @RequestParam(name = "limit", defaultValue = "100") int limit,
+                                        WebRequest request) {
+        if (maxDepth < 1 || offset < 0 || limit < 1) {
+            return ResponseEntity.badRequest().build();
+        }
+        return respond(request, "subtree:" + employeeId + ":" + maxDepth + ":" + offset + ":" + limit,
+                () -> organizationQueryFacade.findSubtree(employeeId, maxDepth, offset, limit));
+    }
+
+    @GetMapping("/employees/{employeeId}/export")
+    public ResponseEntity<?> exportSubtree(@PathVariable("employeeId") String employeeId,
+                                           @RequestParam(name = "format", defaultValue = "json") String format,
+                                           @RequestParam(name = "maxDepth", defaultValue = "2147483647") int maxDepth,
+                                           WebRequest request) {
+        HierarchyExportFormat exportFormat;
+        try {
+            exportFormat = HierarchyExportFormat.of(format);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (maxDepth < 0) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        String requestKey = "export:" + employeeId + ":" + exportFormat + ":" + maxDepth;
+        // The ETag and the streamed body both come from the snapshot captured here
+        VersionedResponse<SubtreeExport> export = organizationQueryFacade.exportSubtree(employeeId, exportFormat, maxDepth);
+        String eTag = eTag(export.getSnapshotVersion(), requestKey);
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        if (export.getBody() == null) {
+            return ResponseEntity.notFound().build();
+        }
+
+        SubtreeExport subtree = export.getBody();
+        StreamingResponseBody body = output -> subtree.writeTo(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+                .body(body);
+    }
+
+    @GetMapping("/analysis")
+    public ResponseEntity<?> getAnalysis(WebRequest request) {
+        return respond(request, "analysis", organizationQueryFacade::getAnalysisOverview);
+    }
+
+    @GetMapping("/history")
+    public ResponseEntity<?> getHistory() {
+        return ResponseEntity.ok(organizationQueryFacade.getHistoryDates());
+    }
+
+    @GetMapping("/history/{date}/analysis")
+    public ResponseEntity<?> getHistoricalAnalysis(@PathVariable("date") String date) {
+        LocalDate asOf;
+        try {
+            asOf = LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        AnalysisOverview overview = organizationQueryFacade.getHistoricalAnalysisOverview(asOf);
+        return overview == null ? ResponseEntity.notFound().build() : ResponseEntity.ok(overview);
+    }
+
+    @PostMapping("/simulations")
+    public ResponseEntity<?> simulate(@RequestBody List<SimulatedChange> changes) {
+        if (changes == null || changes.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        SimulationResult result = organizationQueryFacade.simulate(changes).getBody();
+        return result.isSuccess() ? ResponseEntity.ok(result) : ResponseEntity.badRequest().body(result);
+    }
+
+    @PostMapping("/snapshot/reload")
+    public ResponseEntity<?> reloadSnapshot() {
+        return ResponseEntity.ok(organizationQueryFacade.reloadSnapshot());
+    }
+
+    private ResponseEntity<?> respond(WebRequest request, String requestKey, Supplier<VersionedResponse<?>> query) {
+        // Revalidation against the current version avoids computing the response at all
+        if (request.checkNotModified(eTag(organizationQueryFacade.getSnapshotVersion(), requestKey))) {
+            return null;
+        }
+
+        VersionedResponse<?> response = query.get();
+        if (response.getBody() == null) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag(response.getSnapshotVersion(), requestKey))
+                .body(response.getBody());
+    }
+
+    private static String eTag(long snapshotVersion, String requestKey) {
+        return "\"" + snapshotVersion + "-" + Integer.toHexString(requestKey.hashCode()) + "\"";
+    }
+}
@@ -0,0 +1,143 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+
+/**
+ * Dictionary encoding of employee IDs into dense int codes.
+ * IDs are interned into an open-addressing hash table with linear probing over primitive arrays,
+ * so lookups neither allocate entry objects nor box their results. Codes are assigned in insertion
+ * order starting at 0, which makes them usable as array indexes. {@link NameDictionary} reuses it for names.
+ */
+public final class EmployeeIdIndex {
+
+    private static final int NO_CODE = -1;
+    private static final int MIN_CAPACITY = 16;
+
+    private String[] ids;
+    private int[] hashes;
+    private int[] slots;
+    private int mask;
+    private int size;
+
+    /**
+     * Creates an index sized for the expected number of distinct IDs.
+     */
+    public EmployeeIdIndex(int expectedSize) {
+        int capacity = tableCapacity(Math.max(expectedSize, 1));
+        this.ids = new String[Math.max(expectedSize, MIN_CAPACITY)];
+        this.hashes = new int[ids.length];
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        Arrays.fill(slots, NO_CODE);
+    }
+
+    /**
+     * Returns the code of the ID, assigning the next free code if the ID is new.
+     * A returned code equal to {@link #size()} before the call means the ID was added.
+     */
+    public int intern(@NonNull final String id) {
+        int hash = id.hashCode();
+        int slot = probe(id, hash);
+        int code = slots[slot];
+        if (code != NO_CODE) {
+            return code;
+        }
+
+        code = size;
+        if (code == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            hashes = Arrays.copyOf(hashes, hashes.length * 2);
+        }
+        ids[code] = id;
+        hashes[code] = hash;
+        slots[slot] = code;
+        size++;
+
+        // Keep the load factor at or below one half so probe sequences stay short
+        if (size * 2 > slots.length) {
+            rehash(slots.length * 2);
+        }
+        return code;
+    }
+
+    /**
+     * Gets the code of the ID, or -1 if the ID is not in the index.
+     */
+    public int codeOf(String id) {
+        if (id == null) {
+            return NO_CODE;
+        }
+        return slots[probe(id, id.hashCode())];
+    }
+
+    /**
+     * Checks if the ID is in the index.
+     */
+    public boolean contains(String id) {
+        return codeOf(id) != NO_CODE;
+    }
+
+    /**
+     * Gets the ID with the given code.
+     *
+     * @throws IndexOutOfBoundsException if no ID has that code
+     */
+    public String idOf(int code) {
+        if (code < 0 || code >= size) {
+            throw new IndexOutOfBoundsException("Unknown employee ID code: " + code);
+        }
+        return ids[code];
+    }
+
+    /**
+     * Gets the number of distinct IDs in the index.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the slot holding the ID, or the empty slot where it would be inserted.
+     */
+    private int probe(String id, int hash) {
+        int slot = spread(hash) & mask;
+        while (true) {
+            int code = slots[slot];
+            if (code == NO_CODE || (hashes[code] == hash && ids[code].equals(id))) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+    }
+
+    private void rehash(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, NO_CODE);
+        int newMask = capacity - 1;
+        for (int code = 0; code < size; code++) {
+            int slot = spread(hashes[code]) & newMask;
+            while (table[slot] != NO_CODE) {
+                slot = (slot + 1) & newMask;
+            }
+            table[slot] = code;
+        }
+        slots = table;
+        mask = newMask;
+    }
+
+    private static int spread(int hash) {
+        // Fibonacci hashing scatters sequential IDs such as "E1001", "E1002" across the table
+        int scrambled = hash * 0x9E3779B9;
+        return scrambled ^ (scrambled >>> 16);
+    }
+
+    private static int tableCapacity(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+}
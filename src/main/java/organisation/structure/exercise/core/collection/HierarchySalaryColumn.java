@@ -0,0 +1,120 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Salaries of an organization in breadth-first order from the CEO, converted to minor units once.
+ * In this order every reporting level and the direct reports of every manager occupy one contiguous
+ * range, so the summary, level bands and per-manager aggregates of one analysis share a single column.
+ */
+public final class HierarchySalaryColumn {
+
+    private final List<Employee> employees;
+    private final SalaryColumn salaries;
+    private final int[] levelOffsets;
+    private final int[] firstReports;
+
+    private HierarchySalaryColumn(List<Employee> employees, SalaryColumn salaries, int[] levelOffsets, int[] firstReports) {
+        this.employees = employees;
+        this.salaries = salaries;
+        this.levelOffsets = levelOffsets;
+        this.firstReports = firstReports;
+    }
+
+    /**
+     * Lays out the organization below and including the CEO, level by level.
+     *
+     * @param ceo Root of an established hierarchy
+     */
+    public static HierarchySalaryColumn of(@NonNull final Employee ceo) {
+        List<Employee> employees = new ArrayList<>();
+        int[] levelOffsets = new int[8];
+        int depth = 0;
+
+        employees.add(ceo);
+        int levelStart = 0;
+        while (levelStart < employees.size()) {
+            if (depth + 1 == levelOffsets.length) {
+                levelOffsets = Arrays.copyOf(levelOffsets, levelOffsets.length * 2);
+            }
+            levelOffsets[depth++] = levelStart;
+            int levelEnd = employees.size();
+            for (int i = levelStart; i < levelEnd; i++) {
+                employees.addAll(employees.get(i).getDirectSubordinates());
+            }
+            levelStart = levelEnd;
+        }
+        levelOffsets[depth] = employees.size();
+
+        int[] firstReports = new int[employees.size() + 1];
+        firstReports[0] = 1;
+        for (int i = 0; i < employees.size(); i++) {
+            firstReports[i + 1] = firstReports[i] + employees.get(i).getDirectSubordinates().size();
+        }
+        return new HierarchySalaryColumn(employees, SalaryColumn.of(employees),
+                Arrays.copyOf(levelOffsets, depth + 1), firstReports);
+    }
+
+    /**
+     * Gets the number of employees.
+     */
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Gets the number of reporting levels, including the CEO's.
+     */
+    public int depth() {
+        return levelOffsets.length - 1;
+    }
+
+    /**
+     * Gets the employee at the given breadth-first position; the CEO is at position 0.
+     */
+    public Employee getEmployee(int position) {
+        return employees.get(position);
+    }
+
+    /**
+     * Gets the salaries in breadth-first order.
+     */
+    public SalaryColumn getSalaries() {
+        return salaries;
+    }
+
+    /**
+     * Gets the position of the first direct report of the employee at the given position. The direct
+     * reports end where those of the next position begin, so {@code firstReportOf(size())} is valid.
+     */
+    public int firstReportOf(int position) {
+        return firstReports[position];
+    }
+
+    /**
+     * Gets the number of employees at a reporting level.
+     */
+    public int levelSize(int level) {
+        return levelOffsets[level + 1] - levelOffsets[level];
+    }
+
+    /**
+     * Computes count, exact sum, minimum and maximum of all salaries.
+     */
+    public SalaryStatistics statistics() {
+        return salaries.statistics();
+    }
+
+    /**
+     * Computes count, exact sum, minimum and maximum of the salaries at a reporting level.
+     */
+    public SalaryStatistics levelStatistics(int level) {
+        return salaries.statistics(levelOffsets[level], levelOffsets[level + 1]);
+    }
+}
@@ -0,0 +1,154 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.model.Employee;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**
+ * Append-only employee list that interns every employee ID into an {@link EmployeeIdIndex} as it is added.
+ * Loaders fill it at parse time, and validation, hierarchy building and lookups then share the one index
+ * instead of each hashing every ID into their own map. Elements can be added but not replaced or removed,
+ * and a frozen list rejects further adds, so it can be shared read-only together with its index.
+ */
+public final class IndexedEmployeeList extends AbstractList<Employee> implements RandomAccess {
+
+    private static final int NONE = -1;
+
+    private final List<Employee> employees;
+    private final EmployeeIdIndex idIndex;
+    private int[] positionByCode;
+    private int duplicateIds;
+    private boolean frozen;
+
+    private volatile int[] managerPositions;
+
+    public IndexedEmployeeList() {
+        this(1024);
+    }
+
+    public IndexedEmployeeList(int expectedSize) {
+        this.employees = new ArrayList<>(expectedSize);
+        this.idIndex = new EmployeeIdIndex(expectedSize);
+        this.positionByCode = new int[Math.max(expectedSize, 16)];
+    }
+
+    /**
+     * Returns the list itself if it is already indexed, otherwise an indexed copy of it.
+     */
+    public static IndexedEmployeeList of(@NonNull final List<Employee> employees) {
+        if (employees instanceof IndexedEmployeeList indexed) {
+            return indexed;
+        }
+        IndexedEmployeeList indexed = new IndexedEmployeeList(employees.size());
+        indexed.addAll(employees);
+        return indexed;
+    }
+
+    /**
+     * Makes the list read-only; later adds fail with {@link UnsupportedOperationException}.
+     * Manager positions are resolved before freezing, so readers never race to resolve them.
+     *
+     * @return This list
+     */
+    public IndexedEmployeeList freeze() {
+        if (!frozen) {
+            managerPositions = resolveManagerPositions();
+            frozen = true;
+        }
+        return this;
+    }
+
+    @Override
+    public boolean add(Employee employee) {
+        if (frozen) {
+            throw new UnsupportedOperationException("Employee list is read-only");
+        }
+        int position = employees.size();
+        employees.add(employee);
+        modCount++;
+        managerPositions = null;
+
+        // Null employees and IDs are kept so validation can report them, but they are not indexed
+        if (employee != null && employee.getId() != null) {
+            int distinctIds = idIndex.size();
+            int code = idIndex.intern(employee.getId());
+            if (code == distinctIds) {
+                if (code == positionByCode.length) {
+                    positionByCode = Arrays.copyOf(positionByCode, positionByCode.length * 2);
+                }
+                positionByCode[code] = position;
+            } else {
+                duplicateIds++;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public Employee get(int index) {
+        return employees.get(index);
+    }
+
+    @Override
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Gets the shared ID index of this list.
+     */
+    public EmployeeIdIndex getIdIndex() {
+        return idIndex;
+    }
+
+    /**
+     * Gets the position of the first employee with the given ID, or -1 if there is none.
+     */
+    public int positionOf(String employeeId) {
+        int code = idIndex.codeOf(employeeId);
+        return code < 0 ? NONE : positionByCode[code];
+    }
+
+    /**
+     * Gets the first employee with the given ID, or null if there is none.
+     */
+    public Employee findById(String employeeId) {
+        int position = positionOf(employeeId);
+        return position < 0 ? null : employees.get(position);
+    }
+
+    /**
+     * Checks if any employee ID was added more than once.
+     */
+    public boolean hasDuplicateIds() {
+        return duplicateIds > 0;
+    }
+
+    /**
+     * Gets the position of the manager of the employee at the given position,
+     * or -1 for the CEO, a missing employee or an unknown manager ID.
+     * Manager positions are resolved for the whole list on first call and cached until the next add.
+     */
+    public int managerPositionOf(int position) {
+        int[] resolved = managerPositions;
+        if (resolved == null) {
+            resolved = resolveManagerPositions();
+            managerPositions = resolved;
+        }
+        return resolved[position];
+    }
+
+    private int[] resolveManagerPositions() {
+        int[] resolved = new int[employees.size()];
+        for (int position = 0; position < resolved.length; position++) {
+            Employee employee = employees.get(position);
+            resolved[position] = employee == null || employee.isCEO() ? NONE : positionOf(employee.getManagerId());
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,116 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Direct-report salary aggregates for every manager of an organization.
+ * The salaries of each manager's direct reports are laid out contiguously in one {@link SalaryColumn}
+ * (compressed sparse row layout), so every per-manager aggregate is a single pass over an array range.
+ */
+public final class ManagerSalaryAggregates {
+
+    private final List<Employee> managers;
+    private final long[] managerSalaries;
+    private final int[] offsets;
+    private final SalaryColumn subordinateSalaries;
+
+    private ManagerSalaryAggregates(List<Employee> managers, long[] managerSalaries, int[] offsets,
+                                    SalaryColumn subordinateSalaries) {
+        this.managers = managers;
+        this.managerSalaries = managerSalaries;
+        this.offsets = offsets;
+        this.subordinateSalaries = subordinateSalaries;
+    }
+
+    /**
+     * Builds the aggregates from employees with established hierarchy.
+     */
+    public static ManagerSalaryAggregates of(@NonNull final List<Employee> employees) {
+        List<Employee> managers = new ArrayList<>();
+        List<Employee> subordinates = new ArrayList<>(employees.size());
+        int[] offsets = new int[employees.size() + 1];
+
+        for (Employee employee : employees) {
+            if (employee.hasSubordinates()) {
+                managers.add(employee);
+                subordinates.addAll(employee.getDirectSubordinates());
+                offsets[managers.size()] = subordinates.size();
+            }
+        }
+
+        long[] managerSalaries = new long[managers.size()];
+        for (int i = 0; i < managerSalaries.length; i++) {
+            managerSalaries[i] = SalaryColumn.toMinorUnits(managers.get(i).getSalary());
+        }
+        return new ManagerSalaryAggregates(managers, managerSalaries, Arrays.copyOf(offsets, managers.size() + 1),
+                SalaryColumn.of(subordinates));
+    }
+
+    /**
+     * Builds the aggregates over the breadth-first salary layout of an organization, whose direct-report
+     * ranges are already contiguous, so no salaries are copied or converted again.
+     */
+    public static ManagerSalaryAggregates of(@NonNull final HierarchySalaryColumn hierarchy) {
+        List<Employee> managers = new ArrayList<>();
+        long[] managerSalaries = new long[hierarchy.size()];
+        int[] offsets = new int[hierarchy.size() + 1];
+
+        for (int position = 0; position < hierarchy.size(); position++) {
+            Employee employee = hierarchy.getEmployee(position);
+            if (employee.hasSubordinates()) {
+                offsets[managers.size()] = hierarchy.firstReportOf(position);
+                managerSalaries[managers.size()] = hierarchy.getSalaries().get(position);
+                managers.add(employee);
+                offsets[managers.size()] = hierarchy.firstReportOf(position + 1);
+            }
+        }
+        return new ManagerSalaryAggregates(managers, Arrays.copyOf(managerSalaries, managers.size()),
+                Arrays.copyOf(offsets, managers.size() + 1), hierarchy.getSalaries());
+    }
+
+    /**
+     * Gets the number of managers.
+     */
+    public int size() {
+        return managers.size();
+    }
+
+    /**
+     * Gets the manager at the given position.
+     */
+    public Employee getManager(int position) {
+        return managers.get(position);
+    }
+
+    /**
+     * Computes count, exact sum, minimum and maximum of the direct-report salaries of a manager.
+     */
+    public SalaryStatistics subordinateStatistics(int position) {
+        return subordinateSalaries.statistics(offsets[position], offsets[position + 1]);
+    }
+
+    /**
+     * Computes the ratio of a manager's salary to the exact average salary of their direct reports.
+     */
+    public double salaryRatioToAverage(int position) {
+        SalaryStatistics statistics = subordinateStatistics(position);
+        return SalaryStatistics.ratioToAverage(managerSalaries[position], statistics.getCount(), statistics.getSumMinorUnits());
+    }
+
+    /**
+     * Computes the salary ratio of every manager, in manager order.
+     */
+    public double[] salaryRatiosToAverage() {
+        double[] ratios = new double[managers.size()];
+        for (int i = 0; i < ratios.length; i++) {
+            ratios[i] = salaryRatioToAverage(i);
+        }
+        return ratios;
+    }
+}
@@ -0,0 +1,73 @@
+package organisation.structure.exercise.core.collection;
+
+/**
+ * Dictionary of employee name parts built during ingestion.
+ * Each distinct name is stored once and given a dense int code; employees loaded through the same
+ * dictionary reference the one canonical String instead of holding a copy parsed from their own row.
+ * Not thread-safe: a dictionary belongs to one load.
+ */
+public final class NameDictionary {
+
+    // The first instance interned for a name is the canonical one
+    private final EmployeeIdIndex index;
+    private long lookups;
+
+    public NameDictionary() {
+        this(1024);
+    }
+
+    public NameDictionary(int expectedNames) {
+        this.index = new EmployeeIdIndex(expectedNames);
+    }
+
+    /**
+     * Returns the canonical instance of the name, adding it to the dictionary if it is new.
+     *
+     * @param name Name part as parsed; null is returned unchanged
+     * @return Shared instance equal to the given name
+     */
+    public String canonical(String name) {
+        if (name == null) {
+            return null;
+        }
+        return index.idOf(encode(name));
+    }
+
+    /**
+     * Returns the code of the name, adding it to the dictionary if it is new.
+     */
+    public int encode(String name) {
+        lookups++;
+        return index.intern(name);
+    }
+
+    /**
+     * Gets the code of the name, or -1 if it is not in the dictionary.
+     */
+    public int codeOf(String name) {
+        return index.codeOf(name);
+    }
+
+    /**
+     * Gets the canonical name with the given code.
+     *
+     * @throws IndexOutOfBoundsException if no name has that code
+     */
+    public String decode(int code) {
+        return index.idOf(code);
+    }
+
+    /**
+     * Gets the number of distinct names.
+     */
+    public int size() {
+        return index.size();
+    }
+
+    /**
+     * Gets the number of names passed through the dictionary, including repeats.
+     */
+    public long getLookups() {
+        return lookups;
+    }
+}
@@ -0,0 +1,375 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * Immutable hash array mapped trie (HAMT).
+ * Every update returns a new map that shares all untouched trie nodes with the previous one, so a
+ * version that differs in a few keys costs only the copied paths from the root to those keys
+ * (at most seven 32-way nodes each). Putting a value equal to the current one returns the same map.
+ *
+ * @param <K> Key type; keys must not be null
+ * @param <V> Value type
+ */
+public final class PersistentHashMap<K, V> {
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, V> PersistentHashMap<K, V> empty() {
+        return (PersistentHashMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Gets the value mapped to the key, or null if there is none.
+     */
+    @SuppressWarnings("unchecked")
+    public V get(@NonNull final K key) {
+        if (root == null) {
+            return null;
+        }
+        Leaf leaf = root.find(key, hash(key), 0);
+        return leaf == null ? null : (V) leaf.value;
+    }
+
+    /**
+     * Checks if the key is mapped.
+     */
+    public boolean containsKey(@NonNull final K key) {
+        return root != null && root.find(key, hash(key), 0) != null;
+    }
+
+    /**
+     * Returns a map with the key mapped to the value. Returns this map if the key is already mapped to an equal value.
+     */
+    public PersistentHashMap<K, V> put(@NonNull final K key, V value) {
+        int hash = hash(key);
+        Leaf leaf = new Leaf(key, hash, value);
+        if (root == null) {
+            return new PersistentHashMap<>(new BitmapNode(bit(hash, 0), new Object[]{leaf}), 1);
+        }
+
+        boolean[] added = new boolean[1];
+        Node newRoot = root.put(leaf, 0, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Returns a map without the key. Returns this map if the key is not mapped.
+     */
+    public PersistentHashMap<K, V> remove(@NonNull final K key) {
+        if (root == null) {
+            return this;
+        }
+        Object newRoot = root.remove(key, hash(key), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        Node node = newRoot instanceof Leaf leaf ? new BitmapNode(bit(leaf.hash, 0), new Object[]{leaf}) : (Node) newRoot;
+        return new PersistentHashMap<>(node, size - 1);
+    }
+
+    /**
+     * Gets the number of mappings.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Checks if the map has no mappings.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Performs the action for every mapping, in trie order.
+     */
+    @SuppressWarnings("unchecked")
+    public void forEach(@NonNull final BiConsumer<? super K, ? super V> action) {
+        if (root != null) {
+            root.forEach(leaf -> action.accept((K) leaf.key, (V) leaf.value));
+        }
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static int bit(int hash, int shift) {
+        return 1 << ((hash >>> shift) & MASK);
+    }
+
+    /**
+     * Builds the smallest subtree holding two entries (leaves or collision nodes) whose hashes differ
+     * at or below the given shift, or a collision node when the full hashes are equal.
+     */
+    private static Node merge(Object first, int firstHash, Object second, int secondHash, int shift) {
+        if (firstHash == secondHash && first instanceof Leaf a && second instanceof Leaf b) {
+            return new CollisionNode(firstHash, new Leaf[]{a, b});
+        }
+        int firstBit = bit(firstHash, shift);
+        int secondBit = bit(secondHash, shift);
+        if (firstBit == secondBit) {
+            return new BitmapNode(firstBit, new Object[]{merge(first, firstHash, second, secondHash, shift + BITS)});
+        }
+        Object[] slots = Integer.compareUnsigned(firstBit, secondBit) < 0
+                ? new Object[]{first, second}
+                : new Object[]{second, first};
+        return new BitmapNode(firstBit | secondBit, slots);
+    }
+
+    /**
+     * Key, value and cached hash of one mapping.
+     */
+    private static final class Leaf {
+        final Object key;
+        final int hash;
+        final Object value;
+
+        Leaf(Object key, int hash, Object value) {
+            this.key = key;
+            this.hash = hash;
+            this.value = value;
+        }
+    }
+
+    private abstract static class Node {
+
+        abstract Leaf find(Object key, int hash, int shift);
+
+        abstract Node put(Leaf leaf, int shift, boolean[] added);
+
+        /**
+         * Returns this node if unchanged, null if it became empty, a single leaf if only one mapping
+         * is left (so the parent can inline it), or the updated node.
+         */
+        abstract Object remove(Object key, int hash, int shift);
+
+        abstract void forEach(Consumer<Leaf> action);
+    }
+
+    /**
+     * Trie node with up to 32 slots, each holding a leaf or a child node, indexed by a population bitmap.
+     */
+    private static final class BitmapNode extends Node {
+        final int bitmap;
+        final Object[] slots;
+
+        BitmapNode(int bitmap, Object[] slots) {
+            this.bitmap = bitmap;
+            this.slots = slots;
+        }
+
+        @Override
+        Leaf find(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return null;
+            }
+            Object slot = slots[index(bit)];
+            if (slot instanceof Leaf leaf) {
+                return leaf.hash == hash && leaf.key.equals(key) ? leaf : null;
+            }
+            return ((Node) slot).find(key, hash, shift + BITS);
+        }
+
+        @Override
+        Node put(Leaf leaf, int shift, boolean[] added) {
+            int bit = bit(leaf.hash, shift);
+            int index = index(bit);
+
+            if ((bitmap & bit) == 0) {
+                Object[] copy = new Object[slots.length + 1];
+                System.arraycopy(slots, 0, copy, 0, index);
+                copy[index] = leaf;
+                System.arraycopy(slots, index, copy, index + 1, slots.length - index);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, copy);
+            }
+
+            Object slot = slots[index];
+            Object replacement;
+            if (slot instanceof Leaf existing) {
+                if (existing.hash == leaf.hash && existing.key.equals(leaf.key)) {
+                    if (Objects.equals(existing.value, leaf.value)) {
+                        return this;
+                    }
+                    replacement = leaf;
+                } else {
+                    replacement = merge(existing, existing.hash, leaf, leaf.hash, shift + BITS);
+                    added[0] = true;
+                }
+            } else {
+                Node child = (Node) slot;
+                Node updated = child.put(leaf, shift + BITS, added);
+                if (updated == child) {
+                    return this;
+                }
+                replacement = updated;
+            }
+            return withSlot(index, replacement);
+        }
+
+        @Override
+        Object remove(Object key, int hash, int shift) {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit);
+            Object slot = slots[index];
+
+            Object replacement;
+            if (slot instanceof Leaf leaf) {
+                if (leaf.hash != hash || !leaf.key.equals(key)) {
+                    return this;
+                }
+                replacement = null;
+            } else {
+                replacement = ((Node) slot).remove(key, hash, shift + BITS);
+                if (replacement == slot) {
+                    return this;
+                }
+            }
+
+            if (replacement != null) {
+                BitmapNode updated = withSlot(index, replacement);
+                return updated.slots.length == 1 && replacement instanceof Leaf ? replacement : updated;
+            }
+            if (slots.length == 1) {
+                return null;
+            }
+
+            Object[] copy = new Object[slots.length - 1];
+            System.arraycopy(slots, 0, copy, 0, index);
+            System.arraycopy(slots, index + 1, copy, index, slots.length - index - 1);
+            if (copy.length == 1 && copy[0] instanceof Leaf remaining) {
+                return remaining;
+            }
+            return new BitmapNode(bitmap & ~bit, copy);
+        }
+
+        @Override
+        void forEach(Consumer<Leaf> action) {
+            for (Object slot : slots) {
+                if (slot instanceof Leaf leaf) {
+                    action.accept(leaf);
+                } else {
+                    ((Node) slot).forEach(action);
+                }
+            }
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private BitmapNode withSlot(int index, Object slot) {
+            Object[] copy = slots.clone();
+            copy[index] = slot;
+            return new BitmapNode(bitmap, copy);
+        }
+    }
+
+    /**
+     * Node holding the entries whose full 32-bit hashes are equal.
+     */
+    private static final class CollisionNode extends Node {
+        final int hash;
+        final Leaf[] leaves;
+
+        CollisionNode(int hash, Leaf[] leaves) {
+            this.hash = hash;
+            this.leaves = leaves;
+        }
+
+        @Override
+        Leaf find(Object key, int hash, int shift) {
+            if (hash != this.hash) {
+                return null;
+            }
+            for (Leaf leaf : leaves) {
+                if (leaf.key.equals(key)) {
+                    return leaf;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        Node put(Leaf leaf, int shift, boolean[] added) {
+            if (leaf.hash != hash) {
+                added[0] = true;
+                return merge(this, hash, leaf, leaf.hash, shift);
+            }
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(leaf.key)) {
+                    if (Objects.equals(leaves[i].value, leaf.value)) {
+                        return this;
+                    }
+                    Leaf[] copy = leaves.clone();
+                    copy[i] = leaf;
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            Leaf[] copy = Arrays.copyOf(leaves, leaves.length + 1);
+            copy[leaves.length] = leaf;
+            added[0] = true;
+            return new CollisionNode(hash, copy);
+        }
+
+        @Override
+        Object remove(Object key, int hash, int shift) {
+            if (hash != this.hash) {
+                return this;
+            }
+            for (int i = 0; i < leaves.length; i++) {
+                if (leaves[i].key.equals(key)) {
+                    if (leaves.length == 2) {
+                        return leaves[1 - i];
+                    }
+                    Leaf[] copy = new Leaf[leaves.length - 1];
+                    System.arraycopy(leaves, 0, copy, 0, i);
+                    System.arraycopy(leaves, i + 1, copy, i, leaves.length - i - 1);
+                    return new CollisionNode(hash, copy);
+                }
+            }
+            return this;
+        }
+
+        @Override
+        void forEach(Consumer<Leaf> action) {
+            for (Leaf leaf : leaves) {
+                action.accept(leaf);
+            }
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package organisation.structure.exercise.core.collection;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Mergeable KLL quantile sketch over a stream of values.
+ * Values are kept in a stack of compactors; level {@code h} holds items that each stand for {@code 2^h}
+ * input values. When the sketch is full, the lowest overfull level is sorted and every other item is
+ * promoted to the level above. Retained items stay around {@code 3k} regardless of the stream length,
+ * and quantiles are answered with a normalized rank error of about {@link #getRankErrorBound()}.
+ * Two sketches merge into one describing the union of their streams, so groups can be sketched per
+ * parallel chunk or per file and combined afterwards. Not thread safe.
+ */
+public final class QuantileSketch {
+
+    public static final int DEFAULT_K = 200;
+
+    private static final int MIN_K = 8;
+    private static final double CAPACITY_DECAY = 2.0 / 3.0;
+
+    private final int k;
+    private final SplittableRandom random;
+
+    private double[][] levels;
+    private int[] sizes;
+    private int height;
+    private int retained;
+    private int maxRetained;
+
+    private long count;
+    private double min = Double.NaN;
+    private double max = Double.NaN;
+
+    private double[] sortedValues;
+    private long[] cumulativeWeights;
+
+    public QuantileSketch() {
+        this(DEFAULT_K);
+    }
+
+    /**
+     * Creates an empty sketch.
+     *
+     * @param k Accuracy parameter; the rank error shrinks roughly as {@code 1/k}
+     * @throws IllegalArgumentException if k is below the minimum of 8
+     */
+    public QuantileSketch(int k) {
+        if (k < MIN_K) {
+            throw new IllegalArgumentException("Sketch accuracy must be at least " + MIN_K + ": " + k);
+        }
+        this.k = k;
+        this.random = new SplittableRandom();
+        this.levels = new double[1][];
+        this.sizes = new int[1];
+        this.levels[0] = new double[capacityOf(0, 1)];
+        this.height = 1;
+        this.maxRetained = capacityOf(0, 1);
+    }
+
+    /**
+     * Adds one value to the sketch.
+     *
+     * @throws IllegalArgumentException if the value is NaN
+     */
+    public void update(double value) {
+        if (Double.isNaN(value)) {
+            throw new IllegalArgumentException("Sketch values must be numbers");
+        }
+        if (count == 0) {
+            min = value;
+            max = value;
+        } else {
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        count++;
+        append(0, value);
+        retained++;
+        if (retained >= maxRetained) {
+            compress();
+        }
+        sortedValues = null;
+    }
+
+    /**
+     * Merges the values of another sketch into this one. The other sketch is not modified.
+     *
+     * @return This sketch
+     */
+    public QuantileSketch merge(QuantileSketch other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        while (height < other.height) {
+            grow();
+        }
+        for (int h = 0; h < other.height; h++) {
+            for (int i = 0; i < other.sizes[h]; i++) {
+                append(h, other.levels[h][i]);
+            }
+        }
+        retained += other.retained;
+
+        min = count == 0 ? other.min : Math.min(min, other.min);
+        max = count == 0 ? other.max : Math.max(max, other.max);
+        count += other.count;
+
+        while (retained >= maxRetained) {
+            compress();
+        }
+        sortedValues = null;
+        return this;
+    }
+
+    /**
+     * Returns the estimated value at the given quantile, or NaN if the sketch is empty.
+     *
+     * @param quantile Quantile between 0 and 1; 0 returns the exact minimum and 1 the exact maximum
+     * @throws IllegalArgumentException if the quantile is outside [0, 1]
+     */
+    public double quantile(double quantile) {
+        if (!(quantile >= 0.0 && quantile <= 1.0)) {
+            throw new IllegalArgumentException("Quantile must be between 0 and 1: " + quantile);
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+        if (quantile == 0.0) {
+            return min;
+        }
+        if (quantile == 1.0) {
+            return max;
+        }
+
+        ensureSorted();
+        long target = (long) Math.ceil(quantile * cumulativeWeights[cumulativeWeights.length - 1]);
+        int index = Arrays.binarySearch(cumulativeWeights, target);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return sortedValues[Math.min(index, sortedValues.length - 1)];
+    }
+
+    /**
+     * Returns the estimated fraction of values less than or equal to the given value, or NaN if empty.
+     */
+    public double rank(double value) {
+        if (count == 0) {
+            return Double.NaN;
+        }
+        long weight = 0;
+        for (int h = 0; h < height; h++) {
+            long itemWeight = 1L << h;
+            for (int i = 0; i < sizes[h]; i++) {
+                if (levels[h][i] <= value) {
+                    weight += itemWeight;
+                }
+            }
+        }
+        return (double) weight / retainedWeight();
+    }
+
+    /**
+     * Returns the number of values added to the sketch, directly or through merges.
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the exact minimum value, or NaN if the sketch is empty.
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Returns the exact maximum value, or NaN if the sketch is empty.
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Returns the accuracy parameter of the sketch.
+     */
+    public int getK() {
+        return k;
+    }
+
+    /**
+     * Returns the number of values currently retained in memory.
+     */
+    public int getRetained() {
+        return retained;
+    }
+
+    /**
+     * Returns the approximate normalized rank error of a single quantile query at 99% confidence.
+     */
+    public double getRankErrorBound() {
+        return 2.296 / Math.pow(k, 0.9723);
+    }
+
+    private void append(int level, double value) {
+        double[] items = levels[level];
+        if (sizes[level] == items.length) {
+            items = Arrays.copyOf(items, Math.max(2, items.length * 2));
+            levels[level] = items;
+        }
+        items[sizes[level]++] = value;
+    }
+
+    /**
+     * Compacts the lowest overfull level, growing the stack when the top level overflows.
+     */
+    private void compress() {
+        for (int h = 0; h < height; h++) {
+            if (sizes[h] >= capacityOf(h, height)) {
+                if (h + 1 == height) {
+                    grow();
+                }
+                compact(h);
+                if (retained < maxRetained) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Sorts a level and promotes every other item, starting at a random offset, to the level above.
+     * With an odd size, the smallest item stays behind.
+     */
+    private void compact(int level) {
+        double[] items = levels[level];
+        int size = sizes[level];
+        Arrays.sort(items, 0, size);
+
+        int start = size % 2;
+        int promoted = 0;
+        for (int i = start + (random.nextBoolean() ? 1 : 0); i < size; i += 2) {
+            append(level + 1, items[i]);
+            promoted++;
+        }
+        sizes[level] = start;
+        retained -= size - start - promoted;
+    }
+
+    private void grow() {
+        levels = Arrays.copyOf(levels, height + 1);
+        sizes = Arrays.copyOf(sizes, height + 1);
+        levels[height] = new double[capacityOf(height, height + 1)];
+        height++;
+
+        int total = 0;
+        for (int h = 0; h < height; h++) {
+            total += capacityOf(h, height);
+        }
+        maxRetained = total;
+    }
+
+    private int capacityOf(int level, int levelCount) {
+        int depth = levelCount - level - 1;
+        return (int) Math.ceil(k * Math.pow(CAPACITY_DECAY, depth)) + 1;
+    }
+
+    private long retainedWeight() {
+        long weight = 0;
+        for (int h = 0; h < height; h++) {
+            weight += (long) sizes[h] << h;
+        }
+        return weight;
+    }
+
+    /**
+     * Builds the sorted view of retained items and their cumulative weights by merging the sorted levels.
+     */
+    private void ensureSorted() {
+        if (sortedValues != null) {
+            return;
+        }
+        double[] values = new double[0];
+        long[] weights = new long[0];
+
+        for (int h = 0; h < height; h++) {
+            double[] level = Arrays.copyOf(levels[h], sizes[h]);
+            Arrays.sort(level);
+
+            double[] mergedValues = new double[values.length + level.length];
+            long[] mergedWeights = new long[mergedValues.length];
+            int i = 0;
+            int j = 0;
+            for (int m = 0; m < mergedValues.length; m++) {
+                if (j == level.length || (i < values.length && values[i] <= level[j])) {
+                    mergedValues[m] = values[i];
+                    mergedWeights[m] = weights[i++];
+                } else {
+                    mergedValues[m] = level[j++];
+                    mergedWeights[m] = 1L << h;
+                }
+            }
+            values = mergedValues;
+            weights = mergedWeights;
+        }
+
+        for (int m = 1; m < weights.length; m++) {
+            weights[m] += weights[m - 1];
+        }
+        sortedValues = values;
+        cumulativeWeights = weights;
+    }
+}
@@ -0,0 +1,73 @@
+package organisation.structure.exercise.core.collection;
+
+/**
+ * Running count, mean and variance of a stream of values, updated with Welford's method.
+ * Partial statistics of disjoint chunks merge with Chan's parallel formula, so a group can be
+ * accumulated in one pass split across threads. Not thread safe.
+ */
+public final class RunningStatistics {
+
+    private long count;
+    private double mean;
+    private double sumOfSquaredDeviations;
+
+    /**
+     * Adds one value.
+     */
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        sumOfSquaredDeviations += delta * (value - mean);
+    }
+
+    /**
+     * Merges the statistics of another, disjoint set of values into this one.
+     *
+     * @return These statistics
+     */
+    public RunningStatistics merge(RunningStatistics other) {
+        if (other == null || other.count == 0) {
+            return this;
+        }
+        if (count == 0) {
+            count = other.count;
+            mean = other.mean;
+            sumOfSquaredDeviations = other.sumOfSquaredDeviations;
+            return this;
+        }
+        long total = count + other.count;
+        double delta = other.mean - mean;
+        mean += delta * other.count / total;
+        sumOfSquaredDeviations += other.sumOfSquaredDeviations + delta * delta * count * other.count / total;
+        count = total;
+        return this;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMean() {
+        return mean;
+    }
+
+    /**
+     * Returns the population variance, or 0 if no values were added.
+     */
+    public double getVariance() {
+        return count == 0 ? 0.0 : sumOfSquaredDeviations / count;
+    }
+
+    public double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+
+    /**
+     * Returns how many standard deviations the value lies from the mean, or 0 if all values are equal.
+     */
+    public double zScore(double value) {
+        double standardDeviation = getStandardDeviation();
+        return standardDeviation == 0.0 ? 0.0 : (value - mean) / standardDeviation;
+    }
+}
@@ -0,0 +1,71 @@
+package organisation.structure.exercise.core.collection;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.core.util.SalaryAggregationUtil;
+
+import java.util.List;
+
+/**
+ * Salaries of a list of employees stored as fixed-point minor units (Rappen) in a primitive array.
+ * Aggregates are exact integer arithmetic and run over the contiguous array in one pass.
+ */
+public final class SalaryColumn {
+
+    private final long[] minorUnits;
+
+    private SalaryColumn(long[] minorUnits) {
+        this.minorUnits = minorUnits;
+    }
+
+    /**
+     * Creates a column with the salaries of the given employees, in list order.
+     */
+    public static SalaryColumn of(@NonNull final List<Employee> employees) {
+        long[] values = new long[employees.size()];
+        int i = 0;
+        for (Employee employee : employees) {
+            values[i++] = toMinorUnits(employee.getSalary());
+        }
+        return new SalaryColumn(values);
+    }
+
+    /**
+     * Converts a salary in francs to minor units, rounding to the nearest Rappen.
+     */
+    public static long toMinorUnits(double salary) {
+        return SalaryStatistics.toMinorUnits(salary);
+    }
+
+    /**
+     * Gets the salary at the given position in minor units.
+     */
+    public long get(int position) {
+        return minorUnits[position];
+    }
+
+    /**
+     * Gets the number of salaries in the column.
+     */
+    public int size() {
+        return minorUnits.length;
+    }
+
+    /**
+     * Computes count, exact sum, minimum and maximum of all salaries in one pass.
+     */
+    public SalaryStatistics statistics() {
+        return SalaryAggregationUtil.aggregate(minorUnits, 0, minorUnits.length);
+    }
+
+    /**
+     * Computes count, exact sum, minimum and maximum of the salaries in a range of positions in one pass.
+     *
+     * @param from First position, inclusive
+     * @param to   Last position, exclusive
+     */
+    public SalaryStatistics statistics(int from, int to) {
+        return SalaryAggregationUtil.aggregate(minorUnits, from, to);
+    }
+}
@@ -0,0 +1,18 @@
+package organisation.structure.exercise.core.configuration.datasource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+/**
+ * Creates the datasource only when {@code spring.datasource.url} is set.
+ * Runs without a database, e.g. CSV analyses on the command line, start no connection pool
+ * and no embedded database; the JDBC employee source and the result writer then report
+ * that no datasource is configured when they are used.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "spring.datasource", name = "url")
+@Import(DataSourceAutoConfiguration.class)
+public class DataSourceConfiguration {
+}
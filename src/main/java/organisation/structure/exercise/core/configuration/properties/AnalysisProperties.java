@@ -0,0 +1,151 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.collection.QuantileSketch;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+import organisation.structure.exercise.core.model.Employee;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Analysis configuration bound from the {@code app.analysis.*} properties.
+ * Defaults match the business rules when a property is not set.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.analysis")
+public class AnalysisProperties {
+
+    /**
+     * Managers earning less than this multiple of their direct reports' average salary are underpaid.
+     */
+    private double underpaidThreshold = Employee.DEFAULT_UNDERPAID_THRESHOLD;
+
+    /**
+     * Managers earning more than this multiple of their direct reports' average salary are overpaid.
+     */
+    private double overpaidThreshold = Employee.DEFAULT_OVERPAID_THRESHOLD;
+
+    /**
+     * Employees with a reporting level above this limit have a too long reporting line.
+     */
+    private int maxReportingLevels = Employee.DEFAULT_MAX_REPORTING_LEVELS;
+
+    /**
+     * Rule engine configuration bound from {@code app.analysis.rules.*}.
+     */
+    private Rules rules = new Rules();
+
+    /**
+     * Salary percentile configuration bound from {@code app.analysis.percentiles.*}.
+     */
+    private Percentiles percentiles = new Percentiles();
+
+    /**
+     * Peer-relative salary anomaly configuration bound from {@code app.analysis.anomalies.*}.
+     */
+    private Anomalies anomalies = new Anomalies();
+
+    /**
+     * Sampled preview configuration bound from {@code app.analysis.preview.*}.
+     */
+    private Preview preview = new Preview();
+
+    /**
+     * Restructuring recommendation configuration bound from {@code app.analysis.restructuring.*}.
+     */
+    private Restructuring restructuring = new Restructuring();
+
+    /**
+     * Rule engine configuration.
+     */
+    @Data
+    public static class Rules {
+
+        /**
+         * Names of the rules to evaluate. All registered rules are evaluated when empty.
+         */
+        private List<String> enabled = new ArrayList<>();
+
+        /**
+         * Managers with more direct reports than this limit violate the span-of-control rule.
+         */
+        private int maxSpanOfControl = 15;
+    }
+
+    /**
+     * Salary percentile configuration.
+     */
+    @Data
+    public static class Percentiles {
+
+        /**
+         * Accuracy of the quantile sketches; the rank error shrinks roughly as 1/accuracy.
+         */
+        private int sketchAccuracy = QuantileSketch.DEFAULT_K;
+
+        /**
+         * Employee IDs of the managers whose subtrees get their own salary percentiles.
+         */
+        private List<String> subtreeRoots = new ArrayList<>();
+
+        /**
+         * Quantiles reported in the organizational summary.
+         */
+        private List<Double> reported = new ArrayList<>(List.of(0.5, 0.9));
+    }
+
+    /**
+     * Peer-relative salary anomaly configuration.
+     */
+    @Data
+    public static class Anomalies {
+
+        /**
+         * Employees whose salary is at least this many standard deviations from their peer group mean are anomalies.
+         */
+        private double outlierZScore = 3.0;
+
+        /**
+         * Peer groups with fewer employees are not evaluated. A group of n employees cannot contain
+         * a z-score above (n-1)/sqrt(n), so the size must be large enough for the threshold to be reachable.
+         */
+        private int minPeerGroupSize = 20;
+    }
+
+    /**
+     * Sampled preview configuration.
+     */
+    @Data
+    public static class Preview {
+
+        /**
+         * Approximate fraction of the file's rows to sample.
+         */
+        private double sampleFraction = 0.01;
+
+        /**
+         * Minimum number of rows to sample regardless of the fraction.
+         */
+        private int minSampleRows = 2000;
+
+        /**
+         * Confidence level of the reported intervals.
+         */
+        private double confidenceLevel = 0.95;
+    }
+
+    /**
+     * Restructuring recommendation configuration.
+     */
+    @Data
+    public static class Restructuring {
+
+        /**
+         * Number of highest-ranked moves shown when a restructuring plan is displayed.
+         */
+        private int reportedMoves = 20;
+    }
+}
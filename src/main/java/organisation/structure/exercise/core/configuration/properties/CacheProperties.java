@@ -0,0 +1,27 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Multi-tenant organization cache configuration bound from the {@code app.cache.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.cache")
+public class CacheProperties {
+
+    /**
+     * Heap budget for cached organizations, in bytes of estimated footprint.
+     */
+    private long maxHeapBytes = 256L * 1024 * 1024;
+
+    /**
+     * CSV source file per tenant, e.g. {@code app.cache.tenants.acme=data/acme.csv}.
+     */
+    private Map<String, String> tenants = new LinkedHashMap<>();
+}
@@ -0,0 +1,104 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command-line mode configuration bound from the {@code app.cli.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.cli")
+public class CliProperties {
+
+    /**
+     * Source keyword selecting the configured datasource instead of a CSV file.
+     */
+    public static final String DATABASE = "database";
+
+    /**
+     * Sink keyword writing results to the application log.
+     */
+    public static final String LOG = "log";
+
+    /**
+     * Enables the one-shot command-line analysis.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Inputs to analyze in addition to positional arguments: CSV file paths or {@code database}.
+     */
+    private List<String> inputs = new ArrayList<>();
+
+    /**
+     * Output sinks for every analysis: {@code log} and/or {@code database}.
+     */
+    private List<String> sinks = new ArrayList<>(List.of(LOG));
+
+    /**
+     * Prints a sampled preview of every CSV input instead of running the exact analysis.
+     */
+    private boolean preview = false;
+
+    /**
+     * Analyzes all CSV inputs as shards of one organization instead of one organization per file.
+     */
+    private boolean sharded = false;
+
+    /**
+     * Candidate salary multiples shown as underpaid and overpaid thresholds in a threshold sweep after
+     * every analysis; no sweep when empty.
+     */
+    private List<Double> sweep = new ArrayList<>();
+
+    /**
+     * Candidate reporting level limits of the threshold sweep; the configured limit when empty.
+     */
+    private List<Integer> sweepReportingLevels = new ArrayList<>();
+
+    /**
+     * Recommends manager changes that fix too long reporting lines after every analysis.
+     */
+    private boolean recommendRestructuring = false;
+
+    /**
+     * Earlier CSV export every analyzed input is compared with; no comparison when unset.
+     */
+    private String diffAgainst;
+
+    /**
+     * Directory receiving the change report of every comparison.
+     */
+    private String diffReportDirectory = ".";
+
+    /**
+     * Directory receiving a hierarchy export of every analyzed input; no export when unset.
+     */
+    private String exportDirectory;
+
+    /**
+     * Format of hierarchy exports: {@code json}, {@code dot} or {@code outline}.
+     */
+    private HierarchyExportFormat exportFormat = HierarchyExportFormat.JSON;
+
+    /**
+     * Employee whose subtree is exported instead of the whole organization.
+     */
+    private String exportRoot;
+
+    /**
+     * Maximum number of levels exported below the export root.
+     */
+    private int exportMaxDepth = Integer.MAX_VALUE;
+
+    /**
+     * Exits the JVM with the analysis exit code once all inputs are processed.
+     */
+    private boolean exitOnCompletion = true;
+}
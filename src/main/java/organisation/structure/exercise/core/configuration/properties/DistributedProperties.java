@@ -0,0 +1,55 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Coordinator/worker configuration bound from the {@code app.distributed.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.distributed")
+public class DistributedProperties {
+
+    /**
+     * Runs this JVM as a partition worker listening on {@link #workerPort}.
+     */
+    private boolean workerEnabled = false;
+
+    /**
+     * Port the partition worker listens on.
+     */
+    private int workerPort = 9101;
+
+    /**
+     * Address the partition worker binds to. Unset binds to the loopback address, so only coordinators on
+     * the same host can connect; set a host address, or {@code 0.0.0.0} for all interfaces, to accept others.
+     */
+    private String bindAddress;
+
+    /**
+     * Maximum number of employees in one partition. Workers reject larger tasks before allocating them,
+     * and the coordinator does not send them.
+     */
+    private int maxPartitionRows = 10_000_000;
+
+    /**
+     * Workers ({@code host:port}) the coordinator distributes partitions to. CSV analyses run
+     * distributed when at least one worker is configured.
+     */
+    private List<String> workers = new ArrayList<>();
+
+    /**
+     * Timeout for connecting to a worker, in milliseconds.
+     */
+    private int connectTimeoutMillis = 5000;
+
+    /**
+     * Timeout for a worker to return its partial result, in milliseconds.
+     */
+    private int readTimeoutMillis = 600000;
+}
@@ -0,0 +1,35 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+
+/**
+ * HTTP query service configuration bound from the {@code app.http.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.http")
+public class HttpProperties {
+
+    /**
+     * Source of the served snapshot: a CSV file path, or {@code database} for the configured datasource.
+     * Required when the HTTP query service is enabled; startup fails without it.
+     */
+    private String snapshotSource;
+
+    /**
+     * Maximum number of responses kept in the response cache.
+     */
+    private int responseCacheSize = 1024;
+
+    /**
+     * Number of most severe findings per category in the analysis overview.
+     */
+    private int overviewTopFindings = 10;
+
+    /**
+     * Records every loaded snapshot in the historical snapshot store under the date it was loaded.
+     */
+    private boolean recordHistory = true;
+}
@@ -0,0 +1,29 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+
+/**
+ * CSV ingestion configuration bound from the {@code app.ingestion.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.ingestion")
+public class IngestionProperties {
+
+    /**
+     * Reads CSV inputs with periodic checkpoints so an interrupted load resumes where it stopped.
+     */
+    private boolean checkpointing = false;
+
+    /**
+     * Directory holding checkpoint metadata and state files.
+     */
+    private String checkpointDirectory = "checkpoints";
+
+    /**
+     * Bytes of input read between two checkpoints.
+     */
+    private long checkpointIntervalBytes = 64L * 1024 * 1024;
+}
@@ -0,0 +1,29 @@
+package organisation.structure.exercise.core.configuration.properties;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import organisation.structure.exercise.core.configuration.annotation.Properties;
+
+/**
+ * JDBC employee source configuration bound from the {@code app.jdbc.*} properties.
+ */
+@Data
+@Properties
+@ConfigurationProperties(prefix = "app.jdbc")
+public class JdbcProperties {
+
+    /**
+     * Query returning id, first name, last name, salary and manager id, in this column order.
+     */
+    private String employeeQuery = "SELECT id, first_name, last_name, salary, manager_id FROM employees";
+
+    /**
+     * Number of rows fetched per round trip by the forward-only cursor.
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * Number of rows sent per JDBC batch when persisting analysis results.
+     */
+    private int writeBatchSize = 1000;
+}
@@ -0,0 +1,73 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import organisation.structure.exercise.core.collection.QuantileSketch;
+
+/**
+ * Represents an approximate analysis of a CSV export computed from a random sample of its rows.
+ * Every estimate carries a confidence interval at the configured confidence level.
+ */
+@Data
+@NoArgsConstructor
+public class AnalysisPreview {
+
+    private boolean success;
+    private String errorMessage;
+    private String filePath;
+    private boolean exact;
+    private double confidenceLevel;
+    private long fileBytes;
+    private long bytesRead;
+    private int sampledRows;
+    private int invalidRows;
+    private Estimate employees;
+    private Estimate totalSalary;
+    private Estimate averageSalary;
+    private QuantileSketch salaryDistribution;
+
+    /**
+     * Creates a failed preview with error message.
+     */
+    public static AnalysisPreview failure(String filePath, String errorMessage) {
+        AnalysisPreview preview = new AnalysisPreview();
+        preview.setFilePath(filePath);
+        preview.setErrorMessage(errorMessage);
+        return preview;
+    }
+
+    /**
+     * Gets the fraction of the file that was read to compute the preview.
+     */
+    public double getFractionRead() {
+        return fileBytes == 0 ? 0.0 : Math.min(1.0, (double) bytesRead / fileBytes);
+    }
+
+    /**
+     * Point estimate with the bounds of its confidence interval.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Estimate {
+
+        private double value;
+        private double lowerBound;
+        private double upperBound;
+
+        /**
+         * Creates an estimate with a symmetric interval of the given margin, clipped at zero.
+         */
+        public static Estimate of(double value, double marginOfError) {
+            return new Estimate(value, Math.max(0.0, value - marginOfError), value + marginOfError);
+        }
+
+        /**
+         * Gets the distance from the estimate to the upper bound of the confidence interval.
+         */
+        public double getMarginOfError() {
+            return upperBound - value;
+        }
+    }
+}
@@ -3,8 +3,13 @@ package organisation.structure.exercise.core.model;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import organisation.structure.exercise.core.rule.impl.LongReportingLineRule;
+import organisation.structure.exercise.core.rule.impl.OverpaidManagerRule;
+import organisation.structure.exercise.core.rule.impl.UnderpaidManagerRule;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Represents the result of an organizational analysis.
@@ -18,9 +23,11 @@ public class AnalysisResult {
     private boolean success;
     private String errorMessage;
     private OrganizationalSummary organizationalSummary;
-    private List<Employee> underpaidManagers;
-    private List<Employee> overpaidManagers;
-    private List<Employee> employeesWithLongReportingLines;
+    private EmployeeResultView underpaidManagerView;
+    private EmployeeResultView overpaidManagerView;
+    private EmployeeResultView longReportingLineView;
+    private List<SalaryAnomaly> salaryAnomalies;
+    private RuleEvaluationResult ruleFindings;
     
     /**
      * Creates a successful analysis result.
@@ -29,15 +36,43 @@ public class AnalysisResult {
                                        List<Employee> underpaidManagers,
                                        List<Employee> overpaidManagers,
                                        List<Employee> employeesWithLongReportingLines) {
-        return new AnalysisResult(true, null, summary, underpaidManagers, 
-                                overpaidManagers, employeesWithLongReportingLines);
+        return success(summary,
+                underpaidManagers == null ? null : EmployeeResultView.ofList(underpaidManagers, Employee::getUnderpaymentAmount),
+                overpaidManagers == null ? null : EmployeeResultView.ofList(overpaidManagers, Employee::getOverpaymentAmount),
+                employeesWithLongReportingLines == null ? null
+                        : EmployeeResultView.ofList(employeesWithLongReportingLines, Employee::getExcessReportingLevels));
+    }
+    
+    /**
+     * Creates a successful analysis result backed by lazily evaluated views.
+     */
+    public static AnalysisResult success(OrganizationalSummary summary,
+                                       EmployeeResultView underpaidManagerView,
+                                       EmployeeResultView overpaidManagerView,
+                                       EmployeeResultView longReportingLineView) {
+        return new AnalysisResult(true, null, summary, underpaidManagerView,
+                                overpaidManagerView, longReportingLineView, List.of(), null);
+    }
+    
+    /**
+     * Creates a successful analysis result from a rule engine evaluation.
+     * The built-in rules also back the manager salary and reporting line views; a built-in rule
+     * left out of {@code app.analysis.rules.enabled} reports no findings.
+     */
+    public static AnalysisResult success(OrganizationalSummary summary, RuleEvaluationResult rules) {
+        AnalysisResult result = success(summary,
+                rules.getFindings(UnderpaidManagerRule.NAME),
+                rules.getFindings(OverpaidManagerRule.NAME),
+                rules.getFindings(LongReportingLineRule.NAME));
+        result.setRuleFindings(rules);
+        return result;
     }
     
     /**
      * Creates a failed analysis result with error message.
      */
     public static AnalysisResult failure(String errorMessage) {
-        return new AnalysisResult(false, errorMessage, null, null, null, null);
+        return new AnalysisResult(false, errorMessage, null, null, null, null, null, null);
     }
     
     /**
@@ -63,22 +98,74 @@ public class AnalysisResult {
     
     /**
      * Gets the list of underpaid managers.
+     * Materialises the underlying view; prefer {@link #getUnderpaidManagerView()} for counts and pages.
      */
     public List<Employee> getUnderpaidManagers() {
-        return underpaidManagers;
+        return underpaidManagerView == null ? null : underpaidManagerView.toList();
     }
     
     /**
      * Gets the list of overpaid managers.
+     * Materialises the underlying view; prefer {@link #getOverpaidManagerView()} for counts and pages.
      */
     public List<Employee> getOverpaidManagers() {
-        return overpaidManagers;
+        return overpaidManagerView == null ? null : overpaidManagerView.toList();
     }
     
     /**
      * Gets the list of employees with too long reporting lines.
+     * Materialises the underlying view; prefer {@link #getLongReportingLineView()} for counts and pages.
      */
     public List<Employee> getEmployeesWithLongReportingLines() {
-        return employeesWithLongReportingLines;
+        return longReportingLineView == null ? null : longReportingLineView.toList();
+    }
+    
+    /**
+     * Gets the lazily evaluated view of underpaid managers.
+     */
+    public EmployeeResultView getUnderpaidManagerView() {
+        return underpaidManagerView;
+    }
+    
+    /**
+     * Gets the lazily evaluated view of overpaid managers.
+     */
+    public EmployeeResultView getOverpaidManagerView() {
+        return overpaidManagerView;
+    }
+    
+    /**
+     * Gets the lazily evaluated view of employees with too long reporting lines.
+     */
+    public EmployeeResultView getLongReportingLineView() {
+        return longReportingLineView;
+    }
+    
+    /**
+     * Gets the employees paid far outside their peer group, most extreme first.
+     */
+    public List<SalaryAnomaly> getSalaryAnomalies() {
+        return salaryAnomalies;
+    }
+    
+    /**
+     * Gets the findings of every rule keyed by rule name, in evaluation order.
+     * Results not produced by the rule engine only report the built-in findings they carry.
+     */
+    public Map<String, EmployeeResultView> getFindingsByRule() {
+        if (ruleFindings != null) {
+            return ruleFindings.getFindings();
+        }
+        Map<String, EmployeeResultView> findings = new LinkedHashMap<>();
+        if (underpaidManagerView != null) {
+            findings.put(UnderpaidManagerRule.NAME, underpaidManagerView);
+        }
+        if (overpaidManagerView != null) {
+            findings.put(OverpaidManagerRule.NAME, overpaidManagerView);
+        }
+        if (longReportingLineView != null) {
+            findings.put(LongReportingLineRule.NAME, longReportingLineView);
+        }
+        return findings;
     }
 }
@@ -0,0 +1,25 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents hit, miss, load and eviction statistics of the tenant organization cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStatistics {
+
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long loadSuccessCount;
+    private long loadFailureCount;
+    private double averageLoadMillis;
+    private long evictionCount;
+    private long residentOrganizations;
+    private long residentBytes;
+    private long maxHeapBytes;
+}
@@ -0,0 +1,23 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Represents a loaded, indexed and analysed organization held in the tenant cache.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedOrganization {
+
+    private String tenant;
+    private String sourcePath;
+    private Instant sourceModifiedAt;
+    private OrganizationSnapshot snapshot;
+    private AnalysisResult analysisResult;
+    private long estimatedBytes;
+}
@@ -1,8 +1,10 @@
 package organisation.structure.exercise.core.model;
 
+import lombok.AccessLevel;
 import lombok.Data;
 import lombok.NoArgsConstructor;
-import lombok.AllArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -13,9 +15,12 @@ import java.util.List;
  */
 @Data
 @NoArgsConstructor
-@AllArgsConstructor
 public class Employee {
     
+    public static final double DEFAULT_UNDERPAID_THRESHOLD = 1.2;
+    public static final double DEFAULT_OVERPAID_THRESHOLD = 1.5;
+    public static final int DEFAULT_MAX_REPORTING_LEVELS = 4;
+    
     private String id;
     private String firstName;
     private String lastName;
@@ -24,6 +29,25 @@ public class Employee {
     private int reportingLevel;
     private List<Employee> directSubordinates = new ArrayList<>();
     
+    /**
+     * Full name rendered on first use and reset when a name part changes.
+     * Transient, so it is not part of equals and hashCode.
+     */
+    @Setter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient String fullName;
+    
+    public Employee(String id, String firstName, String lastName, double salary, String managerId,
+                    int reportingLevel, List<Employee> directSubordinates) {
+        this.id = id;
+        this.firstName = firstName;
+        this.lastName = lastName;
+        this.salary = salary;
+        this.managerId = managerId;
+        this.reportingLevel = reportingLevel;
+        this.directSubordinates = directSubordinates;
+    }
+    
     public Employee(String id, String firstName, String lastName, double salary, String managerId) {
         this.id = id;
         this.firstName = firstName;
@@ -35,10 +59,25 @@ public class Employee {
     }
     
     /**
-     * Returns the full name of the employee.
+     * Returns the full name of the employee. Rendered once and cached, so repeated log and report calls do not allocate.
      */
     public String getFullName() {
-        return firstName + " " + lastName;
+        String name = fullName;
+        if (name == null) {
+            name = firstName + " " + lastName;
+            fullName = name;
+        }
+        return name;
+    }
+    
+    public void setFirstName(String firstName) {
+        this.firstName = firstName;
+        this.fullName = null;
+    }
+    
+    public void setLastName(String lastName) {
+        this.lastName = lastName;
+        this.fullName = null;
     }
     
     /**
@@ -72,68 +111,112 @@ public class Employee {
     
     /**
      * Calculates the salary ratio compared to average subordinate salary.
+     * Salaries are compared in whole Rappen, by the same rule as every other salary classification.
      */
     public double getSalaryRatioToAverage() {
-        double avgSubordinateSalary = getAverageSubordinateSalary();
-        if (avgSubordinateSalary == 0.0) {
-            return 0.0;
+        long subordinateMinorUnits = 0;
+        for (Employee subordinate : directSubordinates) {
+            subordinateMinorUnits += SalaryStatistics.toMinorUnits(subordinate.getSalary());
         }
-        return salary / avgSubordinateSalary;
+        return SalaryStatistics.ratioToAverage(SalaryStatistics.toMinorUnits(salary), directSubordinates.size(),
+                subordinateMinorUnits);
     }
     
     /**
      * Checks if the employee is underpaid (earns less than 20% more than average subordinates).
      */
     public boolean isUnderpaid() {
+        return isUnderpaid(DEFAULT_UNDERPAID_THRESHOLD);
+    }
+    
+    /**
+     * Checks if the employee earns less than the given multiple of the average subordinate salary.
+     */
+    public boolean isUnderpaid(double threshold) {
         if (!hasSubordinates()) {
             return false;
         }
-        return getSalaryRatioToAverage() < 1.2;
+        return getSalaryRatioToAverage() < threshold;
     }
     
     /**
      * Checks if the employee is overpaid (earns more than 50% more than average subordinates).
      */
     public boolean isOverpaid() {
+        return isOverpaid(DEFAULT_OVERPAID_THRESHOLD);
+    }
+    
+    /**
+     * Checks if the employee earns more than the given multiple of the average subordinate salary.
+     */
+    public boolean isOverpaid(double threshold) {
         if (!hasSubordinates()) {
             return false;
         }
-        return getSalaryRatioToAverage() > 1.5;
+        return getSalaryRatioToAverage() > threshold;
     }
     
     /**
      * Calculates the amount by which the employee is underpaid.
      */
     public double getUnderpaymentAmount() {
-        if (!isUnderpaid()) {
+        return getUnderpaymentAmount(DEFAULT_UNDERPAID_THRESHOLD);
+    }
+    
+    /**
+     * Calculates the amount by which the employee is underpaid for the given threshold.
+     */
+    public double getUnderpaymentAmount(double threshold) {
+        if (!isUnderpaid(threshold)) {
             return 0.0;
         }
         double avgSubordinateSalary = getAverageSubordinateSalary();
-        return (avgSubordinateSalary * 1.2) - salary;
+        return (avgSubordinateSalary * threshold) - salary;
     }
     
     /**
      * Calculates the amount by which the employee is overpaid.
      */
     public double getOverpaymentAmount() {
-        if (!isOverpaid()) {
+        return getOverpaymentAmount(DEFAULT_OVERPAID_THRESHOLD);
+    }
+    
+    /**
+     * Calculates the amount by which the employee is overpaid for the given threshold.
+     */
+    public double getOverpaymentAmount(double threshold) {
+        if (!isOverpaid(threshold)) {
             return 0.0;
         }
         double avgSubordinateSalary = getAverageSubordinateSalary();
-        return salary - (avgSubordinateSalary * 1.5);
+        return salary - (avgSubordinateSalary * threshold);
     }
     
     /**
      * Checks if the employee has too long reporting line (more than 4 levels from CEO).
      */
     public boolean hasTooLongReportingLine() {
-        return reportingLevel > 4;
+        return hasTooLongReportingLine(DEFAULT_MAX_REPORTING_LEVELS);
+    }
+    
+    /**
+     * Checks if the employee is more than the given number of levels away from the CEO.
+     */
+    public boolean hasTooLongReportingLine(int maxReportingLevels) {
+        return reportingLevel > maxReportingLevels;
     }
     
     /**
      * Calculates the number of excess reporting levels.
      */
     public int getExcessReportingLevels() {
-        return Math.max(0, reportingLevel - 4);
+        return getExcessReportingLevels(DEFAULT_MAX_REPORTING_LEVELS);
+    }
+    
+    /**
+     * Calculates the number of reporting levels beyond the given limit.
+     */
+    public int getExcessReportingLevels(int maxReportingLevels) {
+        return Math.max(0, reportingLevel - maxReportingLevels);
     }
 }
@@ -0,0 +1,25 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+
+/**
+ * Immutable employee data as loaded from a source, without derived hierarchy state.
+ * Equal records are shared between historical snapshots instead of being copied.
+ */
+public record EmployeeRecord(String id, String firstName, String lastName, double salary, String managerId) {
+
+    /**
+     * Creates a record from the source fields of an employee.
+     */
+    public static EmployeeRecord of(@NonNull final Employee employee) {
+        return new EmployeeRecord(employee.getId(), employee.getFirstName(), employee.getLastName(),
+                employee.getSalary(), employee.getManagerId());
+    }
+
+    /**
+     * Creates a new mutable employee with the fields of this record and no hierarchy.
+     */
+    public Employee toEmployee() {
+        return new Employee(id, firstName, lastName, salary, managerId);
+    }
+}
@@ -0,0 +1,166 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.util.TopKUtil;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+/**
+ * Lazily evaluated view over the employees matching one analysis finding.
+ * Nothing is copied when the view is created: counts, pages and severity ordering
+ * are computed from the source list on demand, so callers only pay for what they consume.
+ * Every call re-evaluates the source, so counts and pages always agree with each other;
+ * only views over already materialised findings answer from their list.
+ */
+public class EmployeeResultView implements Iterable<Employee> {
+
+    private static final EmployeeResultView EMPTY =
+            new EmployeeResultView(Collections.emptyList(), employee -> false, employee -> 0.0, Collections.emptyList());
+
+    private final List<Employee> source;
+    private final Predicate<Employee> filter;
+    private final ToDoubleFunction<Employee> severity;
+
+    private final List<Employee> materialised;
+
+    private EmployeeResultView(List<Employee> source, Predicate<Employee> filter, ToDoubleFunction<Employee> severity,
+                               List<Employee> materialised) {
+        this.source = source;
+        this.filter = filter;
+        this.severity = severity;
+        this.materialised = materialised;
+    }
+
+    /**
+     * Creates a view over the employees of the source list that match the given filter.
+     *
+     * @param source   Employees to evaluate; the view reads this list, it does not copy it
+     * @param filter   Predicate selecting the employees that belong to the finding
+     * @param severity Severity of a finding, used for severity ordering (higher is worse)
+     * @return Lazily evaluated view
+     */
+    public static EmployeeResultView of(@NonNull final List<Employee> source,
+                                        @NonNull final Predicate<Employee> filter,
+                                        @NonNull final ToDoubleFunction<Employee> severity) {
+        return new EmployeeResultView(source, filter, severity, null);
+    }
+
+    /**
+     * Creates a view over an already materialised list of findings. The findings are copied,
+     * so the view does not change if the given list does.
+     */
+    public static EmployeeResultView ofList(@NonNull final List<Employee> findings,
+                                            @NonNull final ToDoubleFunction<Employee> severity) {
+        List<Employee> copy = List.copyOf(findings);
+        return new EmployeeResultView(copy, employee -> true, severity, copy);
+    }
+
+    /**
+     * Returns an empty view.
+     */
+    public static EmployeeResultView empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns the number of matching employees.
+     */
+    public int count() {
+        return materialised != null ? materialised.size() : (int) stream().count();
+    }
+
+    /**
+     * Checks if the view has no matching employees, stopping at the first match.
+     */
+    public boolean isEmpty() {
+        return materialised != null ? materialised.isEmpty() : stream().findAny().isEmpty();
+    }
+
+    /**
+     * Returns a lazy stream of the matching employees in source order.
+     */
+    public Stream<Employee> stream() {
+        return source.stream().filter(filter);
+    }
+
+    @Override
+    public Iterator<Employee> iterator() {
+        return stream().iterator();
+    }
+
+    /**
+     * Returns one page of matching employees in source order.
+     *
+     * @param pageIndex Zero-based page index
+     * @param pageSize  Maximum number of employees per page
+     * @return Employees on the requested page
+     */
+    public List<Employee> page(int pageIndex, int pageSize) {
+        validatePage(pageIndex, pageSize);
+        return stream()
+                .skip((long) pageIndex * pageSize)
+                .limit(pageSize)
+                .toList();
+    }
+
+    /**
+     * Returns one page of matching employees ordered by descending severity.
+     * Only the employees up to the end of the requested page are retained while scanning.
+     *
+     * @param pageIndex Zero-based page index
+     * @param pageSize  Maximum number of employees per page
+     * @return Employees on the requested page, most severe first
+     */
+    public List<Employee> pageBySeverity(int pageIndex, int pageSize) {
+        validatePage(pageIndex, pageSize);
+        long retained = (long) (pageIndex + 1) * pageSize;
+        if (retained > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Requested page is out of range: " + pageIndex);
+        }
+
+        List<Employee> ordered = stream().collect(TopKUtil.topK((int) retained, severity));
+        int from = Math.min(pageIndex * pageSize, ordered.size());
+        return List.copyOf(ordered.subList(from, ordered.size()));
+    }
+
+    /**
+     * Returns the K most severe matching employees, most severe first.
+     * Evaluated in parallel with one bounded heap per partition.
+     *
+     * @param k Maximum number of employees to return
+     * @return Most severe employees
+     */
+    public List<Employee> top(int k) {
+        return source.parallelStream()
+                .filter(filter)
+                .collect(TopKUtil.topK(k, severity));
+    }
+
+    /**
+     * Returns the severity of a finding for the given employee.
+     */
+    public double severityOf(@NonNull final Employee employee) {
+        return severity.applyAsDouble(employee);
+    }
+
+    /**
+     * Materialises all matching employees in source order.
+     */
+    public List<Employee> toList() {
+        return materialised != null ? materialised : stream().toList();
+    }
+
+    private static void validatePage(int pageIndex, int pageSize) {
+        if (pageIndex < 0) {
+            throw new IllegalArgumentException("Page index must not be negative: " + pageIndex);
+        }
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("Page size must be positive: " + pageSize);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package organisation.structure.exercise.core.model;
+
+import java.util.Locale;
+
+/**
+ * Output formats of a hierarchy export.
+ */
+public enum HierarchyExportFormat {
+
+    /**
+     * Nested JSON objects, each employee carrying its reports in a {@code reports} array.
+     */
+    JSON("application/json", "json"),
+
+    /**
+     * Graphviz digraph with one node per employee and one edge per reporting line.
+     */
+    DOT("text/vnd.graphviz", "dot"),
+
+    /**
+     * Plain text outline indented by two spaces per level below the exported root.
+     */
+    OUTLINE("text/plain", "txt");
+
+    private final String contentType;
+    private final String fileExtension;
+
+    HierarchyExportFormat(String contentType, String fileExtension) {
+        this.contentType = contentType;
+        this.fileExtension = fileExtension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Resolves a format by its case-insensitive name.
+     *
+     * @throws IllegalArgumentException if the name is not a known format
+     */
+    public static HierarchyExportFormat of(String name) {
+        if (name != null) {
+            for (HierarchyExportFormat format : values()) {
+                if (format.name().equals(name.trim().toUpperCase(Locale.ROOT))) {
+                    return format;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format: " + name + " (expected json, dot or outline)");
+    }
+}
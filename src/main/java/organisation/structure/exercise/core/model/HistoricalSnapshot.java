@@ -0,0 +1,82 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.collection.PersistentHashMap;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One version of the organization in the historical snapshot store.
+ * Employees are held in a persistent map, so versions share every record and trie node
+ * that did not change between them.
+ */
+public final class HistoricalSnapshot {
+
+    private final LocalDate asOf;
+    private final PersistentHashMap<String, EmployeeRecord> employees;
+    private final int changedRecords;
+    private final int removedRecords;
+
+    public HistoricalSnapshot(@NonNull final LocalDate asOf,
+                              @NonNull final PersistentHashMap<String, EmployeeRecord> employees,
+                              int changedRecords,
+                              int removedRecords) {
+        this.asOf = asOf;
+        this.employees = employees;
+        this.changedRecords = changedRecords;
+        this.removedRecords = removedRecords;
+    }
+
+    /**
+     * Gets the date this version describes.
+     */
+    public LocalDate getAsOf() {
+        return asOf;
+    }
+
+    /**
+     * Gets the persistent employee map of this version, keyed by employee ID.
+     */
+    public PersistentHashMap<String, EmployeeRecord> getEmployees() {
+        return employees;
+    }
+
+    /**
+     * Gets the employee record with the given ID, or null if there is none in this version.
+     */
+    public EmployeeRecord getEmployee(String employeeId) {
+        return employees.get(employeeId);
+    }
+
+    /**
+     * Gets the number of employees in this version.
+     */
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Gets the number of records added or changed relative to the version this one was derived from.
+     */
+    public int getChangedRecords() {
+        return changedRecords;
+    }
+
+    /**
+     * Gets the number of records removed relative to the version this one was derived from.
+     */
+    public int getRemovedRecords() {
+        return removedRecords;
+    }
+
+    /**
+     * Materialises this version as new mutable employees, ready for the analyzer API.
+     */
+    public List<Employee> toEmployees() {
+        List<Employee> result = new ArrayList<>(employees.size());
+        employees.forEach((id, employee) -> result.add(employee.toEmployee()));
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one difference between two versions of the organization, as reported by the diff engine.
+ * Instances are created through the static factory methods for each change type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationChange {
+
+    /**
+     * Kinds of differences between two organization versions.
+     */
+    public enum ChangeType {
+        HIRE,
+        DEPARTURE,
+        SALARY_CHANGE,
+        MANAGER_MOVE,
+        STATUS_CHANGE
+    }
+
+    /**
+     * Analysis findings whose status is compared between versions.
+     */
+    public enum Finding {
+        UNDERPAID,
+        OVERPAID,
+        LONG_REPORTING_LINE
+    }
+
+    private ChangeType type;
+    private String employeeId;
+    private String employeeName;
+    private Finding finding;
+    private String oldValue;
+    private String newValue;
+
+    /**
+     * Creates a change for an employee present only in the newer version.
+     */
+    public static OrganizationChange hire(Employee employee) {
+        return new OrganizationChange(ChangeType.HIRE, employee.getId(), employee.getFullName(), null,
+                null, employee.getManagerId());
+    }
+
+    /**
+     * Creates a change for an employee present only in the older version.
+     */
+    public static OrganizationChange departure(Employee employee) {
+        return new OrganizationChange(ChangeType.DEPARTURE, employee.getId(), employee.getFullName(), null,
+                employee.getManagerId(), null);
+    }
+
+    /**
+     * Creates a change for an employee whose salary differs between versions.
+     */
+    public static OrganizationChange salaryChange(Employee employee, double oldSalary, double newSalary) {
+        return new OrganizationChange(ChangeType.SALARY_CHANGE, employee.getId(), employee.getFullName(), null,
+                String.valueOf(oldSalary), String.valueOf(newSalary));
+    }
+
+    /**
+     * Creates a change for an employee who reports to a different manager in the newer version.
+     */
+    public static OrganizationChange managerMove(Employee employee, String oldManagerId, String newManagerId) {
+        return new OrganizationChange(ChangeType.MANAGER_MOVE, employee.getId(), employee.getFullName(), null,
+                oldManagerId, newManagerId);
+    }
+
+    /**
+     * Creates a change for an employee who gained or lost an analysis finding.
+     */
+    public static OrganizationChange statusChange(Employee employee, Finding finding, boolean flaggedBefore, boolean flaggedAfter) {
+        return new OrganizationChange(ChangeType.STATUS_CHANGE, employee.getId(), employee.getFullName(), finding,
+                String.valueOf(flaggedBefore), String.valueOf(flaggedAfter));
+    }
+}
@@ -0,0 +1,46 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents the totals of an organization diff. The individual changes are streamed to a sink.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationDiffSummary {
+
+    private boolean success;
+    private String errorMessage;
+    private int employeesBefore;
+    private int employeesAfter;
+    private int hires;
+    private int departures;
+    private int salaryChanges;
+    private int managerMoves;
+    private int statusChanges;
+    private long salaryBudgetDeltaMinorUnits;
+
+    /**
+     * Creates a failed diff summary with error message.
+     */
+    public static OrganizationDiffSummary failure(String errorMessage) {
+        return new OrganizationDiffSummary(false, errorMessage, 0, 0, 0, 0, 0, 0, 0, 0L);
+    }
+
+    /**
+     * Gets the salary budget change in francs, summed exactly in minor units like the summary totals.
+     */
+    public double getSalaryBudgetDelta() {
+        return (double) salaryBudgetDeltaMinorUnits / SalaryStatistics.MINOR_UNITS_PER_FRANC;
+    }
+
+    /**
+     * Gets the total number of reported changes.
+     */
+    public int getTotalChanges() {
+        return hires + departures + salaryChanges + managerMoves + statusChanges;
+    }
+}
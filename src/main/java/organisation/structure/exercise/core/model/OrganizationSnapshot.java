@@ -0,0 +1,164 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Immutable, versioned point-in-time view of an organization.
+ * The snapshot copies the employees it is built from, links the copies into a hierarchy,
+ * calculates reporting levels and then freezes them, so readers can share it across threads
+ * without locking while the next version is built from fresh data. The employees are held in a frozen
+ * {@link IndexedEmployeeList}, so every analysis stage of the snapshot shares its one ID index.
+ */
+public final class OrganizationSnapshot {
+
+    // Employee object, subordinate list, source list slot and ID index entry
+    private static final int EMPLOYEE_OVERHEAD_BYTES = 176;
+    // String object plus backing array header, assuming compact Latin-1 strings
+    private static final int STRING_OVERHEAD_BYTES = 40;
+    private static final int REFERENCE_BYTES = 4;
+
+    private final long version;
+    private final Instant createdAt;
+    private final IndexedEmployeeList employees;
+    private final Employee ceo;
+
+    private volatile long estimatedBytes = -1;
+
+    private OrganizationSnapshot(long version, IndexedEmployeeList employees, Employee ceo) {
+        this.version = version;
+        this.createdAt = Instant.now();
+        this.employees = employees;
+        this.ceo = ceo;
+    }
+
+    /**
+     * Builds a snapshot from employee records. The source employees are only read; their
+     * subordinate lists and reporting levels are ignored and left untouched.
+     *
+     * @param version Version number of the snapshot
+     * @param source  Employee records as loaded from a data source
+     * @return Frozen snapshot with established hierarchy and reporting levels
+     * @throws IllegalArgumentException if the records contain missing or duplicate IDs or no CEO
+     */
+    public static OrganizationSnapshot of(long version, @NonNull final List<Employee> source) {
+        IndexedEmployeeList copies = new IndexedEmployeeList(source.size());
+        SnapshotEmployee foundCeo = null;
+
+        for (Employee employee : source) {
+            SnapshotEmployee copy = new SnapshotEmployee(employee);
+            if (copy.getId() == null) {
+                throw new IllegalArgumentException("Employee without ID in snapshot version " + version);
+            }
+            copies.add(copy);
+            if (copies.hasDuplicateIds()) {
+                throw new IllegalArgumentException("Duplicate employee ID in snapshot: " + copy.getId());
+            }
+            if (foundCeo == null && copy.isCEO()) {
+                foundCeo = copy;
+            }
+        }
+        if (foundCeo == null) {
+            throw new IllegalArgumentException("No CEO found for snapshot version " + version);
+        }
+
+        for (int position = 0; position < copies.size(); position++) {
+            int managerPosition = copies.managerPositionOf(position);
+            if (managerPosition >= 0) {
+                copies.get(managerPosition).getDirectSubordinates().add(copies.get(position));
+            }
+        }
+
+        // Breadth-first from the CEO; employees not reachable from the CEO keep level 0
+        Deque<Employee> queue = new ArrayDeque<>();
+        queue.add(foundCeo);
+        while (!queue.isEmpty()) {
+            Employee manager = queue.poll();
+            for (Employee subordinate : manager.getDirectSubordinates()) {
+                if (subordinate.getReportingLevel() == 0 && subordinate != foundCeo) {
+                    subordinate.setReportingLevel(manager.getReportingLevel() + 1);
+                    queue.add(subordinate);
+                }
+            }
+        }
+
+        for (Employee copy : copies) {
+            ((SnapshotEmployee) copy).freeze();
+        }
+
+        return new OrganizationSnapshot(version, copies.freeze(), foundCeo);
+    }
+
+    /**
+     * Gets the version number of this snapshot.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Gets the time at which this snapshot was built.
+     */
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Gets all employees of the snapshot in source order, indexed by ID. The list and the employees are read-only.
+     */
+    public IndexedEmployeeList getEmployees() {
+        return employees;
+    }
+
+    /**
+     * Gets the employee with the given ID, or null if there is none.
+     */
+    public Employee getEmployee(String employeeId) {
+        return employees.findById(employeeId);
+    }
+
+    /**
+     * Gets the CEO of the snapshot organization.
+     */
+    public Employee getCeo() {
+        return ceo;
+    }
+
+    /**
+     * Gets the number of employees in the snapshot.
+     */
+    public int size() {
+        return employees.size();
+    }
+
+    /**
+     * Estimates the heap footprint of the snapshot in bytes. Computed on first call and cached.
+     * Counts the employee objects, their strings, subordinate lists and the ID index; it is an
+     * approximation for cache budgeting, not an exact measurement.
+     */
+    public long estimateFootprintBytes() {
+        long cached = estimatedBytes;
+        if (cached < 0) {
+            cached = 0;
+            for (Employee employee : employees) {
+                cached += EMPLOYEE_OVERHEAD_BYTES
+                        + stringBytes(employee.getId())
+                        + stringBytes(employee.getFirstName())
+                        + stringBytes(employee.getLastName())
+                        + stringBytes(employee.getManagerId())
+                        + (long) REFERENCE_BYTES * employee.getDirectSubordinates().size();
+            }
+            estimatedBytes = cached;
+        }
+        return cached;
+    }
+
+    private static long stringBytes(String value) {
+        return value == null ? 0 : STRING_OVERHEAD_BYTES + value.length();
+    }
+}
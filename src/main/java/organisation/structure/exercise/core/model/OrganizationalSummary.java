@@ -3,6 +3,10 @@ package organisation.structure.exercise.core.model;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import lombok.ToString;
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+
+import java.math.BigDecimal;
 
 /**
  * Represents a summary of the organizational structure.
@@ -20,6 +24,16 @@ public class OrganizationalSummary {
     private double totalSalaryBudget;
     private double averageSalary;
     private int maxReportingLevel;
+    private long totalSalaryBudgetMinorUnits;
+    private SpanOfControlAnalysis spanOfControl;
+    private SalaryPercentiles salaryPercentiles;
+    
+    /**
+     * Salaries laid out once per analysis and reused by later steps such as threshold sweeps.
+     * Transient, so it is not part of equals and hashCode; null when the summary was not built from a hierarchy.
+     */
+    @ToString.Exclude
+    private transient HierarchySalaryColumn salaryColumn;
     
     /**
      * Creates an organizational summary with calculated values.
@@ -77,6 +91,13 @@ public class OrganizationalSummary {
         return averageSalary;
     }
     
+    /**
+     * Gets the exact total salary budget in francs.
+     */
+    public BigDecimal getExactTotalSalaryBudget() {
+        return BigDecimal.valueOf(totalSalaryBudgetMinorUnits, 2);
+    }
+    
     /**
      * Gets the maximum reporting level in the organization.
      */
@@ -0,0 +1,63 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents recommended subtree re-parentings that bring every reporting line within the configured limit.
+ * Moves are ranked by the number of too long reporting lines they fix; each move carries the state of the
+ * organization after it and every higher-ranked move have been applied.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RestructuringPlan {
+
+    private int maxReportingLevels;
+    private int longReportingLines;
+    private List<Move> moves;
+
+    /**
+     * Gets the number of too long reporting lines left after applying all moves.
+     */
+    public int getRemainingLongReportingLines() {
+        return moves.isEmpty() ? longReportingLines : moves.get(moves.size() - 1).getRemainingLongReportingLines();
+    }
+
+    /**
+     * Gets the number of employees whose manager chain changes when all moves are applied.
+     */
+    public int getEmployeesMoved() {
+        return moves.stream().mapToInt(Move::getMovedEmployees).sum();
+    }
+
+    /**
+     * One subtree moved, with its root, from its current manager to a manager higher up the same reporting line.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Move {
+
+        private Employee employee;
+        private Employee fromManager;
+        private Employee toManager;
+        private int currentLevel;
+        private int newLevel;
+        private int movedEmployees;
+        private int employeesFixed;
+        private int remainingLongReportingLines;
+        private int salaryFindingsIntroduced;
+        private int salaryFindingsResolved;
+
+        /**
+         * Gets the number of levels the moved subtree rises.
+         */
+        public int getLevelsRaised() {
+            return currentLevel - newLevel;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Represents the result of a rule engine evaluation.
+ * Contains the findings of every evaluated rule keyed by rule name.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RuleEvaluationResult {
+
+    private int evaluatedEmployees;
+    private Map<String, EmployeeResultView> findings;
+
+    /**
+     * Gets the findings of a single rule, or an empty view if the rule was not evaluated.
+     */
+    public EmployeeResultView getFindings(String ruleName) {
+        return findings.getOrDefault(ruleName, EmployeeResultView.empty());
+    }
+}
@@ -0,0 +1,30 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents an employee whose salary lies far outside their peer group.
+ * Peers are the employees on the same reporting level within the same top-level branch.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryAnomaly {
+
+    private Employee employee;
+    private int level;
+    private String branchId;
+    private long peerGroupSize;
+    private double peerMeanSalary;
+    private double peerStandardDeviation;
+    private double zScore;
+
+    /**
+     * Checks if the employee is paid below their peers.
+     */
+    public boolean isBelowPeers() {
+        return zScore < 0;
+    }
+}
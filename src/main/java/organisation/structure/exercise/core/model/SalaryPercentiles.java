@@ -0,0 +1,52 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import organisation.structure.exercise.core.collection.QuantileSketch;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Represents salary quantile sketches per reporting level and per configured subtree.
+ * Every group keeps a constant-size sketch, so percentiles are answered without storing or sorting the group.
+ */
+@Data
+@NoArgsConstructor
+public class SalaryPercentiles {
+
+    private Map<Integer, QuantileSketch> byLevel = new TreeMap<>();
+    private Map<String, QuantileSketch> bySubtree = new TreeMap<>();
+
+    /**
+     * Gets the estimated salary at the given quantile for one reporting level, or NaN if the level is empty.
+     */
+    public double levelPercentile(int level, double quantile) {
+        QuantileSketch sketch = byLevel.get(level);
+        return sketch == null ? Double.NaN : sketch.quantile(quantile);
+    }
+
+    /**
+     * Gets the estimated salary at the given quantile for the subtree of a configured manager,
+     * or NaN if the subtree is not sketched.
+     */
+    public double subtreePercentile(String managerId, double quantile) {
+        QuantileSketch sketch = bySubtree.get(managerId);
+        return sketch == null ? Double.NaN : sketch.quantile(quantile);
+    }
+
+    /**
+     * Merges the sketches of another organization part, such as another file, into this one group by group.
+     *
+     * @return These percentiles
+     */
+    public SalaryPercentiles merge(SalaryPercentiles other) {
+        if (other != null) {
+            other.byLevel.forEach((level, sketch) ->
+                    byLevel.computeIfAbsent(level, key -> new QuantileSketch(sketch.getK())).merge(sketch));
+            other.bySubtree.forEach((managerId, sketch) ->
+                    bySubtree.computeIfAbsent(managerId, key -> new QuantileSketch(sketch.getK())).merge(sketch));
+        }
+        return this;
+    }
+}
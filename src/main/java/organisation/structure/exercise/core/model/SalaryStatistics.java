@@ -0,0 +1,83 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Represents count, sum, minimum and maximum of a set of salaries in fixed-point minor units (Rappen).
+ * Sums are exact; amounts in francs are derived on request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalaryStatistics {
+
+    public static final int MINOR_UNITS_PER_FRANC = 100;
+
+    private int count;
+    private long sumMinorUnits;
+    private long minMinorUnits;
+    private long maxMinorUnits;
+
+    /**
+     * Converts a salary in francs to minor units, rounding to the nearest Rappen.
+     */
+    public static long toMinorUnits(double salary) {
+        return Math.round(salary * MINOR_UNITS_PER_FRANC);
+    }
+
+    /**
+     * Computes the ratio of a salary to the average of a set of salaries, all in minor units,
+     * without rounding the average first. Every underpaid and overpaid classification uses this rule.
+     *
+     * @param salaryMinorUnits Salary to compare
+     * @param count            Number of salaries averaged
+     * @param sumMinorUnits    Sum of the salaries averaged
+     * @return Ratio to the average, or 0 if the sum is 0
+     */
+    public static double ratioToAverage(long salaryMinorUnits, int count, long sumMinorUnits) {
+        if (sumMinorUnits == 0) {
+            return 0.0;
+        }
+        // salary / (sum / count), exact in the numerator for any realistic payroll
+        return (double) salaryMinorUnits * count / sumMinorUnits;
+    }
+
+    /**
+     * Gets the exact total in francs.
+     */
+    public BigDecimal getTotal() {
+        return BigDecimal.valueOf(sumMinorUnits, 2);
+    }
+
+    /**
+     * Gets the total in francs as the nearest double.
+     */
+    public double getSum() {
+        return (double) sumMinorUnits / MINOR_UNITS_PER_FRANC;
+    }
+
+    /**
+     * Gets the minimum salary in francs, or 0 if there are no salaries.
+     */
+    public double getMin() {
+        return count == 0 ? 0.0 : (double) minMinorUnits / MINOR_UNITS_PER_FRANC;
+    }
+
+    /**
+     * Gets the maximum salary in francs, or 0 if there are no salaries.
+     */
+    public double getMax() {
+        return count == 0 ? 0.0 : (double) maxMinorUnits / MINOR_UNITS_PER_FRANC;
+    }
+
+    /**
+     * Gets the average salary in francs, or 0 if there are no salaries.
+     */
+    public double getAverage() {
+        return count == 0 ? 0.0 : (double) sumMinorUnits / count / MINOR_UNITS_PER_FRANC;
+    }
+}
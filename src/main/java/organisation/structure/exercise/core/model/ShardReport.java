@@ -0,0 +1,30 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents the outcome of loading one shard (one CSV file) of a sharded organization.
+ * Errors listed here concern the shard on its own; errors that span shards are reported on the organization.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardReport {
+
+    private String filePath;
+    private int employees;
+    private int outgoingReferences;
+    private List<String> errors = new ArrayList<>();
+
+    /**
+     * Checks if the shard loaded without errors.
+     */
+    public boolean isSuccess() {
+        return errors.isEmpty();
+    }
+}
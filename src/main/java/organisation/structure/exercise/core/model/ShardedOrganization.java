@@ -0,0 +1,38 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Represents one organization assembled from several CSV shards.
+ * Shard-level errors are kept per shard; cross-shard errors come from the global merge
+ * (IDs used in more than one shard, manager IDs no shard defines, CEO count).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ShardedOrganization {
+
+    private List<Employee> employees = new ArrayList<>();
+    private List<ShardReport> shards = new ArrayList<>();
+    private List<String> crossShardErrors = new ArrayList<>();
+    private int crossShardReferences;
+
+    /**
+     * Checks if every shard loaded and the merge found no cross-shard errors.
+     */
+    public boolean isSuccess() {
+        return crossShardErrors.isEmpty() && shards.stream().allMatch(ShardReport::isSuccess);
+    }
+
+    /**
+     * Gets the number of shard-level errors over all shards.
+     */
+    public int getShardErrorCount() {
+        return shards.stream().mapToInt(shard -> shard.getErrors().size()).sum();
+    }
+}
@@ -0,0 +1,61 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Represents one hypothetical change to the organization used by what-if simulations.
+ * Instances are created through the static factory methods for each change type.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulatedChange {
+
+    /**
+     * Supported kinds of hypothetical changes.
+     */
+    public enum ChangeType {
+        SALARY_ADJUSTMENT,
+        MANAGER_MOVE,
+        NEW_HIRE,
+        REMOVAL
+    }
+
+    private ChangeType type;
+    private String employeeId;
+    private String firstName;
+    private String lastName;
+    private double salary;
+    private String managerId;
+
+    /**
+     * Creates a change setting a new salary for an existing employee.
+     */
+    public static SimulatedChange salaryAdjustment(String employeeId, double newSalary) {
+        return new SimulatedChange(ChangeType.SALARY_ADJUSTMENT, employeeId, null, null, newSalary, null);
+    }
+
+    /**
+     * Creates a change moving an existing employee, with their subtree, under a new manager.
+     */
+    public static SimulatedChange managerMove(String employeeId, String newManagerId) {
+        return new SimulatedChange(ChangeType.MANAGER_MOVE, employeeId, null, null, 0.0, newManagerId);
+    }
+
+    /**
+     * Creates a change adding a new employee under an existing manager.
+     */
+    public static SimulatedChange newHire(String employeeId, String firstName, String lastName,
+                                          double salary, String managerId) {
+        return new SimulatedChange(ChangeType.NEW_HIRE, employeeId, firstName, lastName, salary, managerId);
+    }
+
+    /**
+     * Creates a change removing an existing employee. Their direct reports move to the removed employee's manager.
+     */
+    public static SimulatedChange removal(String employeeId) {
+        return new SimulatedChange(ChangeType.REMOVAL, employeeId, null, null, 0.0, null);
+    }
+}
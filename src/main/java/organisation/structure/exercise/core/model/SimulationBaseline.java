@@ -0,0 +1,73 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Read-only baseline for what-if simulations.
+ * Indexes an analysed organization by employee ID once; simulations overlay their changes
+ * on top of it and never copy or modify the baseline employees.
+ */
+public class SimulationBaseline {
+
+    private final Map<String, Employee> employeesById;
+    private final Employee ceo;
+    private final double totalSalaryBudget;
+
+    /**
+     * Creates a baseline from employees with established hierarchy and calculated reporting levels.
+     */
+    public SimulationBaseline(@NonNull final List<Employee> employees) {
+        Map<String, Employee> index = new HashMap<>(employees.size() * 4 / 3 + 1);
+        Employee foundCeo = null;
+        double budget = 0.0;
+        for (Employee employee : employees) {
+            index.put(employee.getId(), employee);
+            budget += employee.getSalary();
+            if (foundCeo == null && employee.isCEO()) {
+                foundCeo = employee;
+            }
+        }
+        this.employeesById = index;
+        this.ceo = foundCeo;
+        this.totalSalaryBudget = budget;
+    }
+
+    /**
+     * Gets the baseline employee with the given ID, or null if there is none.
+     */
+    public Employee getEmployee(String employeeId) {
+        return employeesById.get(employeeId);
+    }
+
+    /**
+     * Checks if the baseline contains an employee with the given ID.
+     */
+    public boolean contains(String employeeId) {
+        return employeesById.containsKey(employeeId);
+    }
+
+    /**
+     * Gets the CEO of the baseline organization.
+     */
+    public Employee getCeo() {
+        return ceo;
+    }
+
+    /**
+     * Gets the number of employees in the baseline.
+     */
+    public int size() {
+        return employeesById.size();
+    }
+
+    /**
+     * Gets the baseline total salary budget.
+     */
+    public double getTotalSalaryBudget() {
+        return totalSalaryBudget;
+    }
+}
@@ -0,0 +1,38 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents the analysis delta produced by a what-if simulation.
+ * Lists employee IDs whose findings appear or disappear compared to the baseline.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SimulationResult {
+
+    private boolean success;
+    private String errorMessage;
+    private int headcountDelta;
+    private double salaryBudgetDelta;
+    private int recomputedManagers;
+    private int recomputedReportingLevels;
+    private List<String> newlyUnderpaidManagers;
+    private List<String> resolvedUnderpaidManagers;
+    private List<String> newlyOverpaidManagers;
+    private List<String> resolvedOverpaidManagers;
+    private List<String> newLongReportingLines;
+    private List<String> resolvedLongReportingLines;
+
+    /**
+     * Creates a failed simulation result with error message.
+     */
+    public static SimulationResult failure(String errorMessage) {
+        return new SimulationResult(false, errorMessage, 0, 0.0, 0, 0,
+                List.of(), List.of(), List.of(), List.of(), List.of(), List.of());
+    }
+}
@@ -0,0 +1,70 @@
+package organisation.structure.exercise.core.model;
+
+import java.util.List;
+
+/**
+ * Employee owned by an {@link OrganizationSnapshot}.
+ * Hierarchy and reporting level are filled in while the snapshot is built; after that the
+ * employee is frozen, its subordinate list is unmodifiable and every setter is rejected.
+ */
+final class SnapshotEmployee extends Employee {
+
+    private boolean frozen;
+
+    SnapshotEmployee(Employee source) {
+        super(source.getId(), source.getFirstName(), source.getLastName(), source.getSalary(), source.getManagerId());
+    }
+
+    void freeze() {
+        super.setDirectSubordinates(List.copyOf(getDirectSubordinates()));
+        frozen = true;
+    }
+
+    @Override
+    public void setId(String id) {
+        requireMutable();
+        super.setId(id);
+    }
+
+    @Override
+    public void setFirstName(String firstName) {
+        requireMutable();
+        super.setFirstName(firstName);
+    }
+
+    @Override
+    public void setLastName(String lastName) {
+        requireMutable();
+        super.setLastName(lastName);
+    }
+
+    @Override
+    public void setSalary(double salary) {
+        requireMutable();
+        super.setSalary(salary);
+    }
+
+    @Override
+    public void setManagerId(String managerId) {
+        requireMutable();
+        super.setManagerId(managerId);
+    }
+
+    @Override
+    public void setReportingLevel(int reportingLevel) {
+        requireMutable();
+        super.setReportingLevel(reportingLevel);
+    }
+
+    @Override
+    public void setDirectSubordinates(List<Employee> directSubordinates) {
+        requireMutable();
+        super.setDirectSubordinates(directSubordinates);
+    }
+
+    private void requireMutable() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Snapshot employees are immutable: " + getId());
+        }
+    }
+}
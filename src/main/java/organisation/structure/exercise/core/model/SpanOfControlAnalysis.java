@@ -0,0 +1,58 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Represents span-of-control and level distribution metrics of the organization:
+ * each manager's fan-out and headcount, the level histogram and the salary band of every level.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SpanOfControlAnalysis {
+
+    private int managers;
+    private int maxFanOut;
+    private double averageFanOut;
+    private List<LevelBand> levels;
+    private List<ManagerSpan> managerSpans;
+
+    /**
+     * Headcount and salary band of one reporting level.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LevelBand {
+
+        private int level;
+        private int headcount;
+        private int managers;
+        private SalaryStatistics salaries;
+    }
+
+    /**
+     * Fan-out and headcount of one manager.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ManagerSpan {
+
+        private String managerId;
+        private int level;
+        private int directReports;
+        private int totalHeadcount;
+
+        /**
+         * Gets the number of employees reporting to the manager through other managers.
+         */
+        public int getIndirectReports() {
+            return totalHeadcount - directReports;
+        }
+    }
+}
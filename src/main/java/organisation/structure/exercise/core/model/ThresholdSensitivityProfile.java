@@ -0,0 +1,144 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.NonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Sorted salary ratios and reporting levels of an organization.
+ * Built once per analysed organization; each threshold query is then answered by binary search
+ * in O(log n) instead of rerunning the analysis for every candidate threshold.
+ */
+public class ThresholdSensitivityProfile {
+
+    private final double[] sortedSalaryRatios;
+    private final int[] sortedReportingLevels;
+
+    /**
+     * Creates a profile from already sorted arrays. The arrays are owned by the profile afterwards.
+     *
+     * @param sortedSalaryRatios    Ascending salary ratios of all managers to their direct reports' average
+     * @param sortedReportingLevels Ascending reporting levels of all employees
+     */
+    public ThresholdSensitivityProfile(@NonNull final double[] sortedSalaryRatios, @NonNull final int[] sortedReportingLevels) {
+        this.sortedSalaryRatios = sortedSalaryRatios;
+        this.sortedReportingLevels = sortedReportingLevels;
+    }
+
+    /**
+     * Gets the number of managers in the profile.
+     */
+    public int getManagerCount() {
+        return sortedSalaryRatios.length;
+    }
+
+    /**
+     * Gets the number of employees in the profile.
+     */
+    public int getEmployeeCount() {
+        return sortedReportingLevels.length;
+    }
+
+    /**
+     * Counts managers that would be flagged as underpaid (salary ratio below the threshold).
+     */
+    public int countUnderpaid(double threshold) {
+        return lowerBound(sortedSalaryRatios, threshold);
+    }
+
+    /**
+     * Counts managers that would be flagged as overpaid (salary ratio above the threshold).
+     */
+    public int countOverpaid(double threshold) {
+        return sortedSalaryRatios.length - upperBound(sortedSalaryRatios, threshold);
+    }
+
+    /**
+     * Counts employees that would have a too long reporting line (level above the limit).
+     */
+    public int countLongReportingLines(int maxReportingLevels) {
+        return sortedReportingLevels.length - upperBound(sortedReportingLevels, maxReportingLevels);
+    }
+
+    /**
+     * Answers flagged counts for every candidate threshold.
+     *
+     * @param underpaidThresholds Candidate underpaid thresholds
+     * @param overpaidThresholds  Candidate overpaid thresholds
+     * @param maxReportingLevels  Candidate reporting level limits
+     * @return Flagged counts per candidate, in the order given
+     */
+    public ThresholdSweepResult sweep(@NonNull final double[] underpaidThresholds,
+                                      @NonNull final double[] overpaidThresholds,
+                                      @NonNull final int[] maxReportingLevels) {
+        Map<Double, Integer> underpaidCounts = new LinkedHashMap<>();
+        for (double threshold : underpaidThresholds) {
+            underpaidCounts.put(threshold, countUnderpaid(threshold));
+        }
+
+        Map<Double, Integer> overpaidCounts = new LinkedHashMap<>();
+        for (double threshold : overpaidThresholds) {
+            overpaidCounts.put(threshold, countOverpaid(threshold));
+        }
+
+        Map<Integer, Integer> longReportingLineCounts = new LinkedHashMap<>();
+        for (int limit : maxReportingLevels) {
+            longReportingLineCounts.put(limit, countLongReportingLines(limit));
+        }
+
+        return new ThresholdSweepResult(getManagerCount(), getEmployeeCount(),
+                underpaidCounts, overpaidCounts, longReportingLineCounts);
+    }
+
+    /**
+     * Returns the index of the first value not less than the key.
+     */
+    private static int lowerBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] < key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value greater than the key.
+     */
+    private static int upperBound(double[] values, double key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first value greater than the key.
+     */
+    private static int upperBound(int[] values, int key) {
+        int low = 0;
+        int high = values.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (values[mid] <= key) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
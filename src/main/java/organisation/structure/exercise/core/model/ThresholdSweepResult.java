@@ -0,0 +1,23 @@
+package organisation.structure.exercise.core.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Represents the result of a threshold sensitivity sweep.
+ * Maps each candidate threshold to the number of employees it would flag.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ThresholdSweepResult {
+
+    private int managers;
+    private int totalEmployees;
+    private Map<Double, Integer> underpaidCounts;
+    private Map<Double, Integer> overpaidCounts;
+    private Map<Integer, Integer> longReportingLineCounts;
+}
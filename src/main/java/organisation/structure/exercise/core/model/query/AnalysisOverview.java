@@ -0,0 +1,60 @@
+package organisation.structure.exercise.core.model.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationalSummary;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Serialisable overview of an analysed organization snapshot.
+ * Contains the summary metrics, finding counts and the most severe findings.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AnalysisOverview {
+
+    private EmployeeInfo ceo;
+    private int totalEmployees;
+    private int managers;
+    private int individualContributors;
+    private double totalSalaryBudget;
+    private double averageSalary;
+    private int maxReportingLevel;
+    private int underpaidManagerCount;
+    private int overpaidManagerCount;
+    private int longReportingLineCount;
+    private List<EmployeeInfo> topUnderpaidManagers;
+    private List<EmployeeInfo> topOverpaidManagers;
+    private List<EmployeeInfo> topLongReportingLines;
+
+    /**
+     * Creates the overview of a successful analysis result.
+     *
+     * @param result      Analysis result
+     * @param topFindings Number of most severe findings per category
+     * @param toInfo      Conversion of employees to their serialisable view
+     */
+    public static AnalysisOverview of(AnalysisResult result, int topFindings, Function<Employee, EmployeeInfo> toInfo) {
+        OrganizationalSummary summary = result.getOrganizationalSummary();
+        return new AnalysisOverview(
+                toInfo.apply(summary.getCeo()),
+                summary.getTotalEmployees(),
+                summary.getManagers(),
+                summary.getIndividualContributors(),
+                summary.getTotalSalaryBudget(),
+                summary.getAverageSalary(),
+                summary.getMaxReportingLevel(),
+                result.getUnderpaidManagerView().count(),
+                result.getOverpaidManagerView().count(),
+                result.getLongReportingLineView().count(),
+                result.getUnderpaidManagerView().top(topFindings).stream().map(toInfo).toList(),
+                result.getOverpaidManagerView().top(topFindings).stream().map(toInfo).toList(),
+                result.getLongReportingLineView().top(topFindings).stream().map(toInfo).toList());
+    }
+}
@@ -0,0 +1,47 @@
+package organisation.structure.exercise.core.model.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import organisation.structure.exercise.core.model.Employee;
+
+/**
+ * Flat, serialisable view of an employee and their analysis status.
+ * Used by query responses instead of {@link Employee}, whose subordinate links span the whole subtree.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeInfo {
+
+    private String id;
+    private String fullName;
+    private double salary;
+    private String managerId;
+    private int reportingLevel;
+    private int directReports;
+    private boolean underpaid;
+    private boolean overpaid;
+    private double underpaymentAmount;
+    private double overpaymentAmount;
+    private boolean tooLongReportingLine;
+
+    /**
+     * Creates the view of an employee evaluated against the given thresholds.
+     */
+    public static EmployeeInfo of(Employee employee, double underpaidThreshold, double overpaidThreshold,
+                                  int maxReportingLevels) {
+        return new EmployeeInfo(
+                employee.getId(),
+                employee.getFullName(),
+                employee.getSalary(),
+                employee.getManagerId(),
+                employee.getReportingLevel(),
+                employee.getDirectSubordinates().size(),
+                employee.isUnderpaid(underpaidThreshold),
+                employee.isOverpaid(overpaidThreshold),
+                employee.getUnderpaymentAmount(underpaidThreshold),
+                employee.getOverpaymentAmount(overpaidThreshold),
+                employee.hasTooLongReportingLine(maxReportingLevels));
+    }
+}
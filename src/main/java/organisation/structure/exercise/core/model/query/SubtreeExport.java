@@ -0,0 +1,20 @@
+package organisation.structure.exercise.core.model.query;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Hierarchy export bound to the manager of one snapshot, written once the response is streamed.
+ */
+@FunctionalInterface
+public interface SubtreeExport {
+
+    /**
+     * Writes the hierarchy below the manager, including the manager.
+     *
+     * @param writer Destination; flushed but not closed
+     * @return Number of employees written
+     * @throws IOException if writing fails
+     */
+    long writeTo(Writer writer) throws IOException;
+}
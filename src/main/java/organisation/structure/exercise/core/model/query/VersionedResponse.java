@@ -0,0 +1,18 @@
+package organisation.structure.exercise.core.model.query;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Query response tagged with the version of the snapshot it was computed from.
+ * A null body means the requested entity does not exist in that snapshot.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class VersionedResponse<T> {
+
+    private long snapshotVersion;
+    private T body;
+}
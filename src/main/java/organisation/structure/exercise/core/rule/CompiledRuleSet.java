@@ -0,0 +1,76 @@
+package organisation.structure.exercise.core.rule;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.RuleEvaluationResult;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Set of rules compiled into a single evaluator.
+ * All rules are applied to each employee in one parallel pass, with one result collector per rule.
+ */
+public class CompiledRuleSet {
+
+    private final OrganizationalRule[] rules;
+
+    public CompiledRuleSet(@NonNull final List<OrganizationalRule> rules) {
+        this.rules = rules.toArray(new OrganizationalRule[0]);
+    }
+
+    /**
+     * Gets the names of the compiled rules in evaluation order.
+     */
+    public List<String> getRuleNames() {
+        List<String> names = new ArrayList<>(rules.length);
+        for (OrganizationalRule rule : rules) {
+            names.add(rule.getName());
+        }
+        return names;
+    }
+
+    /**
+     * Evaluates all compiled rules in one parallel pass over the employees.
+     *
+     * @param employees Employees with established hierarchy and calculated reporting levels
+     * @return Findings per rule, in source order
+     */
+    public RuleEvaluationResult evaluate(@NonNull final List<Employee> employees) {
+        List<List<Employee>> findings = employees.parallelStream()
+                .collect(Collector.of(this::newCollectors, this::accumulate, this::combine));
+
+        Map<String, EmployeeResultView> results = new LinkedHashMap<>();
+        for (int i = 0; i < rules.length; i++) {
+            results.put(rules[i].getName(), EmployeeResultView.ofList(findings.get(i), rules[i]::severity));
+        }
+        return new RuleEvaluationResult(employees.size(), results);
+    }
+
+    private List<List<Employee>> newCollectors() {
+        List<List<Employee>> collectors = new ArrayList<>(rules.length);
+        for (int i = 0; i < rules.length; i++) {
+            collectors.add(new ArrayList<>());
+        }
+        return collectors;
+    }
+
+    private void accumulate(List<List<Employee>> collectors, Employee employee) {
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i].matches(employee)) {
+                collectors.get(i).add(employee);
+            }
+        }
+    }
+
+    private List<List<Employee>> combine(List<List<Employee>> left, List<List<Employee>> right) {
+        for (int i = 0; i < rules.length; i++) {
+            left.get(i).addAll(right.get(i));
+        }
+        return left;
+    }
+}
@@ -0,0 +1,36 @@
+package organisation.structure.exercise.core.rule;
+
+import organisation.structure.exercise.core.model.Employee;
+
+/**
+ * Business rule evaluated against every employee of an organization.
+ * Rules are registered as beans and compiled by the rule engine into one evaluator,
+ * so adding a rule only adds its predicate cost to the shared traversal.
+ */
+public interface OrganizationalRule {
+
+    /**
+     * Gets the unique rule name used in configuration and results.
+     *
+     * @return Rule name, e.g. {@code span-of-control}
+     */
+    String getName();
+
+    /**
+     * Checks if the employee violates this rule.
+     *
+     * @param employee Employee with established hierarchy and calculated reporting level
+     * @return true if the employee is a finding of this rule, false otherwise
+     */
+    boolean matches(Employee employee);
+
+    /**
+     * Calculates how severe a finding is, used to rank findings (higher is worse).
+     *
+     * @param employee Employee matched by this rule
+     * @return Severity of the finding
+     */
+    default double severity(Employee employee) {
+        return 0.0;
+    }
+}
@@ -0,0 +1,34 @@
+package organisation.structure.exercise.core.rule.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+
+/**
+ * Flags employees whose reporting level exceeds the configured limit.
+ */
+@Component
+public class LongReportingLineRule implements OrganizationalRule {
+
+    public static final String NAME = "long-reporting-line";
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean matches(Employee employee) {
+        return employee.hasTooLongReportingLine(analysisProperties.getMaxReportingLevels());
+    }
+
+    @Override
+    public double severity(Employee employee) {
+        return employee.getExcessReportingLevels(analysisProperties.getMaxReportingLevels());
+    }
+}
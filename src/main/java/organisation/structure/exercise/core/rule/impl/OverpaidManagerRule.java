@@ -0,0 +1,34 @@
+package organisation.structure.exercise.core.rule.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+
+/**
+ * Flags managers earning more than the configured multiple of their direct reports' average salary.
+ */
+@Component
+public class OverpaidManagerRule implements OrganizationalRule {
+
+    public static final String NAME = "overpaid-manager";
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean matches(Employee employee) {
+        return employee.hasSubordinates() && employee.isOverpaid(analysisProperties.getOverpaidThreshold());
+    }
+
+    @Override
+    public double severity(Employee employee) {
+        return employee.getOverpaymentAmount(analysisProperties.getOverpaidThreshold());
+    }
+}
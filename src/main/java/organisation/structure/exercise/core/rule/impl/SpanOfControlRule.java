@@ -0,0 +1,34 @@
+package organisation.structure.exercise.core.rule.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+
+/**
+ * Flags managers with more direct reports than the configured span of control.
+ */
+@Component
+public class SpanOfControlRule implements OrganizationalRule {
+
+    public static final String NAME = "span-of-control";
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean matches(Employee employee) {
+        return employee.getDirectSubordinates().size() > analysisProperties.getRules().getMaxSpanOfControl();
+    }
+
+    @Override
+    public double severity(Employee employee) {
+        return employee.getDirectSubordinates().size() - analysisProperties.getRules().getMaxSpanOfControl();
+    }
+}
@@ -0,0 +1,34 @@
+package organisation.structure.exercise.core.rule.impl;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+
+/**
+ * Flags managers earning less than the configured multiple of their direct reports' average salary.
+ */
+@Component
+public class UnderpaidManagerRule implements OrganizationalRule {
+
+    public static final String NAME = "underpaid-manager";
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public boolean matches(Employee employee) {
+        return employee.hasSubordinates() && employee.isUnderpaid(analysisProperties.getUnderpaidThreshold());
+    }
+
+    @Override
+    public double severity(Employee employee) {
+        return employee.getUnderpaymentAmount(analysisProperties.getUnderpaidThreshold());
+    }
+}
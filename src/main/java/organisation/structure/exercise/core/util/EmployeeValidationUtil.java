@@ -1,14 +1,14 @@
 package organisation.structure.exercise.core.util;
 
 import lombok.NonNull;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.SalaryColumn;
 import organisation.structure.exercise.core.configuration.annotation.UtilClass;
 import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryStatistics;
 import lombok.extern.slf4j.Slf4j;
 
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
-import java.util.stream.Collectors;
 
 /**
  * Utility class for employee data validation operations.
@@ -105,11 +105,7 @@ public class EmployeeValidationUtil {
      * @return true if duplicate IDs are found, false otherwise
      */
     public static boolean hasDuplicateIds(@NonNull final List<Employee> employees) {
-        Map<String, Long> idCounts = employees.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.groupingBy(Employee::getId, Collectors.counting()));
-        
-        return idCounts.values().stream().anyMatch(count -> count > 1);
+        return IndexedEmployeeList.of(employees).hasDuplicateIds();
     }
     
     /**
@@ -129,16 +125,19 @@ public class EmployeeValidationUtil {
             return false;
         }
         
+        // Resolve manager references once through the shared ID index
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
+        
         // Check for valid manager references
         for (Employee employee : employees) {
-            if (!employee.isCEO() && !isValidManagerReference(employee, employees)) {
+            if (!employee.isCEO() && !isValidManagerReference(employee, indexed)) {
                 log.warn("[Organization Analyzes] Invalid manager reference for employee ID: {}", employee.getId());
                 return false;
             }
         }
         
         // Check for circular references
-        if (hasCircularReferences(employees)) {
+        if (hasCircularReferences(indexed)) {
             log.warn("[Organization Analyzes] Circular references found in organizational structure");
             return false;
         }
@@ -154,83 +153,60 @@ public class EmployeeValidationUtil {
      * @return true if the manager reference is valid, false otherwise
      */
     public static boolean isValidManagerReference(Employee employee, List<Employee> allEmployees) {
-        if (employee.isCEO()) {
-            return true;
-        }
-        
-        String managerId = employee.getManagerId();
-        if (managerId == null || managerId.trim().isEmpty()) {
-            log.debug("[Organization Analyzes] Non-CEO employee has no manager ID: {}", employee.getId());
-            return false;
-        }
-        
-        // Check if manager exists
-        boolean managerExists = allEmployees.stream()
-                .anyMatch(emp -> emp.getId().equals(managerId));
-        
-        if (!managerExists) {
-            log.debug("[Organization Analyzes] Manager not found for employee ID: {} (manager ID: {})", 
-                     employee.getId(), managerId);
-            return false;
-        }
-        
-        return true;
+        return isValidManagerReference(employee, IndexedEmployeeList.of(allEmployees));
     }
     
     /**
      * Checks for circular references in the organizational structure.
+     * Follows every manager chain at most once, so the check is linear in the number of employees.
      * 
      * @param employees List of employees to check
      * @return true if circular references are found, false otherwise
      */
     public static boolean hasCircularReferences(@NonNull final List<Employee> employees) {
-        for (Employee employee : employees) {
-            if (hasCircularReference(employee, employees)) {
-                return true;
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
+        int size = indexed.size();
+        // 0 = not visited, 1 = on the chain being followed, 2 = known to reach the top without a cycle
+        byte[] state = new byte[size];
+        int[] chain = new int[size];
+        
+        for (int start = 0; start < size; start++) {
+            int length = 0;
+            int position = start;
+            while (position >= 0 && state[position] == 0) {
+                state[position] = 1;
+                chain[length++] = position;
+                position = indexed.managerPositionOf(position);
+            }
+            if (position >= 0 && state[position] == 1) {
+                return true; // Circular reference found
+            }
+            for (int i = 0; i < length; i++) {
+                state[chain[i]] = 2;
             }
         }
         return false;
     }
     
-    /**
-     * Checks if a specific employee has a circular reference.
-     * 
-     * @param employee The employee to check
-     * @param allEmployees List of all employees
-     * @return true if a circular reference is found, false otherwise
-     */
-    private static boolean hasCircularReference(Employee employee, List<Employee> allEmployees) {
+    private static boolean isValidManagerReference(Employee employee, IndexedEmployeeList allEmployees) {
         if (employee.isCEO()) {
-            return false;
+            return true;
         }
         
-        String currentManagerId = employee.getManagerId();
-        int maxDepth = allEmployees.size(); // Prevent infinite loops
+        String managerId = employee.getManagerId();
+        if (managerId == null || managerId.trim().isEmpty()) {
+            log.debug("[Organization Analyzes] Non-CEO employee has no manager ID: {}", employee.getId());
+            return false;
+        }
         
-        for (int depth = 0; depth < maxDepth; depth++) {
-            if (currentManagerId == null || currentManagerId.trim().isEmpty()) {
-                return false; // Reached CEO
-            }
-            
-            if (currentManagerId.equals(employee.getId())) {
-                return true; // Circular reference found
-            }
-            
-            // Find the manager
-            final String managerIdToFind = currentManagerId;
-            Employee manager = allEmployees.stream()
-                    .filter(emp -> emp.getId().equals(managerIdToFind))
-                    .findFirst()
-                    .orElse(null);
-            
-            if (manager == null) {
-                return false; // Invalid manager reference
-            }
-            
-            currentManagerId = manager.getManagerId();
+        // Check if manager exists
+        if (allEmployees.positionOf(managerId) < 0) {
+            log.debug("[Organization Analyzes] Manager not found for employee ID: {} (manager ID: {})", 
+                     employee.getId(), managerId);
+            return false;
         }
         
-        return false;
+        return true;
     }
     
     /**
@@ -244,20 +220,25 @@ public class EmployeeValidationUtil {
             return true;
         }
         
-        double minSalary = employees.stream()
-                .mapToDouble(Employee::getSalary)
-                .min()
-                .orElse(0.0);
-        
-        double maxSalary = employees.stream()
-                .mapToDouble(Employee::getSalary)
-                .max()
-                .orElse(0.0);
+        // Minimum, maximum and average from one pass over fixed-point salaries
+        return isValidSalaryDistribution(SalaryColumn.of(employees).statistics());
+    }
+    
+    /**
+     * Validates salary distribution for reasonableness from statistics already computed for an analysis,
+     * such as those of its {@link organisation.structure.exercise.core.collection.HierarchySalaryColumn}.
+     * 
+     * @param salaries Salary statistics of the employees to validate
+     * @return true if salary distribution is reasonable, false otherwise
+     */
+    public static boolean isValidSalaryDistribution(@NonNull final SalaryStatistics salaries) {
+        if (salaries.getCount() == 0) {
+            return true;
+        }
         
-        double avgSalary = employees.stream()
-                .mapToDouble(Employee::getSalary)
-                .average()
-                .orElse(0.0);
+        double minSalary = salaries.getMin();
+        double maxSalary = salaries.getMax();
+        double avgSalary = salaries.getAverage();
         
         // Check for reasonable salary ranges
         if (minSalary < 10000) { // Minimum $10K salary
@@ -290,8 +271,9 @@ public class EmployeeValidationUtil {
      * @return List of orphaned employees
      */
     public static List<Employee> findOrphanedEmployees(@NonNull final List<Employee> employees) {
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
         return employees.stream()
-                .filter(employee -> !employee.isCEO() && !isValidManagerReference(employee, employees))
+                .filter(employee -> !employee.isCEO() && !isValidManagerReference(employee, indexed))
                 .toList();
     }
     
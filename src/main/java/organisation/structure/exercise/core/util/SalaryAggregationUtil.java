@@ -0,0 +1,87 @@
+package organisation.structure.exercise.core.util;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import organisation.structure.exercise.core.configuration.annotation.UtilClass;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+
+/**
+ * Utility class for single-pass salary aggregation over fixed-point minor unit arrays.
+ * Uses the {@code jdk.incubator.vector} API when the application was built with the {@code vector} profile
+ * and the JVM was started with {@code --add-modules jdk.incubator.vector}, and an equivalent scalar loop otherwise.
+ */
+@Slf4j
+@UtilClass
+public class SalaryAggregationUtil {
+
+    private static final RangeAggregator AGGREGATOR = selectAggregator();
+
+    /**
+     * Computes count, exact sum, minimum and maximum of a range of salaries in one pass.
+     *
+     * @param minorUnits Salaries in minor units
+     * @param from       First index, inclusive
+     * @param to         Last index, exclusive
+     * @return Statistics of the range
+     */
+    public static SalaryStatistics aggregate(@NonNull final long[] minorUnits, int from, int to) {
+        if (from < 0 || to > minorUnits.length || from > to) {
+            throw new IllegalArgumentException("Invalid salary range: " + from + ".." + to);
+        }
+        return AGGREGATOR.aggregate(minorUnits, from, to);
+    }
+
+    /**
+     * Checks if aggregation runs on the vector API.
+     */
+    public static boolean isVectorized() {
+        return !(AGGREGATOR instanceof ScalarAggregator);
+    }
+
+    static SalaryStatistics aggregateScalar(long[] minorUnits, int from, int to) {
+        long sum = 0;
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (int i = from; i < to; i++) {
+            long value = minorUnits[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return statistics(to - from, sum, min, max);
+    }
+
+    static SalaryStatistics statistics(int count, long sum, long min, long max) {
+        return count == 0 ? new SalaryStatistics(0, 0, 0, 0) : new SalaryStatistics(count, sum, min, max);
+    }
+
+    private static RangeAggregator selectAggregator() {
+        // The vector implementation is only loaded when its module is resolved, so it never fails to link
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isPresent()) {
+            try {
+                RangeAggregator vector = (RangeAggregator) Class.forName(SalaryAggregationUtil.class.getPackageName() + ".VectorSalaryAggregator")
+                        .getDeclaredConstructor()
+                        .newInstance();
+                log.info("[Organization Analyzes] Salary aggregation uses the vector API");
+                return vector;
+            } catch (ReflectiveOperationException | LinkageError e) {
+                log.warn("[Organization Analyzes] Vector API unavailable, using scalar salary aggregation: {}", e.getMessage());
+            }
+        }
+        return new ScalarAggregator();
+    }
+
+    /**
+     * Aggregation strategy over a range of a minor unit array.
+     */
+    interface RangeAggregator {
+        SalaryStatistics aggregate(long[] minorUnits, int from, int to);
+    }
+
+    private static final class ScalarAggregator implements RangeAggregator {
+        @Override
+        public SalaryStatistics aggregate(long[] minorUnits, int from, int to) {
+            return aggregateScalar(minorUnits, from, to);
+        }
+    }
+}
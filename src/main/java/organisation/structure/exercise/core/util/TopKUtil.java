@@ -0,0 +1,79 @@
+package organisation.structure.exercise.core.util;
+
+import lombok.NonNull;
+import organisation.structure.exercise.core.configuration.annotation.UtilClass;
+import organisation.structure.exercise.core.model.Employee;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+/**
+ * Utility class for top-K ranking of employees.
+ * Keeps only the K highest ranked employees in a bounded min-heap, so ranking runs in
+ * O(n log k) time and O(k) memory, and partial heaps from parallel partitions are merged.
+ */
+@UtilClass
+public class TopKUtil {
+
+    private static final Comparator<Ranked> BY_SCORE = Comparator.comparingDouble(Ranked::score);
+
+    /**
+     * Creates a collector returning the K employees with the highest score, highest first.
+     * Each score is computed exactly once per employee.
+     *
+     * @param k     Maximum number of employees to return
+     * @param score Ranking score of an employee (higher ranks first)
+     * @return Collector usable with sequential and parallel streams
+     */
+    public static Collector<Employee, ?, List<Employee>> topK(int k, @NonNull final ToDoubleFunction<Employee> score) {
+        if (k < 0) {
+            throw new IllegalArgumentException("K must not be negative: " + k);
+        }
+
+        return Collector.<Employee, PriorityQueue<Ranked>, List<Employee>>of(
+                () -> new PriorityQueue<>(BY_SCORE),
+                (heap, employee) -> offer(heap, new Ranked(employee, score.applyAsDouble(employee)), k),
+                (left, right) -> merge(left, right, k),
+                TopKUtil::drainDescending);
+    }
+
+    private static void offer(PriorityQueue<Ranked> heap, Ranked candidate, int k) {
+        if (heap.size() < k) {
+            heap.offer(candidate);
+        } else if (k > 0 && candidate.score() > heap.peek().score()) {
+            heap.poll();
+            heap.offer(candidate);
+        }
+    }
+
+    private static PriorityQueue<Ranked> merge(PriorityQueue<Ranked> left, PriorityQueue<Ranked> right, int k) {
+        // Fold the smaller heap into the larger one to keep the merge at O(k log k)
+        PriorityQueue<Ranked> target = left.size() >= right.size() ? left : right;
+        PriorityQueue<Ranked> source = target == left ? right : left;
+        for (Ranked candidate : source) {
+            offer(target, candidate, k);
+        }
+        return target;
+    }
+
+    private static List<Employee> drainDescending(PriorityQueue<Ranked> heap) {
+        List<Ranked> ranked = new ArrayList<>(heap);
+        ranked.sort(BY_SCORE.reversed());
+
+        List<Employee> employees = new ArrayList<>(ranked.size());
+        for (Ranked entry : ranked) {
+            employees.add(entry.employee());
+        }
+        return employees;
+    }
+
+    /**
+     * Employee paired with its precomputed ranking score.
+     */
+    private record Ranked(Employee employee, double score) {
+    }
+}
@@ -0,0 +1,15 @@
+package organisation.structure.exercise.facade.cli;
+
+import java.util.List;
+
+public interface CliFacade {
+
+    /**
+     * Analyzes every input and writes the results to every sink.
+     *
+     * @param inputs CSV file paths, or {@code database} for the configured datasource
+     * @param sinks Output sinks: {@code log} and/or {@code database}
+     * @return Process exit code: 0 when every analysis succeeded, 1 otherwise
+     */
+    int runAnalysis(List<String> inputs, List<String> sinks);
+}
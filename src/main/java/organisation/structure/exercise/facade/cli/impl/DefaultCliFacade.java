@@ -0,0 +1,245 @@
+package organisation.structure.exercise.facade.cli.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.EventListener;
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.configuration.annotation.Facade;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.configuration.properties.CliProperties;
+import organisation.structure.exercise.core.configuration.properties.DistributedProperties;
+import organisation.structure.exercise.core.model.AnalysisPreview;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationDiffSummary;
+import organisation.structure.exercise.facade.cli.CliFacade;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.diff.OrganizationDiffService;
+import organisation.structure.exercise.service.distributed.DistributedAnalysisService;
+import organisation.structure.exercise.service.export.HierarchyExportService;
+import organisation.structure.exercise.service.restructuring.RestructuringRecommendationService;
+import organisation.structure.exercise.service.sweep.ThresholdSweepService;
+import organisation.structure.exercise.service.logging.OrganizationalAnalysisLogging;
+import organisation.structure.exercise.service.persistence.AnalysisResultWriter;
+
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+@Slf4j
+@Facade
+@ConditionalOnProperty(prefix = "app.cli", name = "enabled", havingValue = "true")
+public class DefaultCliFacade implements CliFacade {
+
+    @Autowired
+    private ApplicationArguments applicationArguments;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private CliProperties cliProperties;
+
+    @Autowired
+    private DistributedProperties distributedProperties;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    @Autowired
+    private DistributedAnalysisService distributedAnalysisService;
+
+    @Autowired
+    private OrganizationalAnalysisLogging analysisLogging;
+
+    @Autowired
+    private AnalysisResultWriter analysisResultWriter;
+
+    @Autowired
+    private HierarchyExportService hierarchyExportService;
+
+    @Autowired
+    private RestructuringRecommendationService restructuringRecommendationService;
+
+    @Autowired
+    private ThresholdSweepService thresholdSweepService;
+
+    @Autowired
+    private OrganizationDiffService organizationDiffService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        List<String> inputs = new ArrayList<>(applicationArguments.getNonOptionArgs());
+        inputs.addAll(cliProperties.getInputs());
+
+        int exitCode = runAnalysis(inputs, cliProperties.getSinks());
+
+        if (cliProperties.isExitOnCompletion()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> exitCode));
+        }
+    }
+
+    @Override
+    public int runAnalysis(List<String> inputs, List<String> sinks) {
+        if (inputs.isEmpty()) {
+            analysisLogging.displayError("No input given. Usage: java -jar exercise.jar <employees.csv|database>... "
+                    + "[--app.cli.sinks=log,database] [--app.cli.preview=true] [--app.cli.sharded=true] [--app.distributed.workers=host:port,...] [--app.cli.export-directory=exports] [--app.cli.recommend-restructuring=true] [--app.cli.sweep=1.1,1.2,1.5] [--app.cli.diff-against=previous.csv] [--app.analysis.underpaid-threshold=1.2]");
+            return 1;
+        }
+
+        int exitCode = 0;
+        if (cliProperties.isSharded() && !cliProperties.isPreview()) {
+            List<String> shards = inputs.stream().filter(input -> !CliProperties.DATABASE.equals(input)).toList();
+            if (!shards.isEmpty()) {
+                AnalysisResult result = organizationalAnalyzerService.analyzeOrganizationFromCsvShards(shards);
+                if (!writeResult(String.join(",", shards), result, sinks)) {
+                    exitCode = 1;
+                }
+            }
+            inputs = inputs.stream().filter(CliProperties.DATABASE::equals).toList();
+        }
+
+        for (String input : inputs) {
+            if (cliProperties.isPreview() && !CliProperties.DATABASE.equals(input)) {
+                AnalysisPreview preview = organizationalAnalyzerService.previewOrganizationFromCsv(input);
+                analysisLogging.displayPreview(preview);
+                if (!preview.isSuccess()) {
+                    exitCode = 1;
+                }
+                continue;
+            }
+
+            AnalysisResult result;
+            if (CliProperties.DATABASE.equals(input)) {
+                result = organizationalAnalyzerService.analyzeOrganizationFromDatabase();
+            } else if (!distributedProperties.getWorkers().isEmpty()) {
+                result = distributedAnalysisService.analyzeOrganizationFromCsv(input);
+            } else {
+                result = organizationalAnalyzerService.analyzeOrganizationFromCsv(input);
+            }
+
+            if (!writeResult(input, result, sinks)) {
+                exitCode = 1;
+            }
+        }
+        return exitCode;
+    }
+
+    private boolean writeResult(String input, AnalysisResult result, List<String> sinks) {
+        if (!result.isSuccess()) {
+            analysisLogging.displayError("Analysis of " + input + " failed: " + result.getErrorMessage());
+            return false;
+        }
+
+        for (String sink : sinks) {
+            String name = sink.trim();
+            if (CliProperties.LOG.equals(name)) {
+                analysisLogging.displayAnalysisResults(result);
+            } else if (CliProperties.DATABASE.equals(name)) {
+                try {
+                    String runId = analysisResultWriter.writeAnalysisResult(result);
+                    analysisLogging.displayInfo("Analysis of " + input + " persisted as run " + runId);
+                } catch (Exception e) {
+                    analysisLogging.displayError("Persisting analysis of " + input + " failed: " + e.getMessage());
+                    return false;
+                }
+            } else {
+                analysisLogging.displayError("Unknown output sink: " + name);
+                return false;
+            }
+        }
+        if (!cliProperties.getSweep().isEmpty()) {
+            displayThresholdSweep(result);
+        }
+        if (cliProperties.isRecommendRestructuring()) {
+            analysisLogging.displayRestructuringPlan(
+                    restructuringRecommendationService.recommend(result.getOrganizationalSummary().getCeo()));
+        }
+        if (cliProperties.getDiffAgainst() != null && !diffAgainst(input, result)) {
+            return false;
+        }
+        return cliProperties.getExportDirectory() == null || exportHierarchy(input, result);
+    }
+
+    private boolean diffAgainst(String input, AnalysisResult result) {
+        Path report = Path.of(cliProperties.getDiffReportDirectory(), fileNameOf(input) + "-diff.csv");
+        OrganizationDiffSummary diff = organizationDiffService.diffAgainstCsvFile(cliProperties.getDiffAgainst(),
+                employeesOf(result.getOrganizationalSummary().getCeo()), report.toString());
+        if (!diff.isSuccess()) {
+            analysisLogging.displayError("Comparing " + input + " with " + cliProperties.getDiffAgainst() + " failed: " + diff.getErrorMessage());
+            return false;
+        }
+        analysisLogging.displayOrganizationDiff(diff);
+        analysisLogging.displayInfo("Changes since " + cliProperties.getDiffAgainst() + " written to " + report);
+        return true;
+    }
+
+    private void displayThresholdSweep(AnalysisResult result) {
+        double[] salaryThresholds = cliProperties.getSweep().stream().mapToDouble(Double::doubleValue).toArray();
+        int[] reportingLevels = cliProperties.getSweepReportingLevels().isEmpty()
+                ? new int[]{analysisProperties.getMaxReportingLevels()}
+                : cliProperties.getSweepReportingLevels().stream().mapToInt(Integer::intValue).toArray();
+
+        // Reuse the salary layout of the analysis; summaries merged from distributed partitions have none
+        HierarchySalaryColumn salaries = result.getOrganizationalSummary().getSalaryColumn();
+        if (salaries == null) {
+            salaries = HierarchySalaryColumn.of(result.getOrganizationalSummary().getCeo());
+        }
+        analysisLogging.displayThresholdSweep(thresholdSweepService.buildProfile(salaries)
+                .sweep(salaryThresholds, salaryThresholds, reportingLevels));
+    }
+
+    /**
+     * Collects the analyzed organization from its CEO, breadth first.
+     */
+    private static List<Employee> employeesOf(Employee ceo) {
+        List<Employee> employees = new ArrayList<>();
+        Deque<Employee> pending = new ArrayDeque<>();
+        pending.add(ceo);
+        while (!pending.isEmpty()) {
+            Employee employee = pending.poll();
+            employees.add(employee);
+            pending.addAll(employee.getDirectSubordinates());
+        }
+        return employees;
+    }
+
+    private boolean exportHierarchy(String input, AnalysisResult result) {
+        Employee root = result.getOrganizationalSummary().getCeo();
+        if (cliProperties.getExportRoot() != null) {
+            root = hierarchyExportService.findInHierarchy(root, cliProperties.getExportRoot());
+            if (root == null) {
+                analysisLogging.displayError("Export root " + cliProperties.getExportRoot() + " not found in " + input);
+                return false;
+            }
+        }
+
+        Path path = Path.of(cliProperties.getExportDirectory(), fileNameOf(input) + "." + cliProperties.getExportFormat().getFileExtension());
+        try {
+            long written = hierarchyExportService.exportToFile(root, cliProperties.getExportFormat(),
+                    cliProperties.getExportMaxDepth(), path);
+            analysisLogging.displayInfo("Hierarchy of " + input + " exported to " + path + " (" + written + " employees)");
+            return true;
+        } catch (Exception e) {
+            analysisLogging.displayError("Exporting hierarchy of " + input + " failed: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * Names output files after the input file, so several inputs never overwrite each other.
+     */
+    private static String fileNameOf(String input) {
+        return Path.of(input.split(",")[0]).getFileName().toString().replaceFirst("\\.[^.]*$", "");
+    }
+}
@@ -0,0 +1,84 @@
+package organisation.structure.exercise.facade.query;
+
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationResult;
+import organisation.structure.exercise.core.model.query.AnalysisOverview;
+import organisation.structure.exercise.core.model.query.EmployeeInfo;
+import organisation.structure.exercise.core.model.query.SubtreeExport;
+import organisation.structure.exercise.core.model.query.VersionedResponse;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableSet;
+
+public interface OrganizationQueryFacade {
+
+    /**
+     * Gets the version of the currently served snapshot, loading it on first use.
+     */
+    long getSnapshotVersion();
+
+    /**
+     * Reloads the snapshot from the configured source and publishes it under a new version.
+     *
+     * @return Version of the new snapshot
+     */
+    long reloadSnapshot();
+
+    /**
+     * Looks up a single employee and their analysis status.
+     *
+     * @param employeeId Employee ID
+     * @return Employee info, or a null body if the employee does not exist
+     */
+    VersionedResponse<EmployeeInfo> findEmployee(String employeeId);
+
+    /**
+     * Lists the employees reporting directly or indirectly to a manager, breadth first.
+     *
+     * @param managerId Manager ID
+     * @param maxDepth Maximum depth below the manager, 1 for direct reports only
+     * @param offset Number of employees to skip
+     * @param limit Maximum number of employees to return
+     * @return Reporting employees, or a null body if the manager does not exist
+     */
+    VersionedResponse<List<EmployeeInfo>> findSubtree(String managerId, int maxDepth, int offset, int limit);
+
+    /**
+     * Gets the analysis overview of the served snapshot.
+     */
+    VersionedResponse<AnalysisOverview> getAnalysisOverview();
+
+    /**
+     * Prepares an export of the hierarchy below a manager, including the manager, from the served snapshot.
+     * The export stays bound to that snapshot even if a new one is published before it is written.
+     *
+     * @param managerId Manager ID, or the CEO for the whole organization
+     * @param format Output format
+     * @param maxDepth Maximum depth below the manager, 0 for the manager alone
+     * @return Export to write, or a null body if the manager does not exist
+     */
+    VersionedResponse<SubtreeExport> exportSubtree(String managerId, HierarchyExportFormat format, int maxDepth);
+
+    /**
+     * Simulates a batch of hypothetical changes against the served snapshot, which is left unchanged.
+     *
+     * @param changes Hypothetical changes, applied in order
+     * @return Simulation result tagged with the version of the snapshot it was evaluated against
+     */
+    VersionedResponse<SimulationResult> simulate(List<SimulatedChange> changes);
+
+    /**
+     * Gets the dates of the organization versions recorded by snapshot loads, in ascending order.
+     */
+    NavigableSet<LocalDate> getHistoryDates();
+
+    /**
+     * Gets the analysis overview of the organization version in effect on the given date.
+     *
+     * @param asOf Date to look up
+     * @return Analysis overview, or null if no version was recorded on or before that date
+     */
+    AnalysisOverview getHistoricalAnalysisOverview(LocalDate asOf);
+}
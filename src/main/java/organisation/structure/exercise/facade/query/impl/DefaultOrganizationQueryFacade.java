@@ -0,0 +1,263 @@
+package organisation.structure.exercise.facade.query.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import organisation.structure.exercise.core.configuration.annotation.Facade;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.configuration.properties.CliProperties;
+import organisation.structure.exercise.core.configuration.properties.HttpProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationBaseline;
+import organisation.structure.exercise.core.model.SimulationResult;
+import organisation.structure.exercise.core.model.query.AnalysisOverview;
+import organisation.structure.exercise.core.model.query.EmployeeInfo;
+import organisation.structure.exercise.core.model.query.SubtreeExport;
+import organisation.structure.exercise.core.model.query.VersionedResponse;
+import organisation.structure.exercise.facade.query.OrganizationQueryFacade;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.export.HierarchyExportService;
+import organisation.structure.exercise.service.history.HistoricalSnapshotStore;
+import organisation.structure.exercise.service.jdbc.EmployeeJdbcReaderService;
+import organisation.structure.exercise.service.simulation.SimulationService;
+import organisation.structure.exercise.service.snapshot.OrganizationSnapshotService;
+
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.NavigableSet;
+
+@Slf4j
+@Facade
+public class DefaultOrganizationQueryFacade implements OrganizationQueryFacade {
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Autowired
+    private EmployeeJdbcReaderService employeeJdbcReaderService;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    @Autowired
+    private OrganizationSnapshotService organizationSnapshotService;
+
+    @Autowired
+    private HierarchyExportService hierarchyExportService;
+
+    @Autowired
+    private SimulationService simulationService;
+
+    @Autowired
+    private HistoricalSnapshotStore historicalSnapshotStore;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Autowired
+    private HttpProperties httpProperties;
+
+    private volatile LoadedSnapshot snapshot;
+
+    private volatile ResponseCache responseCache;
+
+    @Override
+    public long getSnapshotVersion() {
+        return currentSnapshot().version;
+    }
+
+    @Override
+    public synchronized long reloadSnapshot() {
+        String source = httpProperties.getSnapshotSource();
+        if (source == null || source.isBlank()) {
+            throw new IllegalStateException("No snapshot source configured: set app.http.snapshot-source");
+        }
+        log.info("[Organization Analyzes] Loading query snapshot from: {}", source);
+
+        List<Employee> employees;
+        try {
+            employees = CliProperties.DATABASE.equals(source)
+                    ? employeeJdbcReaderService.readEmployeesFromDatabase()
+                    : csvReaderService.readEmployeesFromCsv(source);
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to load snapshot from " + source + ": " + e.getMessage(), e);
+        }
+
+        OrganizationSnapshot organization;
+        try {
+            organization = organizationSnapshotService.publish(employees);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to build snapshot from " + source + ": " + e.getMessage(), e);
+        }
+
+        AnalysisResult result = organizationalAnalyzerService.analyzeSnapshot(organization);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Failed to analyze snapshot from " + source + ": " + result.getErrorMessage());
+        }
+
+        LoadedSnapshot loaded = new LoadedSnapshot(organization, result);
+        snapshot = loaded;
+        responseCache().clear();
+
+        if (httpProperties.isRecordHistory()) {
+            // A reload on the same day replaces that day's version
+            historicalSnapshotStore.record(LocalDate.now(), employees);
+        }
+
+        log.info("[Organization Analyzes] Query snapshot version {} published with {} employees", loaded.version, organization.size());
+        return loaded.version;
+    }
+
+    @Override
+    public VersionedResponse<EmployeeInfo> findEmployee(String employeeId) {
+        LoadedSnapshot current = currentSnapshot();
+        EmployeeInfo info = responseCache().get(current.version, "employee:" + employeeId, () -> {
+            Employee employee = current.organization.getEmployee(employeeId);
+            return employee == null ? null : toInfo(employee);
+        });
+        return new VersionedResponse<>(current.version, info);
+    }
+
+    @Override
+    public VersionedResponse<List<EmployeeInfo>> findSubtree(String managerId, int maxDepth, int offset, int limit) {
+        LoadedSnapshot current = currentSnapshot();
+        String key = "subtree:" + managerId + ":" + maxDepth + ":" + offset + ":" + limit;
+        List<EmployeeInfo> subtree = responseCache().get(current.version, key, () -> {
+            Employee manager = current.organization.getEmployee(managerId);
+            return manager == null ? null : collectSubtree(manager, maxDepth, offset, limit);
+        });
+        return new VersionedResponse<>(current.version, subtree);
+    }
+
+    @Override
+    public VersionedResponse<AnalysisOverview> getAnalysisOverview() {
+        LoadedSnapshot current = currentSnapshot();
+        AnalysisOverview overview = responseCache().get(current.version, "analysis",
+                () -> AnalysisOverview.of(current.result, httpProperties.getOverviewTopFindings(), this::toInfo));
+        return new VersionedResponse<>(current.version, overview);
+    }
+
+    @Override
+    public VersionedResponse<SubtreeExport> exportSubtree(String managerId, HierarchyExportFormat format, int maxDepth) {
+        // Exports stream straight to the client and are not cached; the snapshot itself is never modified
+        LoadedSnapshot current = currentSnapshot();
+        Employee manager = current.organization.getEmployee(managerId);
+        SubtreeExport export = manager == null ? null
+                : writer -> hierarchyExportService.export(manager, format, maxDepth, writer);
+        return new VersionedResponse<>(current.version, export);
+    }
+
+    @Override
+    public VersionedResponse<SimulationResult> simulate(List<SimulatedChange> changes) {
+        // Simulations depend on the submitted batch and are not cached; the baseline is shared per snapshot
+        LoadedSnapshot current = currentSnapshot();
+        return new VersionedResponse<>(current.version, simulationService.simulate(current.baseline(simulationService), changes));
+    }
+
+    @Override
+    public NavigableSet<LocalDate> getHistoryDates() {
+        return historicalSnapshotStore.getVersionDates();
+    }
+
+    @Override
+    public AnalysisOverview getHistoricalAnalysisOverview(LocalDate asOf) {
+        if (historicalSnapshotStore.getVersion(asOf) == null) {
+            return null;
+        }
+        AnalysisResult result = historicalSnapshotStore.analyze(asOf);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Failed to analyze version as of " + asOf + ": " + result.getErrorMessage());
+        }
+        return AnalysisOverview.of(result, httpProperties.getOverviewTopFindings(), this::toInfo);
+    }
+
+    private LoadedSnapshot currentSnapshot() {
+        LoadedSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    reloadSnapshot();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    private ResponseCache responseCache() {
+        ResponseCache cache = responseCache;
+        if (cache == null) {
+            synchronized (this) {
+                if (responseCache == null) {
+                    responseCache = new ResponseCache(httpProperties.getResponseCacheSize());
+                }
+                cache = responseCache;
+            }
+        }
+        return cache;
+    }
+
+    /**
+     * Collects reporting employees breadth first, stopping once the requested page is filled.
+     */
+    private List<EmployeeInfo> collectSubtree(Employee manager, int maxDepth, int offset, int limit) {
+        List<EmployeeInfo> page = new ArrayList<>();
+        Deque<Employee> queue = new ArrayDeque<>(manager.getDirectSubordinates());
+        int baseLevel = manager.getReportingLevel();
+        int skipped = 0;
+
+        while (!queue.isEmpty() && page.size() < limit) {
+            Employee employee = queue.poll();
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                page.add(toInfo(employee));
+            }
+            if (employee.getReportingLevel() - baseLevel < maxDepth) {
+                queue.addAll(employee.getDirectSubordinates());
+            }
+        }
+        return page;
+    }
+
+    private EmployeeInfo toInfo(Employee employee) {
+        return EmployeeInfo.of(employee,
+                analysisProperties.getUnderpaidThreshold(),
+                analysisProperties.getOverpaidThreshold(),
+                analysisProperties.getMaxReportingLevels());
+    }
+
+    /**
+     * Immutable organization snapshot paired with its analysis, served under the snapshot version.
+     */
+    private static class LoadedSnapshot {
+        final long version;
+        final OrganizationSnapshot organization;
+        final AnalysisResult result;
+
+        private SimulationBaseline baseline;
+
+        LoadedSnapshot(OrganizationSnapshot organization, AnalysisResult result) {
+            this.version = organization.getVersion();
+            this.organization = organization;
+            this.result = result;
+        }
+
+        /**
+         * Gets the simulation baseline of this snapshot, preparing it on the first simulation.
+         */
+        synchronized SimulationBaseline baseline(SimulationService simulationService) {
+            if (baseline == null) {
+                baseline = simulationService.prepareBaseline(organization.getEmployees());
+            }
+            return baseline;
+        }
+    }
+}
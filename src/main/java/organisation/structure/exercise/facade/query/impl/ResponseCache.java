@@ -0,0 +1,35 @@
+package organisation.structure.exercise.facade.query.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of query responses.
+ * Entries are keyed by snapshot version and request, so a new snapshot never serves stale responses.
+ */
+final class ResponseCache {
+
+    private final Cache<String, Object> entries;
+
+    ResponseCache(int maxEntries) {
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .build();
+    }
+
+    /**
+     * Returns the cached response, computing and caching it on a miss.
+     * Concurrent misses for the same request wait for one computation; other requests are not blocked.
+     * A null response is returned to the caller without being cached.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T get(long snapshotVersion, String requestKey, Supplier<T> compute) {
+        return (T) entries.get(snapshotVersion + ":" + requestKey, key -> compute.get());
+    }
+
+    void clear() {
+        entries.invalidateAll();
+    }
+}
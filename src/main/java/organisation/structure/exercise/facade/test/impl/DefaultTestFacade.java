@@ -2,6 +2,7 @@ package organisation.structure.exercise.facade.test.impl;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import organisation.structure.exercise.core.configuration.annotation.Facade;
@@ -10,6 +11,7 @@ import organisation.structure.exercise.facade.test.local.LocalTestFacade;
 
 @Slf4j
 @Facade
+@ConditionalOnProperty(prefix = "app.local-test", name = "enabled", havingValue = "true", matchIfMissing = true)
 public class DefaultTestFacade implements TestFacade {
 
     @Autowired
@@ -0,0 +1,4 @@
+package organisation.structure.exercise.facade.worker;
+
+public interface WorkerFacade {
+}
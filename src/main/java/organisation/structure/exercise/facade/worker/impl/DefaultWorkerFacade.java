@@ -0,0 +1,42 @@
+package organisation.structure.exercise.facade.worker.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import organisation.structure.exercise.core.configuration.annotation.Facade;
+import organisation.structure.exercise.core.configuration.properties.DistributedProperties;
+import organisation.structure.exercise.facade.worker.WorkerFacade;
+import organisation.structure.exercise.service.distributed.PartitionWorkerService;
+
+import java.io.IOException;
+
+@Slf4j
+@Facade
+@ConditionalOnProperty(prefix = "app.distributed", name = "worker-enabled", havingValue = "true")
+public class DefaultWorkerFacade implements WorkerFacade {
+
+    @Autowired
+    private DistributedProperties distributedProperties;
+
+    @Autowired
+    private PartitionWorkerService partitionWorkerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            partitionWorkerService.start(distributedProperties.getWorkerPort());
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed to start partition worker on port "
+                    + distributedProperties.getWorkerPort() + ": " + e.getMessage(), e);
+        }
+    }
+
+    @EventListener(ContextClosedEvent.class)
+    public void onContextClosed() {
+        log.info("[Organization Analyzes] Stopping partition worker");
+        partitionWorkerService.stop();
+    }
+}
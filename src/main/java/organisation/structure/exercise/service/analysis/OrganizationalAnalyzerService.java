@@ -1,7 +1,10 @@
 package organisation.structure.exercise.service.analysis;
 
+import organisation.structure.exercise.core.model.AnalysisPreview;
 import organisation.structure.exercise.core.model.AnalysisResult;
 import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
 import organisation.structure.exercise.core.model.OrganizationalSummary;
 
 import java.util.List;
@@ -21,8 +24,18 @@ public interface OrganizationalAnalyzerService {
      */
     AnalysisResult analyzeOrganizationalStructure(List<Employee> employees);
 
+    /**
+     * Analyzes an immutable organization snapshot without modifying it.
+     * Safe to call from many threads while newer snapshots are being published.
+     *
+     * @param snapshot Snapshot with established hierarchy and reporting levels
+     * @return AnalysisResult containing all analysis findings for that snapshot version
+     */
+    AnalysisResult analyzeSnapshot(OrganizationSnapshot snapshot);
+
     /**
      * Builds the organizational hierarchy by establishing reporting relationships.
+     * Existing subordinate lists are replaced, so calling it again on the same list is safe.
      *
      * @param employees List of employees to build hierarchy for
      * @return List of employees with established reporting relationships
@@ -48,10 +61,47 @@ public interface OrganizationalAnalyzerService {
      * Identifies employees with too long reporting lines.
      *
      * @param employees List of employees to analyze
-     * @return List of employees with reporting lines longer than 4 levels
+     * @return List of employees with reporting lines longer than the configured limit
      */
     List<Employee> findEmployeesWithLongReportingLines(List<Employee> employees);
 
+    /**
+     * Returns a lazily evaluated view of employees with too long reporting lines.
+     * Counting, paging and severity ordering are computed on demand without copying all findings.
+     *
+     * @param employees List of employees with calculated reporting levels
+     * @return View of employees with reporting lines longer than the configured limit
+     */
+    EmployeeResultView viewEmployeesWithLongReportingLines(List<Employee> employees);
+
+    /**
+     * Finds the K most underpaid managers, ranked by underpayment amount.
+     * Computed in one parallel pass keeping a bounded heap per partition.
+     *
+     * @param employees List of employees with established hierarchy
+     * @param k Maximum number of managers to return
+     * @return Most underpaid managers, largest underpayment first
+     */
+    List<Employee> findTopUnderpaidManagers(List<Employee> employees, int k);
+
+    /**
+     * Finds the K most overpaid managers, ranked by overpayment amount.
+     *
+     * @param employees List of employees with established hierarchy
+     * @param k Maximum number of managers to return
+     * @return Most overpaid managers, largest overpayment first
+     */
+    List<Employee> findTopOverpaidManagers(List<Employee> employees, int k);
+
+    /**
+     * Finds the K employees with the longest reporting lines, ranked by excess levels.
+     *
+     * @param employees List of employees with calculated reporting levels
+     * @param k Maximum number of employees to return
+     * @return Employees with the deepest reporting lines, most excess levels first
+     */
+    List<Employee> findTopEmployeesWithLongReportingLines(List<Employee> employees, int k);
+
     /**
      * Generates an organizational summary with key metrics.
      *
@@ -70,6 +120,34 @@ public interface OrganizationalAnalyzerService {
      */
     AnalysisResult analyzeOrganizationFromCsv(String csvFilePath);
 
+    /**
+     * Analyzes one organization split over several CSV files, such as one export per country.
+     * Files are loaded in parallel and manager references are resolved across files before analysis.
+     *
+     * @param csvFilePaths The paths to the CSV files that together hold the organization
+     * @return AnalysisResult containing the complete analysis results, or a failure listing
+     *         shard-level and cross-shard errors separately
+     */
+    AnalysisResult analyzeOrganizationFromCsvShards(List<String> csvFilePaths);
+
+    /**
+     * Analyzes the organization stored in the configured datasource.
+     * Employee rows are streamed through a forward-only cursor instead of an intermediate CSV export.
+     *
+     * @return AnalysisResult containing the complete analysis results
+     */
+    AnalysisResult analyzeOrganizationFromDatabase();
+
+    /**
+     * Estimates headcount and salary figures of a CSV export from a random sample of its rows.
+     * Only the configured fraction of the file is read, through random byte-offset seeks, so the
+     * preview of a very large export is available in seconds. Estimates carry confidence intervals.
+     *
+     * @param csvFilePath The path to the CSV file containing employee data
+     * @return AnalysisPreview with the estimates, or a failed preview if the file cannot be sampled
+     */
+    AnalysisPreview previewOrganizationFromCsv(String csvFilePath);
+
     /**
      * Validates the input CSV file before processing.
      *
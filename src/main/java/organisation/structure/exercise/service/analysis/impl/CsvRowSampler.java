@@ -0,0 +1,292 @@
+package organisation.structure.exercise.service.analysis.impl;
+
+import organisation.structure.exercise.core.collection.QuantileSketch;
+import organisation.structure.exercise.core.model.AnalysisPreview;
+import organisation.structure.exercise.core.model.AnalysisPreview.Estimate;
+import organisation.structure.exercise.core.util.CsvValidationUtil;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Samples employee rows of a CSV export through random byte-offset seeks.
+ * Each sampled offset selects the line containing it, so every data row, including the first, is drawn
+ * with a probability proportional to its own length in bytes, and only a window of a few lines around
+ * the offset is read. Estimates weight each draw by its inverse length: headcount and salary total are
+ * Hansen-Hurwitz estimates, and the average salary is their weighted ratio over rows with a valid salary.
+ * Intervals use the normal approximation. Salary percentiles come from the unweighted sampled salaries,
+ * so they lean slightly towards longer rows. When the requested sample would cover a small file anyway,
+ * every row is read and the preview is exact. Samples are capped at one million rows.
+ */
+final class CsvRowSampler {
+
+    private static final int MIN_WINDOW_BYTES = 64;
+    private static final int MAX_WINDOW_BYTES = 4096;
+    private static final int PROBE_BYTES = 64 * 1024;
+    private static final int MAX_SAMPLE_ROWS = 1_000_000;
+    private static final long MAX_EXACT_BYTES = 256L * 1024 * 1024;
+
+    private final double sampleFraction;
+    private final int minSampleRows;
+    private final double confidenceLevel;
+    private final SplittableRandom random = new SplittableRandom();
+
+    private long bytesRead;
+    private int windowBytes = MIN_WINDOW_BYTES;
+    // Length in bytes of the last line returned by lineContaining, line terminator included
+    private int lineBytes;
+
+    CsvRowSampler(double sampleFraction, int minSampleRows, double confidenceLevel) {
+        if (!(sampleFraction > 0.0 && sampleFraction <= 1.0)) {
+            throw new IllegalArgumentException("Sample fraction must be in (0, 1]: " + sampleFraction);
+        }
+        if (!(confidenceLevel > 0.0 && confidenceLevel < 1.0)) {
+            throw new IllegalArgumentException("Confidence level must be in (0, 1): " + confidenceLevel);
+        }
+        this.sampleFraction = sampleFraction;
+        this.minSampleRows = minSampleRows;
+        this.confidenceLevel = confidenceLevel;
+    }
+
+    AnalysisPreview sample(String filePath) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(filePath, "r")) {
+            long fileBytes = file.length();
+            byte[] probe = new byte[(int) Math.min(PROBE_BYTES, fileBytes)];
+            file.readFully(probe);
+            bytesRead = probe.length;
+
+            int headerEnd = indexOf(probe, 0, probe.length, (byte) '\n');
+            if (headerEnd < 0) {
+                throw new IOException("CSV file has no data rows: " + filePath);
+            }
+            long dataStart = headerEnd + 1;
+            long dataBytes = fileBytes - dataStart;
+
+            // Size the sample from the line length seen in the first block
+            int probeLines = Math.max(1, count(probe, headerEnd + 1, probe.length, (byte) '\n'));
+            double probeLineBytes = (double) (probe.length - dataStart) / probeLines;
+            windowBytes = (int) Math.min(MAX_WINDOW_BYTES, Math.max(MIN_WINDOW_BYTES, Math.ceil(probeLineBytes * 2.5)));
+            long targetRows = Math.max(minSampleRows, (long) Math.ceil(sampleFraction * dataBytes / Math.max(1.0, probeLineBytes)));
+
+            // Per draw: inverse selection weight (0 for blank lines, which are no employees) and salary (NaN if invalid)
+            double[] weights;
+            double[] salaries;
+            boolean exact = targetRows * windowBytes >= dataBytes && dataBytes <= MAX_EXACT_BYTES;
+            if (exact) {
+                String[] lines = readAll(file, dataStart, fileBytes);
+                weights = new double[lines.length];
+                salaries = new double[lines.length];
+                for (int i = 0; i < lines.length; i++) {
+                    weights[i] = 1.0;
+                    salaries[i] = salaryOf(lines[i]);
+                }
+            } else {
+                long[] offsets = new long[(int) Math.min(MAX_SAMPLE_ROWS, targetRows)];
+                for (int i = 0; i < offsets.length; i++) {
+                    offsets[i] = dataStart + random.nextLong(dataBytes);
+                }
+                Arrays.sort(offsets);
+
+                weights = new double[offsets.length];
+                salaries = new double[offsets.length];
+                for (int i = 0; i < offsets.length; i++) {
+                    String line = lineContaining(file, offsets[i], dataStart, fileBytes);
+                    boolean blank = line.isBlank();
+                    weights[i] = blank ? 0.0 : 1.0 / lineBytes;
+                    salaries[i] = blank ? Double.NaN : salaryOf(line);
+                }
+            }
+            return estimate(filePath, fileBytes, exact ? weights.length : dataBytes, weights, salaries, exact);
+        }
+    }
+
+    /**
+     * Estimates from weighted draws. Each draw stands for {@code scale / draws} rows per unit of weight, where the
+     * scale is the number of data bytes for sampled draws and the row count for an exact read with unit weights.
+     */
+    private AnalysisPreview estimate(String filePath, long fileBytes, double scale,
+                                     double[] weights, double[] salaries, boolean exact) {
+        int draws = weights.length;
+        double weightSum = 0.0;
+        double validWeightSum = 0.0;
+        double weightedSalarySum = 0.0;
+        int rows = 0;
+        int valid = 0;
+        QuantileSketch distribution = new QuantileSketch();
+        for (int i = 0; i < draws; i++) {
+            if (weights[i] == 0.0) {
+                continue;
+            }
+            rows++;
+            weightSum += weights[i];
+            if (!Double.isNaN(salaries[i])) {
+                valid++;
+                validWeightSum += weights[i];
+                weightedSalarySum += weights[i] * salaries[i];
+                distribution.update(salaries[i]);
+            }
+        }
+        if (rows == 0) {
+            return AnalysisPreview.failure(filePath, "No employee rows could be sampled from " + filePath);
+        }
+        double z = exact ? 0.0 : normalQuantile(0.5 + confidenceLevel / 2);
+
+        double employees = scale * weightSum / draws;
+        double validEmployees = scale * validWeightSum / draws;
+        double meanSalary = valid == 0 ? 0.0 : weightedSalarySum / validWeightSum;
+        double totalSalary = validEmployees * meanSalary;
+
+        // Draw variances of the headcount weights, and salary residuals of the rows with a valid salary only
+        double meanWeight = weightSum / draws;
+        double meanValidWeight = validWeightSum / draws;
+        double weightSquares = 0.0;
+        double validWeightSquares = 0.0;
+        double residualSquares = 0.0;
+        for (int i = 0; i < draws; i++) {
+            boolean validSalary = !Double.isNaN(salaries[i]);
+            double validWeight = validSalary ? weights[i] : 0.0;
+            weightSquares += (weights[i] - meanWeight) * (weights[i] - meanWeight);
+            validWeightSquares += (validWeight - meanValidWeight) * (validWeight - meanValidWeight);
+            if (validSalary) {
+                double residual = weights[i] * (salaries[i] - meanSalary);
+                residualSquares += residual * residual;
+            }
+        }
+        double employeesError = draws > 1 ? z * scale * Math.sqrt(weightSquares / (draws - 1) / draws) : 0.0;
+        double validEmployeesVariance = draws > 1 ? scale * scale * validWeightSquares / (draws - 1) / draws : 0.0;
+        double meanSalaryVariance = valid > 1 ? residualSquares * valid / (valid - 1) / (validWeightSum * validWeightSum) : 0.0;
+        double averageSalaryError = z * Math.sqrt(meanSalaryVariance);
+        double totalSalaryError = z * Math.sqrt(meanSalary * meanSalary * validEmployeesVariance
+                + validEmployees * validEmployees * meanSalaryVariance);
+
+        AnalysisPreview preview = new AnalysisPreview();
+        preview.setSuccess(true);
+        preview.setFilePath(filePath);
+        preview.setExact(exact);
+        preview.setConfidenceLevel(confidenceLevel);
+        preview.setFileBytes(fileBytes);
+        preview.setBytesRead(bytesRead);
+        preview.setSampledRows(rows);
+        preview.setInvalidRows(rows - valid);
+        preview.setEmployees(Estimate.of(employees, employeesError));
+        preview.setTotalSalary(Estimate.of(totalSalary, totalSalaryError));
+        preview.setAverageSalary(Estimate.of(meanSalary, averageSalaryError));
+        preview.setSalaryDistribution(distribution);
+        return preview;
+    }
+
+    /**
+     * Returns the data line containing the given offset, a line's terminating newline counting as part of it.
+     */
+    private String lineContaining(RandomAccessFile file, long offset, long dataStart, long fileBytes) throws IOException {
+        byte[] window = new byte[windowBytes];
+
+        // Walk back to the newline ending the previous line, or to the start of the data
+        long lineStart = dataStart;
+        long chunkEnd = offset;
+        while (chunkEnd > dataStart) {
+            long chunkStart = Math.max(dataStart, chunkEnd - window.length);
+            int length = (int) (chunkEnd - chunkStart);
+            file.seek(chunkStart);
+            file.readFully(window, 0, length);
+            bytesRead += length;
+            int newline = lastIndexOf(window, 0, length, (byte) '\n');
+            if (newline >= 0) {
+                lineStart = chunkStart + newline + 1;
+                break;
+            }
+            chunkEnd = chunkStart;
+        }
+
+        // Read forward to the newline ending this line, or to the end of the file
+        int filled = 0;
+        long position = lineStart;
+        while (position < fileBytes) {
+            if (filled == window.length) {
+                window = Arrays.copyOf(window, window.length * 2);
+            }
+            file.seek(position);
+            int read = file.read(window, filled, window.length - filled);
+            if (read <= 0) {
+                break;
+            }
+            bytesRead += read;
+            int searchFrom = filled;
+            filled += read;
+            position += read;
+
+            int lineEnd = indexOf(window, searchFrom, filled, (byte) '\n');
+            if (lineEnd >= 0) {
+                lineBytes = lineEnd + 1;
+                return decode(window, 0, lineEnd);
+            }
+        }
+        lineBytes = filled;
+        return decode(window, 0, filled);
+    }
+
+    private String[] readAll(RandomAccessFile file, long dataStart, long fileBytes) throws IOException {
+        byte[] data = new byte[(int) (fileBytes - dataStart)];
+        file.seek(dataStart);
+        file.readFully(data);
+        bytesRead = fileBytes;
+        return new String(data, StandardCharsets.UTF_8).lines().filter(line -> !line.isBlank()).toArray(String[]::new);
+    }
+
+    /**
+     * Returns the salary of a CSV row, or NaN if the row is not a valid employee row.
+     */
+    private static double salaryOf(String line) {
+        if (!CsvValidationUtil.isValidCsvLine(line)) {
+            return Double.NaN;
+        }
+        return Double.parseDouble(line.split(",")[3].trim());
+    }
+
+    private static String decode(byte[] bytes, int from, int to) {
+        int end = to > from && bytes[to - 1] == '\r' ? to - 1 : to;
+        return new String(bytes, from, end - from, StandardCharsets.UTF_8);
+    }
+
+    private static int indexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int lastIndexOf(byte[] bytes, int from, int to, byte value) {
+        for (int i = to - 1; i >= from; i--) {
+            if (bytes[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static int count(byte[] bytes, int from, int to, byte value) {
+        int count = 0;
+        for (int i = from; i < to; i++) {
+            if (bytes[i] == value) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Inverse of the standard normal distribution function (Abramowitz and Stegun 26.2.23, error below 4.5e-4).
+     */
+    static double normalQuantile(double probability) {
+        double p = probability < 0.5 ? probability : 1.0 - probability;
+        double t = Math.sqrt(-2.0 * Math.log(p));
+        double x = t - (2.515517 + 0.802853 * t + 0.010328 * t * t)
+                / (1.0 + 1.432788 * t + 0.189269 * t * t + 0.001308 * t * t * t);
+        return probability < 0.5 ? -x : x;
+    }
+}
@@ -1,10 +1,9 @@
 package organisation.structure.exercise.service.analysis.impl;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 import java.util.Stack;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import lombok.NonNull;
@@ -12,13 +11,36 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.collection.SalaryColumn;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.configuration.properties.IngestionProperties;
+import organisation.structure.exercise.core.model.AnalysisPreview;
 import organisation.structure.exercise.core.model.AnalysisResult;
 import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
 import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.core.model.RuleEvaluationResult;
+import organisation.structure.exercise.core.model.SalaryAnomaly;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.core.model.ShardedOrganization;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+import organisation.structure.exercise.core.rule.impl.LongReportingLineRule;
+import organisation.structure.exercise.core.rule.impl.OverpaidManagerRule;
+import organisation.structure.exercise.core.rule.impl.UnderpaidManagerRule;
 import organisation.structure.exercise.core.util.CsvValidationUtil;
 import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.anomaly.SalaryAnomalyService;
 import organisation.structure.exercise.core.util.EmployeeValidationUtil;
+import organisation.structure.exercise.core.util.TopKUtil;
 import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.jdbc.EmployeeJdbcReaderService;
+import organisation.structure.exercise.service.percentile.SalaryPercentileService;
+import organisation.structure.exercise.service.rule.RuleEngineService;
+import organisation.structure.exercise.service.shard.ShardedOrganizationLoader;
+import organisation.structure.exercise.service.span.SpanOfControlService;
 
 /**
  * Optimized implementation of organizational analyzer service.
@@ -31,6 +53,39 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
     @Autowired
     private ICsvReaderService csvReaderService;
     
+    @Autowired
+    private EmployeeJdbcReaderService employeeJdbcReaderService;
+    
+    @Autowired
+    private AnalysisProperties analysisProperties;
+    
+    @Autowired
+    private IngestionProperties ingestionProperties;
+    
+    @Autowired
+    private ShardedOrganizationLoader shardedOrganizationLoader;
+    
+    @Autowired
+    private SpanOfControlService spanOfControlService;
+    
+    @Autowired
+    private SalaryPercentileService salaryPercentileService;
+    
+    @Autowired
+    private SalaryAnomalyService salaryAnomalyService;
+    
+    @Autowired
+    private RuleEngineService ruleEngineService;
+    
+    @Autowired
+    private UnderpaidManagerRule underpaidManagerRule;
+    
+    @Autowired
+    private OverpaidManagerRule overpaidManagerRule;
+    
+    @Autowired
+    private LongReportingLineRule longReportingLineRule;
+    
     @Override
     public AnalysisResult analyzeOrganizationalStructure(@NonNull final List<Employee> employees) {
          log.info("[Organization Analyzes] Starting organizational structure analysis for {} employees", employees.size());
@@ -55,18 +110,17 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
             // Create organizational summary
             OrganizationalSummary summary = generateOrganizationalSummary(hierarchyEmployees);
             
-            // Analyze manager salaries
-            AnalysisResult salaryAnalysis = analyzeManagerSalaries(hierarchyEmployees);
+            // Evaluate manager salaries, reporting lines and every other configured rule in one fused pass
+            RuleEvaluationResult rules = ruleEngineService.evaluate(hierarchyEmployees);
             
-            // Analyze reporting lines
-            List<Employee> longReportingLines = findEmployeesWithLongReportingLines(hierarchyEmployees);
+            // Analyze salaries relative to peers
+            List<SalaryAnomaly> salaryAnomalies = salaryAnomalyService.findSalaryAnomalies(hierarchyEmployees);
             
             log.debug("[Organization Analyzes] Organizational analysis completed successfully");
             
-            return AnalysisResult.success(summary, 
-                    salaryAnalysis.getUnderpaidManagers(),
-                    salaryAnalysis.getOverpaidManagers(),
-                    longReportingLines);
+            AnalysisResult result = AnalysisResult.success(summary, rules);
+            result.setSalaryAnomalies(salaryAnomalies);
+            return result;
                     
         } catch (Exception e) {
              log.error("[Organization Analyzes] Error during organizational analysis: {}", e.getMessage(), e);
@@ -74,13 +128,36 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
         }
     }
     
+    @Override
+    public AnalysisResult analyzeSnapshot(@NonNull final OrganizationSnapshot snapshot) {
+        log.info("[Organization Analyzes] Starting analysis of organization snapshot version {} with {} employees",
+                snapshot.getVersion(), snapshot.size());
+        
+        try {
+            // Hierarchy and reporting levels are fixed when the snapshot is built, so only read-only steps run here
+            List<Employee> employees = snapshot.getEmployees();
+            if (!EmployeeValidationUtil.validateEmployees(employees)) {
+                log.error("[Organization Analyzes] Employee validation failed for snapshot version {}", snapshot.getVersion());
+                return AnalysisResult.failure("Employee validation failed");
+            }
+            
+            OrganizationalSummary summary = generateOrganizationalSummary(employees);
+            AnalysisResult result = AnalysisResult.success(summary, ruleEngineService.evaluate(employees));
+            result.setSalaryAnomalies(salaryAnomalyService.findSalaryAnomalies(employees));
+            return result;
+            
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error during snapshot analysis: {}", e.getMessage(), e);
+            return AnalysisResult.failure("Error during snapshot analysis: " + e.getMessage());
+        }
+    }
+    
     @Override
     public List<Employee> buildOrganizationalHierarchy(@NonNull final List<Employee> employees) {
         log.debug("[Organization Analyzes] Building organizational hierarchy for {} employees", employees.size());
         
-        // Create employee lookup map for O(1) access
-        Map<String, Employee> employeeMap = new ConcurrentHashMap<>();
-        employees.forEach(employee -> employeeMap.put(employee.getId(), employee));
+        // Reuse the ID index built at parse time; other lists are indexed once here
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
         
         // Find CEO
         Employee ceo = employees.stream()
@@ -93,19 +170,23 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
             return new ArrayList<>();
         }
         
+        // Start from empty subordinate lists so building the same list twice does not duplicate entries
+        employees.forEach(employee -> employee.getDirectSubordinates().clear());
+        
         // Build parent-child relationships
-        employees.stream()
-                .filter(employee -> !employee.isCEO())
-                .filter(employee -> employee.getManagerId() != null)
-                .forEach(employee -> {
-                    Employee manager = employeeMap.get(employee.getManagerId());
-                    if (manager != null) {
-                        manager.getDirectSubordinates().add(employee);
-                    } else {
-                        log.warn("[Organization Analyzes] Manager not found for an employee: {} (Manager ID: {})", 
-                                employee.getFullName(), employee.getManagerId());
-                    }
-                });
+        for (int position = 0; position < indexed.size(); position++) {
+            Employee employee = indexed.get(position);
+            if (employee.isCEO()) {
+                continue;
+            }
+            int managerPosition = indexed.managerPositionOf(position);
+            if (managerPosition >= 0) {
+                indexed.get(managerPosition).getDirectSubordinates().add(employee);
+            } else {
+                log.warn("[Organization Analyzes] Manager not found for an employee: {} (Manager ID: {})", 
+                        employee.getFullName(), employee.getManagerId());
+            }
+        }
         
         log.debug("[Organization Analyzes] Organizational hierarchy built successfully. CEO: {}", ceo.getFullName());
         return employees;
@@ -132,29 +213,15 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
     public AnalysisResult analyzeManagerSalaries(@NonNull final List<Employee> employees) {
         log.debug("[Organization Analyzes] Analyzing manager salaries for {} employees", employees.size());
         
-        List<Employee> underpaidManagers = employees.stream()
-                .filter(Employee::hasSubordinates)
-                .filter(Employee::isUnderpaid)
-                .toList();
-        
-        List<Employee> overpaidManagers = employees.stream()
-                .filter(Employee::hasSubordinates)
-                .filter(Employee::isOverpaid)
-                .toList();
-        
-        log.debug("[Organization Analyzes] Found {} underpaid and {} overpaid managers", 
-                underpaidManagers.size(), overpaidManagers.size());
-        
-        return AnalysisResult.success(null, underpaidManagers, overpaidManagers, null);
+        // Views are evaluated lazily with the rule predicates, so callers that only need counts or a page never copy all findings
+        return AnalysisResult.success(null, viewOf(employees, underpaidManagerRule), viewOf(employees, overpaidManagerRule), null);
     }
     
     @Override
     public List<Employee> findEmployeesWithLongReportingLines(@NonNull final List<Employee> employees) {
         log.debug("[Organization Analyzes] Finding employees with long reporting lines for {} employees", employees.size());
         
-        List<Employee> employeesWithLongReportingLines = employees.stream()
-                .filter(Employee::hasTooLongReportingLine)
-                .toList();
+        List<Employee> employeesWithLongReportingLines = viewEmployeesWithLongReportingLines(employees).toList();
         
         log.debug("[Organization Analyzes] Found {} employees with too long reporting lines", 
                 employeesWithLongReportingLines.size());
@@ -162,6 +229,42 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
         return employeesWithLongReportingLines;
     }
     
+    @Override
+    public EmployeeResultView viewEmployeesWithLongReportingLines(@NonNull final List<Employee> employees) {
+        return viewOf(employees, longReportingLineRule);
+    }
+    
+    @Override
+    public List<Employee> findTopUnderpaidManagers(@NonNull final List<Employee> employees, int k) {
+        log.debug("[Organization Analyzes] Finding top {} underpaid managers among {} employees", k, employees.size());
+        
+        return topOf(employees, underpaidManagerRule, k);
+    }
+    
+    @Override
+    public List<Employee> findTopOverpaidManagers(@NonNull final List<Employee> employees, int k) {
+        log.debug("[Organization Analyzes] Finding top {} overpaid managers among {} employees", k, employees.size());
+        
+        return topOf(employees, overpaidManagerRule, k);
+    }
+    
+    @Override
+    public List<Employee> findTopEmployeesWithLongReportingLines(@NonNull final List<Employee> employees, int k) {
+        log.debug("[Organization Analyzes] Finding top {} employees with long reporting lines among {} employees", k, employees.size());
+        
+        return topOf(employees, longReportingLineRule, k);
+    }
+    
+    private static EmployeeResultView viewOf(List<Employee> employees, OrganizationalRule rule) {
+        return EmployeeResultView.of(employees, rule::matches, rule::severity);
+    }
+    
+    private static List<Employee> topOf(List<Employee> employees, OrganizationalRule rule, int k) {
+        return employees.parallelStream()
+                .filter(rule::matches)
+                .collect(TopKUtil.topK(k, rule::severity));
+    }
+    
     @Override
     public OrganizationalSummary generateOrganizationalSummary(@NonNull final List<Employee> employees) {
         log.debug("[Organization Analyzes] Generating organizational summary for {} employees", employees.size());
@@ -176,33 +279,35 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
             return null;
         }
         
-        long managers = employees.stream()
-                .filter(Employee::hasSubordinates)
-                .count();
-        
-        long individualContributors = employees.stream()
-                .filter(e -> !e.hasSubordinates())
-                .count();
-        
-        double totalSalary = employees.stream()
-                .mapToDouble(Employee::getSalary)
-                .sum();
-        
-        double averageSalary = employees.isEmpty() ? 0.0 : totalSalary / employees.size();
+        // One pass for headcounts and depth, one vectorised pass over fixed-point salaries
+        int managers = 0;
+        int maxReportingLevel = 0;
+        for (Employee employee : employees) {
+            if (employee.hasSubordinates()) {
+                managers++;
+            }
+            maxReportingLevel = Math.max(maxReportingLevel, employee.getReportingLevel());
+        }
         
-        int maxReportingLevel = employees.stream()
-                .mapToInt(Employee::getReportingLevel)
-                .max()
-                .orElse(0);
+        // Salaries are converted and laid out once, then shared by the summary, the level bands and later sweeps
+        HierarchySalaryColumn salaryColumn = HierarchySalaryColumn.of(ceo);
+        SalaryStatistics salaries = salaryColumn.size() == employees.size()
+                ? salaryColumn.statistics()
+                : SalaryColumn.of(employees).statistics();
         
-        return new OrganizationalSummary(
+        OrganizationalSummary summary = new OrganizationalSummary(
                 ceo,
                 employees.size(),
-                (int) managers,
-                totalSalary,
-                averageSalary,
+                managers,
+                salaries.getSum(),
+                salaries.getAverage(),
                 maxReportingLevel
         );
+        summary.setTotalSalaryBudgetMinorUnits(salaries.getSumMinorUnits());
+        summary.setSalaryColumn(salaryColumn);
+        summary.setSpanOfControl(spanOfControlService.analyze(ceo, salaryColumn));
+        summary.setSalaryPercentiles(salaryPercentileService.analyze(employees));
+        return summary;
     }
     
     /**
@@ -272,14 +377,17 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
          log.info("[Organization Analyzes] Starting organizational analysis from the CSV file: {}", csvFilePath);
 
         try {
-            // Validate input file
-            if (!validateInputFile(csvFilePath)) {
+            // Checkpointed reads validate as they go; a full validation pass would re-read the whole input
+            boolean checkpointing = ingestionProperties.isCheckpointing();
+            if (!checkpointing && !validateInputFile(csvFilePath)) {
                  log.error("[Organization Analyzes] Input file validation failed: {}", csvFilePath);
                 return AnalysisResult.failure("Invalid input file: " + csvFilePath);
             }
 
             // Read employees from CSV
-            List<Employee> employees = csvReaderService.readEmployeesFromCsv(csvFilePath);
+            List<Employee> employees = checkpointing
+                    ? csvReaderService.readEmployeesFromCsvResumable(csvFilePath)
+                    : csvReaderService.readEmployeesFromCsv(csvFilePath);
              log.info("[Organization Analyzes] Successfully loaded {} employees from CSV", employees.size());
 
             // Perform comprehensive analysis
@@ -299,6 +407,81 @@ public class DefaultOrganizationalAnalyzerService implements OrganizationalAnaly
         }
     }
 
+    @Override
+    public AnalysisResult analyzeOrganizationFromCsvShards(@NonNull final List<String> csvFilePaths) {
+        log.info("[Organization Analyzes] Starting organizational analysis from {} CSV shards", csvFilePaths.size());
+
+        try {
+            ShardedOrganization organization = shardedOrganizationLoader.load(csvFilePaths);
+            if (!organization.isSuccess()) {
+                String shardErrors = organization.getShards().stream()
+                        .filter(shard -> !shard.isSuccess())
+                        .map(shard -> shard.getFilePath() + ": " + String.join("; ", shard.getErrors()))
+                        .collect(Collectors.joining(" | "));
+                return AnalysisResult.failure("Sharded load failed with " + organization.getShardErrorCount()
+                        + " shard errors [" + shardErrors + "] and " + organization.getCrossShardErrors().size()
+                        + " cross-shard errors [" + String.join("; ", organization.getCrossShardErrors()) + "]");
+            }
+
+            AnalysisResult result = analyzeOrganizationalStructure(organization.getEmployees());
+
+            if (!result.isSuccess()) {
+                log.error("[Organization Analyzes] Organizational analysis failed: {}", result.getErrorMessage());
+            }
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error during sharded organizational analysis: {}", e.getMessage(), e);
+            return AnalysisResult.failure("Error during analysis: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public AnalysisResult analyzeOrganizationFromDatabase() {
+        log.info("[Organization Analyzes] Starting organizational analysis from the database");
+
+        try {
+            List<Employee> employees = employeeJdbcReaderService.readEmployeesFromDatabase();
+            log.info("[Organization Analyzes] Successfully loaded {} employees from the database", employees.size());
+
+            AnalysisResult result = analyzeOrganizationalStructure(employees);
+
+            if (!result.isSuccess()) {
+                log.error("[Organization Analyzes] Organizational analysis failed: {}", result.getErrorMessage());
+            }
+
+            return result;
+
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error during organizational analysis: {}", e.getMessage(), e);
+            return AnalysisResult.failure("Error during analysis: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public AnalysisPreview previewOrganizationFromCsv(String csvFilePath) {
+        log.info("[Organization Analyzes] Starting sampled preview of CSV file: {}", csvFilePath);
+        
+        if (!CsvValidationUtil.isValidCsvFile(csvFilePath) || !CsvValidationUtil.validateCsvHeader(csvFilePath)) {
+            log.error("[Organization Analyzes] Input file validation failed: {}", csvFilePath);
+            return AnalysisPreview.failure(csvFilePath, "Invalid input file: " + csvFilePath);
+        }
+        
+        AnalysisProperties.Preview settings = analysisProperties.getPreview();
+        try {
+            CsvRowSampler sampler = new CsvRowSampler(
+                    settings.getSampleFraction(), settings.getMinSampleRows(), settings.getConfidenceLevel());
+            AnalysisPreview preview = sampler.sample(csvFilePath);
+            log.debug("[Organization Analyzes] Preview sampled {} rows reading {} of {} bytes",
+                    preview.getSampledRows(), preview.getBytesRead(), preview.getFileBytes());
+            return preview;
+        } catch (IOException | IllegalArgumentException e) {
+            log.error("[Organization Analyzes] Error during sampled preview: {}", e.getMessage(), e);
+            return AnalysisPreview.failure(csvFilePath, "Error during sampled preview: " + e.getMessage());
+        }
+    }
+
     @Override
     public boolean validateInputFile(String csvFilePath) {
         log.debug("[Organization Analyzes] Validating input file: {}", csvFilePath);
@@ -0,0 +1,22 @@
+package organisation.structure.exercise.service.anomaly;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryAnomaly;
+
+import java.util.List;
+
+/**
+ * Interface for peer-relative salary anomaly detection.
+ */
+public interface SalaryAnomalyService {
+
+    /**
+     * Finds employees whose salary z-score within their peer group exceeds the configured threshold.
+     * A peer group is one reporting level within one top-level branch; the CEO and their direct reports
+     * form the branch of the CEO.
+     *
+     * @param employees Employees with an established hierarchy and reporting levels
+     * @return Anomalies ordered by descending absolute z-score
+     */
+    List<SalaryAnomaly> findSalaryAnomalies(List<Employee> employees);
+}
@@ -0,0 +1,112 @@
+package organisation.structure.exercise.service.anomaly.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.RunningStatistics;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryAnomaly;
+import organisation.structure.exercise.service.anomaly.SalaryAnomalyService;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Default implementation of salary anomaly service.
+ * Employees are first assigned to their top-level branch in one walk from the CEO. Peer group
+ * statistics are then accumulated in one parallel pass, with per-chunk Welford statistics merged
+ * per group, and a second parallel pass flags the outliers. Both passes are linear in headcount.
+ */
+@Slf4j
+@Service
+public class DefaultSalaryAnomalyService implements SalaryAnomalyService {
+
+    private static final int UNASSIGNED = -1;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public List<SalaryAnomaly> findSalaryAnomalies(@NonNull final List<Employee> employees) {
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
+        Employee ceo = indexed.stream().filter(Employee::isCEO).findFirst().orElse(null);
+        if (ceo == null) {
+            return List.of();
+        }
+
+        int[] branchOf = assignBranches(indexed, ceo);
+
+        Map<Long, RunningStatistics> peerGroups = IntStream.range(0, indexed.size()).parallel()
+                .filter(position -> branchOf[position] != UNASSIGNED)
+                .collect(HashMap::new,
+                        (groups, position) -> groups
+                                .computeIfAbsent(peerGroupOf(branchOf, indexed, position), key -> new RunningStatistics())
+                                .add(indexed.get(position).getSalary()),
+                        (left, right) -> right.forEach((key, statistics) -> left.merge(key, statistics, RunningStatistics::merge)));
+
+        AnalysisProperties.Anomalies settings = analysisProperties.getAnomalies();
+        List<SalaryAnomaly> anomalies = IntStream.range(0, indexed.size()).parallel()
+                .filter(position -> branchOf[position] != UNASSIGNED)
+                .mapToObj(position -> {
+                    Employee employee = indexed.get(position);
+                    RunningStatistics peers = peerGroups.get(peerGroupOf(branchOf, indexed, position));
+                    if (peers.getCount() < settings.getMinPeerGroupSize()) {
+                        return null;
+                    }
+                    double zScore = peers.zScore(employee.getSalary());
+                    if (Math.abs(zScore) < settings.getOutlierZScore()) {
+                        return null;
+                    }
+                    return new SalaryAnomaly(employee, employee.getReportingLevel(),
+                            indexed.get(branchOf[position]).getId(), peers.getCount(),
+                            peers.getMean(), peers.getStandardDeviation(), zScore);
+                })
+                .filter(Objects::nonNull)
+                .sorted(Comparator.comparingDouble((SalaryAnomaly anomaly) -> Math.abs(anomaly.getZScore())).reversed())
+                .toList();
+
+        log.debug("[Organization Analyzes] Found {} salary anomalies in {} peer groups", anomalies.size(), peerGroups.size());
+        return anomalies;
+    }
+
+    /**
+     * Assigns every employee reachable from the CEO the position of their level-1 ancestor.
+     * The CEO and their direct reports are assigned the position of the CEO.
+     */
+    private static int[] assignBranches(IndexedEmployeeList indexed, Employee ceo) {
+        int[] branchOf = new int[indexed.size()];
+        Arrays.fill(branchOf, UNASSIGNED);
+
+        int ceoPosition = indexed.positionOf(ceo.getId());
+        branchOf[ceoPosition] = ceoPosition;
+
+        Deque<Employee> queue = new ArrayDeque<>();
+        queue.add(ceo);
+        while (!queue.isEmpty()) {
+            Employee manager = queue.poll();
+            int managerPosition = indexed.positionOf(manager.getId());
+            int branch = manager.isCEO() ? ceoPosition
+                    : branchOf[managerPosition] == ceoPosition ? managerPosition
+                    : branchOf[managerPosition];
+            for (Employee subordinate : manager.getDirectSubordinates()) {
+                branchOf[indexed.positionOf(subordinate.getId())] = branch;
+                queue.add(subordinate);
+            }
+        }
+        return branchOf;
+    }
+
+    private static long peerGroupOf(int[] branchOf, IndexedEmployeeList indexed, int position) {
+        return ((long) branchOf[position] << Integer.SIZE) | indexed.get(position).getReportingLevel();
+    }
+}
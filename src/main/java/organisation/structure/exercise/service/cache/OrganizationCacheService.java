@@ -0,0 +1,51 @@
+package organisation.structure.exercise.service.cache;
+
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.CacheStatistics;
+import organisation.structure.exercise.core.model.CachedOrganization;
+
+import java.util.Set;
+
+/**
+ * Interface for the multi-tenant in-memory organization cache.
+ * Keeps loaded and analysed organizations resident per tenant and source file version,
+ * so repeated analyses of unchanged data do not reload it from disk.
+ */
+public interface OrganizationCacheService {
+
+    /**
+     * Gets the cached organization of a tenant, loading it when it is not resident
+     * or when its source file changed since it was loaded.
+     *
+     * @param tenant Configured tenant name
+     * @return Cached organization for the current version of the tenant's source
+     * @throws IllegalArgumentException if the tenant is not configured
+     * @throws IllegalStateException if the tenant's source cannot be loaded or analysed
+     */
+    CachedOrganization getOrganization(String tenant);
+
+    /**
+     * Analyzes a tenant's organization, served from the cache when possible.
+     *
+     * @param tenant Configured tenant name
+     * @return AnalysisResult of the tenant, or a failure if it cannot be loaded
+     */
+    AnalysisResult analyzeTenant(String tenant);
+
+    /**
+     * Drops the cached organization of a tenant; it is reloaded lazily on the next request.
+     *
+     * @param tenant Configured tenant name
+     */
+    void invalidate(String tenant);
+
+    /**
+     * Gets the configured tenant names.
+     */
+    Set<String> getTenants();
+
+    /**
+     * Gets hit, miss, load and eviction statistics of the cache.
+     */
+    CacheStatistics getStatistics();
+}
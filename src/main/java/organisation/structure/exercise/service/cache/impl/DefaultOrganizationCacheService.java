@@ -0,0 +1,203 @@
+package organisation.structure.exercise.service.cache.impl;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.CacheProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.CacheStatistics;
+import organisation.structure.exercise.core.model.CachedOrganization;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.cache.OrganizationCacheService;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of organization cache service.
+ * Backed by a Caffeine cache bounded by estimated heap footprint; its W-TinyLFU policy keeps
+ * frequently analysed tenants resident and evicts cold ones, which are reloaded on their next request.
+ * Entries are keyed by tenant and source file version, so a changed file is never served stale.
+ */
+@Slf4j
+@Service
+public class DefaultOrganizationCacheService implements OrganizationCacheService {
+
+    private static final long WEIGHT_UNIT_BYTES = 1024;
+
+    @Autowired
+    private CacheProperties cacheProperties;
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    private final Map<String, TenantSourceKey> currentKeys = new ConcurrentHashMap<>();
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private volatile Cache<TenantSourceKey, CachedOrganization> cache;
+
+    @Override
+    public CachedOrganization getOrganization(@NonNull final String tenant) {
+        TenantSourceKey key = currentKey(tenant);
+        CachedOrganization organization = cache().get(key, this::load);
+
+        // Drop the entry of an older source version instead of waiting for it to be evicted
+        TenantSourceKey previous = currentKeys.put(tenant, key);
+        if (previous != null && !previous.equals(key)) {
+            cache().invalidate(previous);
+        }
+        return organization;
+    }
+
+    @Override
+    public AnalysisResult analyzeTenant(@NonNull final String tenant) {
+        try {
+            return getOrganization(tenant).getAnalysisResult();
+        } catch (IllegalArgumentException | IllegalStateException e) {
+            log.error("[Organization Analyzes] Error analyzing tenant {}: {}", tenant, e.getMessage());
+            return AnalysisResult.failure("Error analyzing tenant " + tenant + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void invalidate(@NonNull final String tenant) {
+        TenantSourceKey key = currentKeys.remove(tenant);
+        if (key != null) {
+            cache().invalidate(key);
+            log.info("[Organization Analyzes] Invalidated cached organization of tenant {}", tenant);
+        }
+    }
+
+    @Override
+    public Set<String> getTenants() {
+        return Set.copyOf(cacheProperties.getTenants().keySet());
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        Cache<TenantSourceKey, CachedOrganization> current = cache();
+        CacheStats stats = current.stats();
+        long residentBytes = current.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0) * WEIGHT_UNIT_BYTES)
+                .orElse(0L);
+
+        return new CacheStatistics(
+                stats.hitCount(),
+                stats.missCount(),
+                stats.hitRate(),
+                stats.loadSuccessCount(),
+                stats.loadFailureCount(),
+                stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1),
+                stats.evictionCount(),
+                current.estimatedSize(),
+                residentBytes,
+                cacheProperties.getMaxHeapBytes());
+    }
+
+    private CachedOrganization load(TenantSourceKey key) {
+        log.info("[Organization Analyzes] Loading organization of tenant {} from {}", key.tenant(), key.path());
+
+        if (!organizationalAnalyzerService.validateInputFile(key.path())) {
+            throw new IllegalStateException("Invalid input file: " + key.path());
+        }
+
+        List<Employee> employees;
+        try {
+            employees = csvReaderService.readEmployeesFromCsv(key.path());
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to read " + key.path() + ": " + e.getMessage(), e);
+        }
+
+        OrganizationSnapshot snapshot;
+        try {
+            snapshot = OrganizationSnapshot.of(versions.incrementAndGet(), employees);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("Failed to build organization from " + key.path() + ": " + e.getMessage(), e);
+        }
+
+        AnalysisResult result = organizationalAnalyzerService.analyzeSnapshot(snapshot);
+        if (!result.isSuccess()) {
+            // Failed analyses are not cached, so a fixed file is picked up on the next request
+            throw new IllegalStateException(result.getErrorMessage());
+        }
+
+        long estimatedBytes = snapshot.estimateFootprintBytes();
+        log.info("[Organization Analyzes] Cached organization of tenant {}: {} employees, ~{} KiB",
+                key.tenant(), snapshot.size(), estimatedBytes / WEIGHT_UNIT_BYTES);
+
+        return new CachedOrganization(key.tenant(), key.path(),
+                Instant.ofEpochMilli(key.lastModifiedMillis()), snapshot, result, estimatedBytes);
+    }
+
+    private TenantSourceKey currentKey(String tenant) {
+        String source = cacheProperties.getTenants().get(tenant);
+        if (source == null) {
+            throw new IllegalArgumentException("Unknown tenant: " + tenant);
+        }
+        if (source.isBlank()) {
+            throw new IllegalStateException("No source configured for tenant " + tenant + ": set app.cache.tenants." + tenant);
+        }
+
+        Path path = Paths.get(source);
+        try {
+            return new TenantSourceKey(tenant, source, Files.getLastModifiedTime(path).toMillis(), Files.size(path));
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read source of tenant " + tenant + ": " + source, e);
+        }
+    }
+
+    private Cache<TenantSourceKey, CachedOrganization> cache() {
+        Cache<TenantSourceKey, CachedOrganization> current = cache;
+        if (current == null) {
+            synchronized (this) {
+                if (cache == null) {
+                    long maxWeight = Math.max(1, cacheProperties.getMaxHeapBytes() / WEIGHT_UNIT_BYTES);
+                    cache = Caffeine.newBuilder()
+                            .maximumWeight(maxWeight)
+                            .weigher((TenantSourceKey key, CachedOrganization organization) -> weightOf(organization))
+                            .removalListener((TenantSourceKey key, CachedOrganization organization, RemovalCause cause) -> {
+                                if (cause.wasEvicted() && key != null) {
+                                    log.info("[Organization Analyzes] Evicted organization of tenant {} ({})", key.tenant(), cause);
+                                }
+                            })
+                            .recordStats()
+                            .build();
+                }
+                current = cache;
+            }
+        }
+        return current;
+    }
+
+    private static int weightOf(CachedOrganization organization) {
+        long units = organization.getEstimatedBytes() / WEIGHT_UNIT_BYTES;
+        return (int) Math.min(Integer.MAX_VALUE, Math.max(1, units));
+    }
+
+    /**
+     * Cache key of one version of a tenant's source file.
+     */
+    private record TenantSourceKey(String tenant, String path, long lastModifiedMillis, long size) {
+    }
+}
@@ -20,6 +20,18 @@ public interface ICsvReaderService {
      */
     List<Employee> readEmployeesFromCsv(String filePath) throws IOException;
     
+    /**
+     * Reads employee data from a CSV file, checkpointing progress so an interrupted load can resume.
+     * Parsed rows and the input position are persisted periodically; when a checkpoint of the same,
+     * unchanged file exists, reading continues after it instead of starting at the first line.
+     * The checkpoint is removed once the whole file has been read.
+     * 
+     * @param filePath The path to the CSV file to read
+     * @return List of Employee objects parsed from the CSV file
+     * @throws IOException If there's an error reading the file or writing a checkpoint
+     */
+    List<Employee> readEmployeesFromCsvResumable(String filePath) throws IOException;
+    
     /**
      * Validates CSV file format and structure.
      * 
@@ -6,13 +6,16 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import lombok.extern.slf4j.Slf4j;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.NameDictionary;
+import organisation.structure.exercise.core.configuration.properties.IngestionProperties;
 import organisation.structure.exercise.core.model.Employee;
 import organisation.structure.exercise.service.csv.ICsvReaderService;
 import organisation.structure.exercise.core.util.CsvValidationUtil;
@@ -27,6 +30,10 @@ public class DefaultCsvReaderService implements ICsvReaderService {
     
     private static final int BATCH_SIZE = 1000; // Process employees in batches
     private static final int MAX_RETRIES = 3;
+    private static final int MAX_ERRORS = 100;
+    
+    @Autowired
+    private IngestionProperties ingestionProperties;
     
     @Override
     public List<Employee> readEmployeesFromCsv(String filePath) throws IOException {
@@ -41,7 +48,10 @@ public class DefaultCsvReaderService implements ICsvReaderService {
         long estimatedMemory = CsvValidationUtil.estimateMemoryRequirements(filePath);
          log.info("[Organization Analyzes] Estimated memory usage: {} bytes", estimatedMemory);
         
-        List<Employee> employees = new ArrayList<>();
+        // IDs are interned into the shared index as lines are parsed
+        List<Employee> employees = new IndexedEmployeeList();
+        // Repeated first and last names share one String per distinct name
+        NameDictionary names = new NameDictionary();
         AtomicInteger lineNumber = new AtomicInteger(0);
         AtomicInteger errorCount = new AtomicInteger(0);
         
@@ -61,7 +71,7 @@ public class DefaultCsvReaderService implements ICsvReaderService {
                         continue;
                     }
                     
-                    Employee employee = parseEmployeeLine(line, lineNumber.get());
+                    Employee employee = parseEmployeeLine(line, lineNumber.get(), names);
                     if (employee != null) {
                         employees.add(employee);
                     } else {
@@ -78,19 +88,84 @@ public class DefaultCsvReaderService implements ICsvReaderService {
                     errorCount.incrementAndGet();
                     
                     // Continue processing other lines unless too many errors
-                    if (errorCount.get() > 100) {
+                    if (errorCount.get() > MAX_ERRORS) {
                         throw new IOException("Too many errors encountered, stopping processing");
                     }
                 }
             }
         }
         
-         log.info("[Organization Analyzes] CSV reading completed. Total lines: {}, Employees loaded: {}, Errors: {}", 
-                lineNumber.get(), employees.size(), errorCount.get());
+         log.info("[Organization Analyzes] CSV reading completed. Total lines: {}, Employees loaded: {}, Errors: {}, Distinct names: {}", 
+                lineNumber.get(), employees.size(), errorCount.get(), names.size());
         
         return employees;
     }
     
+    @Override
+    public List<Employee> readEmployeesFromCsvResumable(String filePath) throws IOException {
+        log.info("[Organization Analyzes] Starting checkpointed CSV file reading: {}", filePath);
+        
+        // The full content scan of validateCsvFile would defeat resuming, so lines are validated as they are read;
+        // the size limit is left out too, as checkpointing exists for exports far beyond it
+        if (!CsvValidationUtil.isValidCsvFile(filePath) || !validateHasDataLines(filePath)
+                || !CsvValidationUtil.validateCsvHeader(filePath)) {
+            throw new IOException("CSV file validation failed: " + filePath);
+        }
+        
+        List<Employee> employees = new IndexedEmployeeList();
+        NameDictionary names = new NameDictionary();
+        long interval = ingestionProperties.getCheckpointIntervalBytes();
+        
+        try (IngestionCheckpoint checkpoint = new IngestionCheckpoint(
+                Paths.get(filePath), Paths.get(ingestionProperties.getCheckpointDirectory()))) {
+            IngestionCheckpoint.Resume resume = checkpoint.restore(employees, names);
+            int lineNumber = resume.lineNumber();
+            int errorCount = resume.errorCount();
+            if (resume.offset() > 0) {
+                log.info("[Organization Analyzes] Resuming at line {} (byte {}) with {} employees restored from checkpoint",
+                        lineNumber + 1, resume.offset(), employees.size());
+            }
+            
+            try (OffsetLineReader reader = new OffsetLineReader(Paths.get(filePath), resume.offset())) {
+                long lastCheckpoint = reader.getOffset();
+                String line;
+                
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (lineNumber == 1) {
+                        // Header, validated above
+                        continue;
+                    }
+                    
+                    // Same outcome as the plain reader: blank lines are counted and skipped,
+                    // and any other invalid line rejects the file as validateCsvContent does
+                    if (!line.trim().isEmpty() && !CsvValidationUtil.isValidCsvLine(line)) {
+                        throw new IOException("CSV file validation failed: " + filePath + " (invalid line " + lineNumber + ")");
+                    }
+                    Employee employee = parseEmployeeLine(line, lineNumber, names);
+                    if (employee != null) {
+                        employees.add(employee);
+                        checkpoint.append(employee, names);
+                    } else {
+                        errorCount++;
+                    }
+                    
+                    if (reader.getOffset() - lastCheckpoint >= interval) {
+                        checkpoint.commit(reader.getOffset(), lineNumber, errorCount);
+                        lastCheckpoint = reader.getOffset();
+                        log.info("[Organization Analyzes] Checkpoint at line {} (byte {}), {} employees loaded",
+                                lineNumber, lastCheckpoint, employees.size());
+                    }
+                }
+            }
+            checkpoint.complete();
+            
+            log.info("[Organization Analyzes] Checkpointed CSV reading completed. Total lines: {}, Employees loaded: {}, Errors: {}, Distinct names: {}",
+                    lineNumber, employees.size(), errorCount, names.size());
+        }
+        return employees;
+    }
+    
     @Override
     public boolean validateCsvFile(String filePath) {
         log.debug("[Organization Analyzes] Validating CSV file: {}", filePath);
@@ -146,28 +221,56 @@ public class DefaultCsvReaderService implements ICsvReaderService {
                 return false;
             }
             
-            // Check if file is too small (just header)
-            long lineCount = Files.lines(path).count();
-            if (lineCount <= 1) {
+            return validateHasDataLines(filePath);
+        } catch (IOException e) {
+             log.error("[Organization Analyzes] Error validating file size: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * Validates that the file has at least one line after the header.
+     * 
+     * @param filePath The path to the CSV file
+     * @return true if a data line follows the header, false otherwise
+     */
+    private boolean validateHasDataLines(String filePath) {
+        try {
+            // Check if file is too small (just header); reading two lines is enough to tell
+            if (countLines(Paths.get(filePath), 2) <= 1) {
                 log.warn("[Organization Analyzes] CSV file has no data lines, only header");
                 return false;
             }
             
             return true;
         } catch (IOException e) {
-             log.error("[Organization Analyzes] Error validating file size: {}", e.getMessage());
+             log.error("[Organization Analyzes] Error checking CSV data lines: {}", e.getMessage());
             return false;
         }
     }
     
+    /**
+     * Counts the lines of a file, stopping once the limit is reached.
+     */
+    private static int countLines(Path path, int limit) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            int count = 0;
+            while (count < limit && reader.readLine() != null) {
+                count++;
+            }
+            return count;
+        }
+    }
+    
     /**
      * Parses a single employee line with retry logic and validation.
      * 
      * @param line The CSV line to parse
      * @param lineNumber The line number for error reporting
+     * @param names Dictionary canonicalising the name parts of this load
      * @return Employee object or null if parsing failed
      */
-    private Employee parseEmployeeLine(String line, int lineNumber) {
+    private Employee parseEmployeeLine(String line, int lineNumber, NameDictionary names) {
         if (!CsvValidationUtil.isValidCsvLine(line)) {
             return null;
         }
@@ -177,8 +280,8 @@ public class DefaultCsvReaderService implements ICsvReaderService {
                 String[] parts = line.split(",");
                 
                 String id = parts[0].trim();
-                String firstName = parts[1].trim();
-                String lastName = parts[2].trim();
+                String firstName = names.canonical(parts[1].trim());
+                String lastName = names.canonical(parts[2].trim());
                 double salary = Double.parseDouble(parts[3].trim());
                 
                 String managerId = null;
@@ -0,0 +1,233 @@
+package organisation.structure.exercise.service.csv.impl;
+
+import organisation.structure.exercise.core.collection.NameDictionary;
+import organisation.structure.exercise.core.model.Employee;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Properties;
+import java.util.zip.CRC32;
+
+/**
+ * Checkpoint of one resumable CSV load: an append-only state file and a metadata file.
+ * The state file holds the parsed rows in a compact binary form, with every name part written
+ * once and referenced by its dictionary code afterwards. At each checkpoint the state file is
+ * synced and the metadata (input fingerprint, byte offset, line number, valid state length) is
+ * replaced atomically, so a crash leaves either the previous or the new checkpoint, never a mix.
+ */
+final class IngestionCheckpoint implements Closeable {
+
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEAD_BYTES = 1024 * 1024;
+    private static final int TAIL_BYTES = 64 * 1024;
+    private static final byte NAME_RECORD = 'N';
+    private static final byte EMPLOYEE_RECORD = 'E';
+
+    private final Path input;
+    private final Path metadataFile;
+    private final Path stateFile;
+    private final long inputSize;
+    private final long inputModified;
+    private final long headChecksum;
+
+    private FileOutputStream stateOutput;
+    private DataOutputStream state;
+    private int namesWritten;
+
+    /**
+     * Position in the input and counters at which a load resumes.
+     */
+    record Resume(long offset, int lineNumber, int errorCount) {
+    }
+
+    IngestionCheckpoint(Path input, Path directory) throws IOException {
+        this.input = input.toAbsolutePath().normalize();
+        String key = Integer.toHexString(this.input.toString().hashCode()) + "-" + this.input.getFileName();
+        this.metadataFile = directory.resolve(key + ".checkpoint");
+        this.stateFile = directory.resolve(key + ".state");
+        this.inputSize = Files.size(this.input);
+        this.inputModified = Files.getLastModifiedTime(this.input).toMillis();
+        this.headChecksum = checksum(0, Math.min(HEAD_BYTES, inputSize));
+        Files.createDirectories(directory);
+    }
+
+    /**
+     * Restores the rows of the last checkpoint into the given list and dictionary.
+     * A missing, unreadable or stale checkpoint (the input changed since it was written) is discarded.
+     *
+     * @return Position to resume reading at; offset 0 when the load starts over
+     */
+    Resume restore(List<Employee> employees, NameDictionary names) throws IOException {
+        Properties metadata = readMetadata();
+        Resume resume = null;
+
+        if (metadata != null && matches(metadata)) {
+            try {
+                try (FileChannel channel = FileChannel.open(stateFile, StandardOpenOption.WRITE)) {
+                    // Rows written after the checkpoint are read again from the input
+                    channel.truncate(Long.parseLong(metadata.getProperty("stateBytes")));
+                }
+                replay(employees, names);
+                resume = new Resume(Long.parseLong(metadata.getProperty("offset")),
+                        Integer.parseInt(metadata.getProperty("lineNumber")),
+                        Integer.parseInt(metadata.getProperty("errorCount")));
+            } catch (IOException e) {
+                resume = null;
+            }
+        }
+
+        if (resume == null) {
+            employees.clear();
+            Files.deleteIfExists(metadataFile);
+            Files.deleteIfExists(stateFile);
+            resume = new Resume(0, 0, 0);
+        }
+
+        // On a fresh start every name already in the dictionary is written, so codes replay identically
+        namesWritten = resume.offset() > 0 ? names.size() : 0;
+        stateOutput = new FileOutputStream(stateFile.toFile(), true);
+        state = new DataOutputStream(new BufferedOutputStream(stateOutput, 64 * 1024));
+        return resume;
+    }
+
+    /**
+     * Appends a parsed row, preceded by the name parts the dictionary learned while parsing it.
+     */
+    void append(Employee employee, NameDictionary names) throws IOException {
+        while (namesWritten < names.size()) {
+            state.writeByte(NAME_RECORD);
+            state.writeUTF(names.decode(namesWritten++));
+        }
+        state.writeByte(EMPLOYEE_RECORD);
+        state.writeUTF(employee.getId());
+        state.writeInt(names.codeOf(employee.getFirstName()));
+        state.writeInt(names.codeOf(employee.getLastName()));
+        state.writeDouble(employee.getSalary());
+        state.writeUTF(employee.getManagerId() == null ? "" : employee.getManagerId());
+    }
+
+    /**
+     * Makes all rows appended so far durable and records the input position they cover.
+     */
+    void commit(long offset, int lineNumber, int errorCount) throws IOException {
+        state.flush();
+        stateOutput.getFD().sync();
+
+        Properties metadata = new Properties();
+        metadata.setProperty("version", Integer.toString(FORMAT_VERSION));
+        metadata.setProperty("input", input.toString());
+        metadata.setProperty("inputSize", Long.toString(inputSize));
+        metadata.setProperty("inputModified", Long.toString(inputModified));
+        metadata.setProperty("headChecksum", Long.toString(headChecksum));
+        metadata.setProperty("tailChecksum", Long.toString(tailChecksum(offset)));
+        metadata.setProperty("offset", Long.toString(offset));
+        metadata.setProperty("lineNumber", Integer.toString(lineNumber));
+        metadata.setProperty("errorCount", Integer.toString(errorCount));
+        metadata.setProperty("stateBytes", Long.toString(stateOutput.getChannel().size()));
+
+        Path temporary = metadataFile.resolveSibling(metadataFile.getFileName() + ".tmp");
+        try (OutputStream output = Files.newOutputStream(temporary)) {
+            metadata.store(output, "CSV ingestion checkpoint");
+        }
+        Files.move(temporary, metadataFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Removes the checkpoint once the load has completed.
+     */
+    void complete() throws IOException {
+        close();
+        Files.deleteIfExists(metadataFile);
+        Files.deleteIfExists(stateFile);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (state != null) {
+            state.close();
+            state = null;
+        }
+    }
+
+    private Properties readMetadata() {
+        if (!Files.exists(metadataFile) || !Files.exists(stateFile)) {
+            return null;
+        }
+        try (InputStream stream = Files.newInputStream(metadataFile)) {
+            Properties metadata = new Properties();
+            metadata.load(stream);
+            return metadata;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    private boolean matches(Properties metadata) throws IOException {
+        try {
+            long offset = Long.parseLong(metadata.getProperty("offset"));
+            return Integer.parseInt(metadata.getProperty("version")) == FORMAT_VERSION
+                    && input.toString().equals(metadata.getProperty("input"))
+                    && inputSize == Long.parseLong(metadata.getProperty("inputSize"))
+                    && inputModified == Long.parseLong(metadata.getProperty("inputModified"))
+                    && headChecksum == Long.parseLong(metadata.getProperty("headChecksum"))
+                    && offset <= inputSize
+                    && tailChecksum(offset) == Long.parseLong(metadata.getProperty("tailChecksum"))
+                    && Long.parseLong(metadata.getProperty("stateBytes")) <= Files.size(stateFile);
+        } catch (NumberFormatException | NullPointerException e) {
+            return false;
+        }
+    }
+
+    private void replay(List<Employee> employees, NameDictionary names) throws IOException {
+        employees.clear();
+        try (DataInputStream records = new DataInputStream(new BufferedInputStream(Files.newInputStream(stateFile), 64 * 1024))) {
+            int type;
+            while ((type = records.read()) >= 0) {
+                if (type == NAME_RECORD) {
+                    names.encode(records.readUTF());
+                } else if (type == EMPLOYEE_RECORD) {
+                    String id = records.readUTF();
+                    String firstName = names.decode(records.readInt());
+                    String lastName = names.decode(records.readInt());
+                    double salary = records.readDouble();
+                    String managerId = records.readUTF();
+                    employees.add(new Employee(id, firstName, lastName, salary, managerId.isEmpty() ? null : managerId));
+                } else {
+                    throw new IOException("Corrupt checkpoint state: " + stateFile);
+                }
+            }
+        } catch (EOFException e) {
+            throw new IOException("Truncated checkpoint state: " + stateFile, e);
+        }
+    }
+
+    private long tailChecksum(long offset) throws IOException {
+        return checksum(Math.max(0, offset - TAIL_BYTES), offset);
+    }
+
+    private long checksum(long from, long to) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] bytes = new byte[(int) (to - from)];
+        try (RandomAccessFile file = new RandomAccessFile(input.toFile(), "r")) {
+            file.seek(from);
+            file.readFully(bytes);
+        }
+        crc.update(bytes);
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,88 @@
+package organisation.structure.exercise.service.csv.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Buffered UTF-8 line reader that tracks the byte offset of the next unread line.
+ * Lines end at {@code \n}; a trailing {@code \r} is dropped. Reading can start at any line boundary.
+ */
+final class OffsetLineReader implements Closeable {
+
+    private static final int BUFFER_BYTES = 64 * 1024;
+
+    private final InputStream input;
+    private final byte[] buffer = new byte[BUFFER_BYTES];
+    private int position;
+    private int limit;
+
+    private byte[] line = new byte[256];
+    private long offset;
+
+    OffsetLineReader(Path path, long startOffset) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        channel.position(startOffset);
+        this.input = Channels.newInputStream(channel);
+        this.offset = startOffset;
+    }
+
+    /**
+     * Returns the next line without its terminator, or null at the end of the input.
+     */
+    String readLine() throws IOException {
+        int length = 0;
+        while (true) {
+            if (position == limit) {
+                limit = input.read(buffer, 0, buffer.length);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return length == 0 ? null : decode(length);
+                }
+            }
+
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            int chunk = position - start;
+            if (length + chunk > line.length) {
+                line = Arrays.copyOf(line, Math.max(line.length * 2, length + chunk));
+            }
+            System.arraycopy(buffer, start, line, length, chunk);
+            length += chunk;
+            offset += chunk;
+
+            if (position < limit) {
+                // Consume the line terminator
+                position++;
+                offset++;
+                return decode(length);
+            }
+        }
+    }
+
+    /**
+     * Returns the byte offset of the next unread line.
+     */
+    long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        input.close();
+    }
+
+    private String decode(int length) {
+        int end = length > 0 && line[length - 1] == '\r' ? length - 1 : length;
+        return new String(line, 0, end, StandardCharsets.UTF_8);
+    }
+}
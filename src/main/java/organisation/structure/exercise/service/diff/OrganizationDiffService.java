@@ -0,0 +1,57 @@
+package organisation.structure.exercise.service.diff;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationDiffSummary;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Interface for comparing two versions of the organization.
+ * Reports hires, departures, salary changes, manager moves and changes of underpaid, overpaid and
+ * long reporting line status, streaming every change to a sink instead of collecting them.
+ */
+public interface OrganizationDiffService {
+
+    /**
+     * Compares two organization snapshots by employee ID in time linear in their sizes.
+     * Uses the snapshots' own ID indexes, so no additional per-employee memory is allocated.
+     *
+     * @param before Older version
+     * @param after Newer version
+     * @param sink Receives every change as it is found
+     * @return Totals of the reported changes
+     */
+    OrganizationDiffSummary diff(OrganizationSnapshot before, OrganizationSnapshot after, OrganizationDiffSink sink);
+
+    /**
+     * Compares two CSV exports and writes the changes to a CSV report.
+     *
+     * @param beforeCsvPath Path to the older export
+     * @param afterCsvPath Path to the newer export
+     * @param reportPath Path of the CSV report to write
+     * @return Totals of the reported changes, or a failure if an export cannot be loaded
+     */
+    OrganizationDiffSummary diffCsvFiles(String beforeCsvPath, String afterCsvPath, String reportPath);
+
+    /**
+     * Compares a CSV export with an already loaded organization and writes the changes to a CSV report.
+     *
+     * @param beforeCsvPath Path to the older export
+     * @param after Employees of the newer version as loaded from any data source
+     * @param reportPath Path of the CSV report to write
+     * @return Totals of the reported changes, or a failure if the export cannot be loaded
+     */
+    OrganizationDiffSummary diffAgainstCsvFile(String beforeCsvPath, List<Employee> after, String reportPath);
+
+    /**
+     * Compares two versions of the historical snapshot store.
+     *
+     * @param from Date of the older version
+     * @param to Date of the newer version
+     * @param sink Receives every change as it is found
+     * @return Totals of the reported changes, or a failure if a version does not exist
+     */
+    OrganizationDiffSummary diffVersions(LocalDate from, LocalDate to, OrganizationDiffSink sink);
+}
@@ -0,0 +1,17 @@
+package organisation.structure.exercise.service.diff;
+
+import organisation.structure.exercise.core.model.OrganizationChange;
+
+/**
+ * Receives the changes found by the diff engine one at a time, as they are found.
+ */
+@FunctionalInterface
+public interface OrganizationDiffSink {
+
+    /**
+     * Accepts one change.
+     *
+     * @param change Difference between the compared versions
+     */
+    void accept(OrganizationChange change);
+}
@@ -0,0 +1,70 @@
+package organisation.structure.exercise.service.diff.impl;
+
+import organisation.structure.exercise.core.model.OrganizationChange;
+import organisation.structure.exercise.service.diff.OrganizationDiffSink;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Diff sink writing every change as one line of a CSV report through a buffered writer.
+ */
+public class CsvOrganizationDiffSink implements OrganizationDiffSink, Closeable {
+
+    private static final String HEADER = "changeType,employeeId,employeeName,finding,oldValue,newValue";
+
+    private final BufferedWriter writer;
+
+    /**
+     * Opens the report file, replacing an existing one, and writes the header line.
+     */
+    public CsvOrganizationDiffSink(Path reportPath) throws IOException {
+        Path parent = reportPath.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.writer = Files.newBufferedWriter(reportPath, StandardCharsets.UTF_8);
+        writer.write(HEADER);
+        writer.newLine();
+    }
+
+    @Override
+    public void accept(OrganizationChange change) {
+        try {
+            writer.write(change.getType().name());
+            writer.write(',');
+            writer.write(escape(change.getEmployeeId()));
+            writer.write(',');
+            writer.write(escape(change.getEmployeeName()));
+            writer.write(',');
+            writer.write(change.getFinding() == null ? "" : change.getFinding().name());
+            writer.write(',');
+            writer.write(escape(change.getOldValue()));
+            writer.write(',');
+            writer.write(escape(change.getNewValue()));
+            writer.newLine();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write diff report line", e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.close();
+    }
+
+    private static String escape(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+}
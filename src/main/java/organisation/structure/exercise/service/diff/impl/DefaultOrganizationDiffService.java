@@ -0,0 +1,175 @@
+package organisation.structure.exercise.service.diff.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HistoricalSnapshot;
+import organisation.structure.exercise.core.model.OrganizationChange;
+import organisation.structure.exercise.core.model.OrganizationChange.Finding;
+import organisation.structure.exercise.core.model.OrganizationDiffSummary;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.diff.OrganizationDiffService;
+import organisation.structure.exercise.service.diff.OrganizationDiffSink;
+import organisation.structure.exercise.service.history.HistoricalSnapshotStore;
+
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Default implementation of organization diff service.
+ * Walks the older version once, probing the newer version's ID index for every employee, then walks
+ * the newer version once for hires. Both passes are linear and only counters are kept between them.
+ */
+@Slf4j
+@Service
+public class DefaultOrganizationDiffService implements OrganizationDiffService {
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Autowired
+    private HistoricalSnapshotStore historicalSnapshotStore;
+
+    @Override
+    public OrganizationDiffSummary diff(@NonNull final OrganizationSnapshot before,
+                                        @NonNull final OrganizationSnapshot after,
+                                        @NonNull final OrganizationDiffSink sink) {
+        log.info("[Organization Analyzes] Comparing organization versions {} ({} employees) and {} ({} employees)",
+                before.getVersion(), before.size(), after.getVersion(), after.size());
+
+        double underpaidThreshold = analysisProperties.getUnderpaidThreshold();
+        double overpaidThreshold = analysisProperties.getOverpaidThreshold();
+        int maxReportingLevels = analysisProperties.getMaxReportingLevels();
+
+        int departures = 0;
+        int salaryChanges = 0;
+        int managerMoves = 0;
+        int statusChanges = 0;
+        // Salaries are compared and summed in minor units, so re-parsing noise is neither a change nor a budget delta
+        long salaryBudgetDelta = 0;
+
+        for (Employee old : before.getEmployees()) {
+            Employee current = after.getEmployee(old.getId());
+            if (current == null) {
+                sink.accept(OrganizationChange.departure(old));
+                departures++;
+                salaryBudgetDelta -= SalaryStatistics.toMinorUnits(old.getSalary());
+                continue;
+            }
+
+            long oldSalary = SalaryStatistics.toMinorUnits(old.getSalary());
+            long newSalary = SalaryStatistics.toMinorUnits(current.getSalary());
+            if (oldSalary != newSalary) {
+                sink.accept(OrganizationChange.salaryChange(current, old.getSalary(), current.getSalary()));
+                salaryChanges++;
+                salaryBudgetDelta += newSalary - oldSalary;
+            }
+
+            String oldManagerId = managerIdOf(old);
+            String newManagerId = managerIdOf(current);
+            if (!Objects.equals(oldManagerId, newManagerId)) {
+                sink.accept(OrganizationChange.managerMove(current, oldManagerId, newManagerId));
+                managerMoves++;
+            }
+
+            statusChanges += reportStatus(sink, current, Finding.UNDERPAID,
+                    old.isUnderpaid(underpaidThreshold), current.isUnderpaid(underpaidThreshold));
+            statusChanges += reportStatus(sink, current, Finding.OVERPAID,
+                    old.isOverpaid(overpaidThreshold), current.isOverpaid(overpaidThreshold));
+            statusChanges += reportStatus(sink, current, Finding.LONG_REPORTING_LINE,
+                    old.hasTooLongReportingLine(maxReportingLevels), current.hasTooLongReportingLine(maxReportingLevels));
+        }
+
+        int hires = 0;
+        for (Employee current : after.getEmployees()) {
+            if (before.getEmployee(current.getId()) == null) {
+                sink.accept(OrganizationChange.hire(current));
+                hires++;
+                salaryBudgetDelta += SalaryStatistics.toMinorUnits(current.getSalary());
+            }
+        }
+
+        OrganizationDiffSummary summary = new OrganizationDiffSummary(true, null, before.size(), after.size(),
+                hires, departures, salaryChanges, managerMoves, statusChanges, salaryBudgetDelta);
+
+        log.info("[Organization Analyzes] Organization diff completed: {} hires, {} departures, {} salary changes, {} manager moves, {} status changes",
+                hires, departures, salaryChanges, managerMoves, statusChanges);
+        return summary;
+    }
+
+    @Override
+    public OrganizationDiffSummary diffCsvFiles(@NonNull final String beforeCsvPath,
+                                                @NonNull final String afterCsvPath,
+                                                @NonNull final String reportPath) {
+        List<Employee> after;
+        try {
+            after = csvReaderService.readEmployeesFromCsv(afterCsvPath);
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error comparing {} and {}: {}", beforeCsvPath, afterCsvPath, e.getMessage(), e);
+            return OrganizationDiffSummary.failure("Error comparing organizations: " + e.getMessage());
+        }
+        return diffAgainstCsvFile(beforeCsvPath, after, reportPath);
+    }
+
+    @Override
+    public OrganizationDiffSummary diffAgainstCsvFile(@NonNull final String beforeCsvPath,
+                                                      @NonNull final List<Employee> after,
+                                                      @NonNull final String reportPath) {
+        try {
+            OrganizationSnapshot beforeSnapshot = OrganizationSnapshot.of(1, csvReaderService.readEmployeesFromCsv(beforeCsvPath));
+            OrganizationSnapshot afterSnapshot = OrganizationSnapshot.of(2, after);
+
+            try (CsvOrganizationDiffSink sink = new CsvOrganizationDiffSink(Paths.get(reportPath))) {
+                OrganizationDiffSummary summary = diff(beforeSnapshot, afterSnapshot, sink);
+                log.info("[Organization Analyzes] Diff report written to: {}", reportPath);
+                return summary;
+            }
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error comparing {} with the loaded organization: {}", beforeCsvPath, e.getMessage(), e);
+            return OrganizationDiffSummary.failure("Error comparing organizations: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public OrganizationDiffSummary diffVersions(@NonNull final LocalDate from,
+                                                @NonNull final LocalDate to,
+                                                @NonNull final OrganizationDiffSink sink) {
+        HistoricalSnapshot before = historicalSnapshotStore.getVersion(from);
+        HistoricalSnapshot after = historicalSnapshotStore.getVersion(to);
+        if (before == null || after == null) {
+            return OrganizationDiffSummary.failure("No organization version recorded on or before " + (before == null ? from : to));
+        }
+
+        try {
+            return diff(OrganizationSnapshot.of(before.getAsOf().toEpochDay(), before.toEmployees()),
+                    OrganizationSnapshot.of(after.getAsOf().toEpochDay(), after.toEmployees()),
+                    sink);
+        } catch (IllegalArgumentException e) {
+            log.error("[Organization Analyzes] Error comparing versions {} and {}: {}", from, to, e.getMessage());
+            return OrganizationDiffSummary.failure("Error comparing versions: " + e.getMessage());
+        }
+    }
+
+    private static int reportStatus(OrganizationDiffSink sink, Employee employee, Finding finding,
+                                    boolean flaggedBefore, boolean flaggedAfter) {
+        if (flaggedBefore == flaggedAfter) {
+            return 0;
+        }
+        sink.accept(OrganizationChange.statusChange(employee, finding, flaggedBefore, flaggedAfter));
+        return 1;
+    }
+
+    private static String managerIdOf(Employee employee) {
+        return employee.isCEO() ? null : employee.getManagerId();
+    }
+}
@@ -0,0 +1,30 @@
+package organisation.structure.exercise.service.distributed;
+
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+
+import java.util.List;
+
+/**
+ * Interface for the coordinator of a distributed analysis.
+ * The organization is partitioned at the CEO's direct reports; worker processes compute reporting
+ * levels, salary classification and partial summaries of their subtrees, and the coordinator merges them.
+ */
+public interface DistributedAnalysisService {
+
+    /**
+     * Analyzes the employees on the configured workers.
+     *
+     * @param employees List of employees to analyze
+     * @return AnalysisResult merged from the partial results of all workers
+     */
+    AnalysisResult analyzeDistributed(List<Employee> employees);
+
+    /**
+     * Reads a CSV file and analyzes it on the configured workers.
+     *
+     * @param csvFilePath The path to the CSV file containing employee data
+     * @return AnalysisResult merged from the partial results of all workers
+     */
+    AnalysisResult analyzeOrganizationFromCsv(String csvFilePath);
+}
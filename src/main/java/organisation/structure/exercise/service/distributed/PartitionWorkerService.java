@@ -0,0 +1,24 @@
+package organisation.structure.exercise.service.distributed;
+
+import java.io.IOException;
+
+/**
+ * Interface for a worker that analyzes organization partitions sent by a coordinator over a local socket.
+ */
+public interface PartitionWorkerService {
+
+    /**
+     * Starts accepting partitions on the given port of the configured bind address, the loopback address
+     * by default. Each connection is served on its own thread.
+     *
+     * @param port Port to listen on; 0 picks a free port
+     * @return The port the worker listens on
+     * @throws IOException if the port cannot be bound
+     */
+    int start(int port) throws IOException;
+
+    /**
+     * Stops accepting partitions and closes the listening socket.
+     */
+    void stop();
+}
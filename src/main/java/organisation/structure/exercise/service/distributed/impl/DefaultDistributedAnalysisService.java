@@ -0,0 +1,334 @@
+package organisation.structure.exercise.service.distributed.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.SalaryColumn;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.configuration.properties.DistributedProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.core.util.EmployeeValidationUtil;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.distributed.DistributedAnalysisService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Coordinator of a distributed analysis.
+ * The subtrees under the CEO's direct reports are assigned to workers largest first, each to the least
+ * loaded worker, and shipped as compact salary/manager-index rows. Workers return levels, findings and
+ * partial summary figures, which are applied to the coordinator's employees and merged into one result.
+ */
+@Slf4j
+@Service
+public class DefaultDistributedAnalysisService implements DistributedAnalysisService {
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Autowired
+    private DistributedProperties distributedProperties;
+
+    @Override
+    public AnalysisResult analyzeDistributed(@NonNull final List<Employee> employees) {
+        List<String> workers = distributedProperties.getWorkers();
+        if (workers.isEmpty()) {
+            return AnalysisResult.failure("No distributed workers configured");
+        }
+        log.info("[Organization Analyzes] Starting distributed analysis of {} employees on {} workers",
+                employees.size(), workers.size());
+
+        try {
+            if (!EmployeeValidationUtil.validateEmployees(employees)) {
+                log.error("[Organization Analyzes] Employee validation failed");
+                return AnalysisResult.failure("Employee validation failed");
+            }
+            List<Employee> hierarchy = organizationalAnalyzerService.buildOrganizationalHierarchy(employees);
+            if (hierarchy.isEmpty()) {
+                return AnalysisResult.failure("Failed to build organizational hierarchy");
+            }
+            Employee ceo = hierarchy.stream().filter(Employee::isCEO).findFirst().orElseThrow();
+            ceo.setReportingLevel(0);
+
+            List<Partition> partitions = partition(ceo, workers.size());
+            int maxPartitionRows = distributedProperties.getMaxPartitionRows();
+            for (Partition partition : partitions) {
+                if (partition.size() > maxPartitionRows) {
+                    return AnalysisResult.failure("Partition of " + partition.size() + " employees exceeds app.distributed.max-partition-rows ("
+                            + maxPartitionRows + "); configure more workers");
+                }
+            }
+            List<PartitionResult> results = dispatch(workers, partitions);
+            for (int w = 0; w < results.size(); w++) {
+                PartitionResult result = results.get(w);
+                if (result != null && !result.isSuccess()) {
+                    return AnalysisResult.failure("Worker " + workers.get(w) + " failed: " + result.errorMessage);
+                }
+            }
+            return merge(ceo, partitions, results);
+
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            log.error("[Organization Analyzes] Distributed analysis failed: {}", cause.getMessage());
+            return AnalysisResult.failure("Distributed analysis failed: " + cause.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return AnalysisResult.failure("Distributed analysis interrupted");
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error during distributed analysis: {}", e.getMessage(), e);
+            return AnalysisResult.failure("Error during distributed analysis: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public AnalysisResult analyzeOrganizationFromCsv(String csvFilePath) {
+        log.info("[Organization Analyzes] Starting distributed analysis from the CSV file: {}", csvFilePath);
+        try {
+            if (!organizationalAnalyzerService.validateInputFile(csvFilePath)) {
+                return AnalysisResult.failure("Invalid input file: " + csvFilePath);
+            }
+            return analyzeDistributed(csvReaderService.readEmployeesFromCsv(csvFilePath));
+        } catch (Exception e) {
+            log.error("[Organization Analyzes] Error during distributed analysis: {}", e.getMessage(), e);
+            return AnalysisResult.failure("Error during analysis: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Splits the organization below the CEO into one partition per worker, balancing headcount greedily.
+     */
+    private List<Partition> partition(Employee ceo, int workerCount) {
+        List<Subtree> subtrees = new ArrayList<>();
+        for (Employee root : ceo.getDirectSubordinates()) {
+            subtrees.add(Subtree.of(root));
+        }
+        subtrees.sort(Comparator.comparingInt((Subtree subtree) -> subtree.members.size()).reversed());
+
+        List<Partition> partitions = new ArrayList<>();
+        for (int w = 0; w < workerCount; w++) {
+            partitions.add(new Partition());
+        }
+        for (Subtree subtree : subtrees) {
+            partitions.stream().min(Comparator.comparingInt(Partition::size)).orElseThrow().add(subtree);
+        }
+        return partitions;
+    }
+
+    /**
+     * Sends every non-empty partition to its worker in parallel; empty partitions get a null result.
+     */
+    private List<PartitionResult> dispatch(List<String> workers, List<Partition> partitions)
+            throws InterruptedException, ExecutionException {
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<PartitionResult>> futures = new ArrayList<>();
+            for (int w = 0; w < workers.size(); w++) {
+                String worker = workers.get(w);
+                Partition partition = partitions.get(w);
+                futures.add(partition.size() == 0 ? null : executor.submit(() -> send(worker, partition)));
+            }
+            List<PartitionResult> results = new ArrayList<>();
+            for (Future<PartitionResult> future : futures) {
+                results.add(future == null ? null : future.get());
+            }
+            return results;
+        }
+    }
+
+    private PartitionResult send(String worker, Partition partition) throws IOException {
+        int separator = worker.lastIndexOf(':');
+        if (separator <= 0) {
+            throw new IllegalArgumentException("Worker address must be host:port: " + worker);
+        }
+        String host = worker.substring(0, separator);
+        int port = Integer.parseInt(worker.substring(separator + 1).trim());
+
+        PartitionTask task = new PartitionTask(1,
+                analysisProperties.getUnderpaidThreshold(),
+                analysisProperties.getOverpaidThreshold(),
+                analysisProperties.getMaxReportingLevels(),
+                partition.salaries(), partition.managers());
+
+        try (Socket socket = new Socket()) {
+            socket.connect(new InetSocketAddress(host, port), distributedProperties.getConnectTimeoutMillis());
+            socket.setSoTimeout(distributedProperties.getReadTimeoutMillis());
+            task.write(new DataOutputStream(new BufferedOutputStream(socket.getOutputStream())));
+            PartitionResult result = PartitionResult.read(new DataInputStream(new BufferedInputStream(socket.getInputStream())),
+                    distributedProperties.getMaxPartitionRows());
+            log.debug("[Organization Analyzes] Worker {} analyzed {} employees", worker, task.size());
+            return result;
+        } catch (IOException e) {
+            throw new IOException("Worker " + worker + " unavailable: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Applies worker levels to the coordinator's employees and merges findings and summary figures.
+     */
+    private AnalysisResult merge(Employee ceo, List<Partition> partitions, List<PartitionResult> results) {
+        double underpaidThreshold = analysisProperties.getUnderpaidThreshold();
+        double overpaidThreshold = analysisProperties.getOverpaidThreshold();
+        int maxReportingLevels = analysisProperties.getMaxReportingLevels();
+
+        List<Employee> underpaid = new ArrayList<>();
+        List<Employee> overpaid = new ArrayList<>();
+        List<Employee> longReportingLines = new ArrayList<>();
+
+        // The CEO stays on the coordinator, with its direct reports already in memory
+        if (ceo.hasSubordinates() && ceo.isUnderpaid(underpaidThreshold)) {
+            underpaid.add(ceo);
+        }
+        if (ceo.hasSubordinates() && ceo.isOverpaid(overpaidThreshold)) {
+            overpaid.add(ceo);
+        }
+        int totalEmployees = 1;
+        int managers = ceo.hasSubordinates() ? 1 : 0;
+        long salaryMinorUnits = SalaryColumn.toMinorUnits(ceo.getSalary());
+        int maxReportingLevel = 0;
+
+        for (int w = 0; w < partitions.size(); w++) {
+            PartitionResult result = results.get(w);
+            if (result == null) {
+                continue;
+            }
+            List<Employee> members = partitions.get(w).members;
+            if (result.levels.length != members.size()) {
+                throw new IllegalStateException("Worker returned " + result.levels.length
+                        + " levels for a partition of " + members.size() + " employees");
+            }
+            for (int i = 0; i < members.size(); i++) {
+                members.get(i).setReportingLevel(result.levels[i]);
+            }
+            collect(members, result.underpaid, underpaid);
+            collect(members, result.overpaid, overpaid);
+            collect(members, result.longReportingLines, longReportingLines);
+
+            totalEmployees += members.size();
+            managers += result.managers;
+            salaryMinorUnits += result.salaryMinorUnits;
+            maxReportingLevel = Math.max(maxReportingLevel, result.maxReportingLevel);
+        }
+
+        OrganizationalSummary summary = new OrganizationalSummary(
+                ceo,
+                totalEmployees,
+                managers,
+                (double) salaryMinorUnits / SalaryStatistics.MINOR_UNITS_PER_FRANC,
+                (double) salaryMinorUnits / totalEmployees / SalaryStatistics.MINOR_UNITS_PER_FRANC,
+                maxReportingLevel
+        );
+        summary.setTotalSalaryBudgetMinorUnits(salaryMinorUnits);
+
+        log.info("[Organization Analyzes] Distributed analysis merged results of {} employees", totalEmployees);
+        return AnalysisResult.success(summary,
+                EmployeeResultView.ofList(underpaid, employee -> employee.getUnderpaymentAmount(underpaidThreshold)),
+                EmployeeResultView.ofList(overpaid, employee -> employee.getOverpaymentAmount(overpaidThreshold)),
+                EmployeeResultView.ofList(longReportingLines, employee -> employee.getExcessReportingLevels(maxReportingLevels)));
+    }
+
+    private static void collect(List<Employee> members, int[] indices, List<Employee> target) {
+        for (int index : indices) {
+            if (index < 0 || index >= members.size()) {
+                throw new IllegalStateException("Worker returned an unknown row index: " + index);
+            }
+            target.add(members.get(index));
+        }
+    }
+
+    /**
+     * One subtree below the CEO in depth-first order, with the index of each member's manager within it.
+     */
+    private static final class Subtree {
+        final List<Employee> members = new ArrayList<>();
+        int[] managers = new int[16];
+
+        static Subtree of(Employee root) {
+            Subtree subtree = new Subtree();
+            Deque<Employee> employees = new ArrayDeque<>();
+            Deque<Integer> parents = new ArrayDeque<>();
+            employees.push(root);
+            parents.push(PartitionTask.NO_MANAGER);
+
+            while (!employees.isEmpty()) {
+                Employee employee = employees.pop();
+                int parent = parents.pop();
+                int index = subtree.members.size();
+                subtree.members.add(employee);
+                if (index == subtree.managers.length) {
+                    subtree.managers = Arrays.copyOf(subtree.managers, index * 2);
+                }
+                subtree.managers[index] = parent;
+                for (Employee subordinate : employee.getDirectSubordinates()) {
+                    employees.push(subordinate);
+                    parents.push(index);
+                }
+            }
+            return subtree;
+        }
+    }
+
+    /**
+     * Subtrees assigned to one worker, concatenated in assignment order.
+     */
+    private static final class Partition {
+        final List<Employee> members = new ArrayList<>();
+        final List<Subtree> subtrees = new ArrayList<>();
+
+        void add(Subtree subtree) {
+            subtrees.add(subtree);
+            members.addAll(subtree.members);
+        }
+
+        int size() {
+            return members.size();
+        }
+
+        double[] salaries() {
+            double[] salaries = new double[members.size()];
+            for (int i = 0; i < salaries.length; i++) {
+                salaries[i] = members.get(i).getSalary();
+            }
+            return salaries;
+        }
+
+        int[] managers() {
+            int[] managers = new int[members.size()];
+            int offset = 0;
+            for (Subtree subtree : subtrees) {
+                for (int i = 0; i < subtree.members.size(); i++) {
+                    int manager = subtree.managers[i];
+                    managers[offset + i] = manager == PartitionTask.NO_MANAGER ? manager : offset + manager;
+                }
+                offset += subtree.members.size();
+            }
+            return managers;
+        }
+    }
+}
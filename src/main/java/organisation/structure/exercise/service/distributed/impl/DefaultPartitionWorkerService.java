@@ -0,0 +1,155 @@
+package organisation.structure.exercise.service.distributed.impl;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.SalaryColumn;
+import organisation.structure.exercise.core.configuration.properties.DistributedProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.service.distributed.PartitionWorkerService;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+
+/**
+ * Socket server analyzing partitions for a coordinator.
+ * Each connection carries one task and its result. Connections are served on virtual threads, so
+ * one worker can serve several coordinators at once.
+ */
+@Slf4j
+@Service
+public class DefaultPartitionWorkerService implements PartitionWorkerService {
+
+    @Autowired
+    private DistributedProperties distributedProperties;
+
+    private volatile ServerSocket serverSocket;
+
+    @Override
+    public synchronized int start(int port) throws IOException {
+        if (serverSocket != null) {
+            throw new IllegalStateException("Partition worker is already listening on port " + serverSocket.getLocalPort());
+        }
+        // Loopback unless a bind address is configured, so the worker is not reachable from other hosts by default
+        String bindAddress = distributedProperties.getBindAddress();
+        InetAddress address = bindAddress == null || bindAddress.isBlank()
+                ? InetAddress.getLoopbackAddress()
+                : InetAddress.getByName(bindAddress.trim());
+        ServerSocket socket = new ServerSocket(port, 0, address);
+        serverSocket = socket;
+        // A platform thread keeps a worker without a web server alive; connections run on virtual threads
+        Thread.ofPlatform().name("partition-worker-" + socket.getLocalPort()).start(() -> acceptConnections(socket));
+        log.info("[Organization Analyzes] Partition worker listening on {}:{}", address.getHostAddress(), socket.getLocalPort());
+        return socket.getLocalPort();
+    }
+
+    @Override
+    public synchronized void stop() {
+        ServerSocket socket = serverSocket;
+        serverSocket = null;
+        if (socket != null) {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                log.warn("[Organization Analyzes] Failed to close partition worker socket: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void acceptConnections(ServerSocket socket) {
+        while (!socket.isClosed()) {
+            try {
+                Socket connection = socket.accept();
+                Thread.ofVirtual().start(() -> serve(connection));
+            } catch (IOException e) {
+                if (!socket.isClosed()) {
+                    log.error("[Organization Analyzes] Partition worker failed to accept a connection: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    private void serve(Socket connection) {
+        try (connection) {
+            connection.setSoTimeout(distributedProperties.getReadTimeoutMillis());
+            DataInputStream input = new DataInputStream(new BufferedInputStream(connection.getInputStream()));
+            DataOutputStream output = new DataOutputStream(new BufferedOutputStream(connection.getOutputStream()));
+
+            PartitionResult result;
+            try {
+                PartitionTask task = PartitionTask.read(input, distributedProperties.getMaxPartitionRows());
+                log.info("[Organization Analyzes] Analyzing partition of {} employees from {}",
+                        task.size(), connection.getRemoteSocketAddress());
+                result = analyze(task);
+            } catch (IOException | RuntimeException e) {
+                log.error("[Organization Analyzes] Partition from {} rejected: {}", connection.getRemoteSocketAddress(), e.getMessage());
+                result = PartitionResult.failure(e.getMessage());
+            }
+            result.write(output);
+        } catch (IOException e) {
+            log.error("[Organization Analyzes] Partition connection failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Computes levels, salary findings and partial summary figures of a partition.
+     * Rows become lightweight employees so that findings use exactly the rules of a local analysis.
+     */
+    static PartitionResult analyze(PartitionTask task) {
+        int size = task.size();
+        Employee[] employees = new Employee[size];
+        int[] levels = new int[size];
+        long salaryMinorUnits = 0;
+        int maxReportingLevel = 0;
+
+        // Managers precede their reports, so one forward pass links the tree and fixes every level
+        for (int i = 0; i < size; i++) {
+            int manager = task.managers[i];
+            employees[i] = new Employee(Integer.toString(i), "-", "-", task.salaries[i],
+                    manager == PartitionTask.NO_MANAGER ? null : Integer.toString(manager));
+            levels[i] = manager == PartitionTask.NO_MANAGER ? task.baseLevel : levels[manager] + 1;
+            employees[i].setReportingLevel(levels[i]);
+            if (manager != PartitionTask.NO_MANAGER) {
+                employees[manager].getDirectSubordinates().add(employees[i]);
+            }
+            salaryMinorUnits += SalaryColumn.toMinorUnits(task.salaries[i]);
+            maxReportingLevel = Math.max(maxReportingLevel, levels[i]);
+        }
+
+        int[] underpaid = new int[size];
+        int[] overpaid = new int[size];
+        int[] longReportingLines = new int[size];
+        int underpaidCount = 0;
+        int overpaidCount = 0;
+        int longCount = 0;
+        int managers = 0;
+        for (int i = 0; i < size; i++) {
+            Employee employee = employees[i];
+            if (employee.hasSubordinates()) {
+                managers++;
+                if (employee.isUnderpaid(task.underpaidThreshold)) {
+                    underpaid[underpaidCount++] = i;
+                }
+                if (employee.isOverpaid(task.overpaidThreshold)) {
+                    overpaid[overpaidCount++] = i;
+                }
+            }
+            if (employee.hasTooLongReportingLine(task.maxReportingLevels)) {
+                longReportingLines[longCount++] = i;
+            }
+        }
+
+        return new PartitionResult(levels,
+                Arrays.copyOf(underpaid, underpaidCount),
+                Arrays.copyOf(overpaid, overpaidCount),
+                Arrays.copyOf(longReportingLines, longCount),
+                managers, salaryMinorUnits, maxReportingLevel);
+    }
+}
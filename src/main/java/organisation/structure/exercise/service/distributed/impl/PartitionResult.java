@@ -0,0 +1,104 @@
+package organisation.structure.exercise.service.distributed.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Partial analysis of one partition returned by a worker.
+ * Findings are row indices into the partition task; levels are absolute, already offset by the
+ * level of the subtree roots.
+ */
+final class PartitionResult {
+
+    private static final byte OK = 0;
+    private static final byte FAILED = 1;
+
+    final String errorMessage;
+    final int[] levels;
+    final int[] underpaid;
+    final int[] overpaid;
+    final int[] longReportingLines;
+    final int managers;
+    final long salaryMinorUnits;
+    final int maxReportingLevel;
+
+    PartitionResult(int[] levels, int[] underpaid, int[] overpaid, int[] longReportingLines,
+                    int managers, long salaryMinorUnits, int maxReportingLevel) {
+        this.errorMessage = null;
+        this.levels = levels;
+        this.underpaid = underpaid;
+        this.overpaid = overpaid;
+        this.longReportingLines = longReportingLines;
+        this.managers = managers;
+        this.salaryMinorUnits = salaryMinorUnits;
+        this.maxReportingLevel = maxReportingLevel;
+    }
+
+    private PartitionResult(String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.levels = new int[0];
+        this.underpaid = new int[0];
+        this.overpaid = new int[0];
+        this.longReportingLines = new int[0];
+        this.managers = 0;
+        this.salaryMinorUnits = 0;
+        this.maxReportingLevel = 0;
+    }
+
+    static PartitionResult failure(String errorMessage) {
+        return new PartitionResult(errorMessage == null ? "Unknown error" : errorMessage);
+    }
+
+    boolean isSuccess() {
+        return errorMessage == null;
+    }
+
+    void write(DataOutputStream output) throws IOException {
+        output.writeInt(PartitionTask.MAGIC);
+        if (!isSuccess()) {
+            output.writeByte(FAILED);
+            output.writeUTF(errorMessage);
+            output.flush();
+            return;
+        }
+        output.writeByte(OK);
+        writeInts(output, levels);
+        writeInts(output, underpaid);
+        writeInts(output, overpaid);
+        writeInts(output, longReportingLines);
+        output.writeInt(managers);
+        output.writeLong(salaryMinorUnits);
+        output.writeInt(maxReportingLevel);
+        output.flush();
+    }
+
+    /**
+     * Reads a result, rejecting array sizes outside {@code 0..maxRows} before allocating them.
+     */
+    static PartitionResult read(DataInputStream input, int maxRows) throws IOException {
+        if (input.readInt() != PartitionTask.MAGIC) {
+            throw new IOException("Not a partition result");
+        }
+        if (input.readByte() == FAILED) {
+            return failure(input.readUTF());
+        }
+        return new PartitionResult(readInts(input, maxRows), readInts(input, maxRows), readInts(input, maxRows),
+                readInts(input, maxRows), input.readInt(), input.readLong(), input.readInt());
+    }
+
+    private static void writeInts(DataOutputStream output, int[] values) throws IOException {
+        output.writeInt(values.length);
+        for (int value : values) {
+            output.writeInt(value);
+        }
+    }
+
+    private static int[] readInts(DataInputStream input, int maxRows) throws IOException {
+        int[] values = new int[PartitionTask.checkSize(input.readInt(), maxRows)];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = input.readInt();
+        }
+        return values;
+    }
+}
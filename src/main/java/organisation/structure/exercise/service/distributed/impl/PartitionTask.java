@@ -0,0 +1,85 @@
+package organisation.structure.exercise.service.distributed.impl;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+/**
+ * Partition of the organization shipped to a worker: one or more complete subtrees.
+ * Rows carry only what the analysis needs: the salary and the index of the manager within the
+ * partition, or -1 for a subtree root. Managers always precede their reports.
+ */
+final class PartitionTask {
+
+    static final int MAGIC = 0x4F524754;
+    static final int NO_MANAGER = -1;
+
+    final int baseLevel;
+    final double underpaidThreshold;
+    final double overpaidThreshold;
+    final int maxReportingLevels;
+    final double[] salaries;
+    final int[] managers;
+
+    PartitionTask(int baseLevel, double underpaidThreshold, double overpaidThreshold, int maxReportingLevels,
+                  double[] salaries, int[] managers) {
+        this.baseLevel = baseLevel;
+        this.underpaidThreshold = underpaidThreshold;
+        this.overpaidThreshold = overpaidThreshold;
+        this.maxReportingLevels = maxReportingLevels;
+        this.salaries = salaries;
+        this.managers = managers;
+    }
+
+    int size() {
+        return salaries.length;
+    }
+
+    void write(DataOutputStream output) throws IOException {
+        output.writeInt(MAGIC);
+        output.writeInt(baseLevel);
+        output.writeDouble(underpaidThreshold);
+        output.writeDouble(overpaidThreshold);
+        output.writeInt(maxReportingLevels);
+        output.writeInt(salaries.length);
+        for (int i = 0; i < salaries.length; i++) {
+            output.writeDouble(salaries[i]);
+            output.writeInt(managers[i]);
+        }
+        output.flush();
+    }
+
+    /**
+     * Reads a task, rejecting a size outside {@code 0..maxRows} before any row array is allocated.
+     */
+    static PartitionTask read(DataInputStream input, int maxRows) throws IOException {
+        if (input.readInt() != MAGIC) {
+            throw new IOException("Not a partition task");
+        }
+        int baseLevel = input.readInt();
+        double underpaidThreshold = input.readDouble();
+        double overpaidThreshold = input.readDouble();
+        int maxReportingLevels = input.readInt();
+        int size = checkSize(input.readInt(), maxRows);
+        double[] salaries = new double[size];
+        int[] managers = new int[size];
+        for (int i = 0; i < size; i++) {
+            salaries[i] = input.readDouble();
+            managers[i] = input.readInt();
+            if (managers[i] >= i || managers[i] < NO_MANAGER) {
+                throw new IOException("Manager of row " + i + " does not precede it");
+            }
+        }
+        return new PartitionTask(baseLevel, underpaidThreshold, overpaidThreshold, maxReportingLevels, salaries, managers);
+    }
+
+    /**
+     * Validates a row count read from the wire.
+     */
+    static int checkSize(int size, int maxRows) throws IOException {
+        if (size < 0 || size > maxRows) {
+            throw new IOException("Partition size " + size + " outside the allowed range 0.." + maxRows);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,50 @@
+package organisation.structure.exercise.service.export;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+
+/**
+ * Interface for exporting a built hierarchy for org-chart tooling.
+ * Trees are walked iteratively and streamed to the writer as they are visited, so exports of very
+ * large or very deep organizations need no recursion and keep only the current reporting line in memory.
+ */
+public interface HierarchyExportService {
+
+    /**
+     * Unlimited export depth.
+     */
+    int ALL_LEVELS = Integer.MAX_VALUE;
+
+    /**
+     * Writes the subtree below an employee, including the employee.
+     *
+     * @param root     Root of the export, typically the CEO or a manager for subtree-only exports
+     * @param format   Output format
+     * @param maxDepth Maximum number of levels below the root; 0 exports the root alone
+     * @param writer   Destination; buffered internally, flushed but not closed
+     * @return Number of employees written
+     * @throws IOException if writing fails
+     */
+    long export(Employee root, HierarchyExportFormat format, int maxDepth, Writer writer) throws IOException;
+
+    /**
+     * Writes the subtree below an employee to a UTF-8 file, replacing an existing file.
+     *
+     * @return Number of employees written
+     * @throws IOException if the file cannot be written
+     */
+    long exportToFile(Employee root, HierarchyExportFormat format, int maxDepth, Path path) throws IOException;
+
+    /**
+     * Finds an employee in the hierarchy below a root by ID, without recursion.
+     *
+     * @param root       Root to search from
+     * @param employeeId Employee ID
+     * @return The employee, or null if it is not part of the root's subtree
+     */
+    Employee findInHierarchy(Employee root, String employeeId);
+}
@@ -0,0 +1,71 @@
+package organisation.structure.exercise.service.export.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+import organisation.structure.exercise.service.export.HierarchyExportService;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Streams hierarchies as nested JSON, Graphviz DOT or an indented outline.
+ */
+@Slf4j
+@Service
+public class DefaultHierarchyExportService implements HierarchyExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    @Override
+    public long export(@NonNull final Employee root, @NonNull final HierarchyExportFormat format,
+                       int maxDepth, @NonNull final Writer writer) throws IOException {
+        if (maxDepth < 0) {
+            throw new IllegalArgumentException("Export depth must not be negative: " + maxDepth);
+        }
+        Writer out = writer instanceof BufferedWriter ? writer : new BufferedWriter(writer, BUFFER_SIZE);
+        long written = HierarchyWriter.of(format, out).write(root, maxDepth);
+
+        log.debug("[Organization Analyzes] Exported {} employees below {} as {}", written, root.getId(), format);
+        return written;
+    }
+
+    @Override
+    public long exportToFile(@NonNull final Employee root, @NonNull final HierarchyExportFormat format,
+                             int maxDepth, @NonNull final Path path) throws IOException {
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            long written = export(root, format, maxDepth, writer);
+            log.info("[Organization Analyzes] Exported {} employees as {} to {}", written, format, path);
+            return written;
+        }
+    }
+
+    @Override
+    public Employee findInHierarchy(@NonNull final Employee root, String employeeId) {
+        if (employeeId == null) {
+            return null;
+        }
+        Deque<Employee> pending = new ArrayDeque<>();
+        pending.push(root);
+        while (!pending.isEmpty()) {
+            Employee employee = pending.pop();
+            if (employeeId.equals(employee.getId())) {
+                return employee;
+            }
+            employee.getDirectSubordinates().forEach(pending::push);
+        }
+        return null;
+    }
+}
@@ -0,0 +1,247 @@
+package organisation.structure.exercise.service.export.impl;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HierarchyExportFormat;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Depth-first hierarchy walk that streams one format to a writer.
+ * The walk keeps an explicit stack holding the current reporting line and, per level, the next
+ * report to visit, so memory grows with the depth of the exported tree and never with its size.
+ */
+abstract class HierarchyWriter {
+
+    protected final Writer out;
+
+    HierarchyWriter(Writer out) {
+        this.out = out;
+    }
+
+    static HierarchyWriter of(HierarchyExportFormat format, Writer out) {
+        return switch (format) {
+            case JSON -> new JsonWriter(out);
+            case DOT -> new DotWriter(out);
+            case OUTLINE -> new OutlineWriter(out);
+        };
+    }
+
+    /**
+     * Writes the subtree of the root down to the given depth.
+     *
+     * @return Number of employees written
+     */
+    final long write(Employee root, int maxDepth) throws IOException {
+        Employee[] path = new Employee[16];
+        int[] nextReport = new int[16];
+        int top = 0;
+        path[0] = root;
+        long written = 1;
+
+        begin();
+        enter(root, null, 0, 0);
+        while (top >= 0) {
+            List<Employee> reports = path[top].getDirectSubordinates();
+            if (top < maxDepth && nextReport[top] < reports.size()) {
+                int sibling = nextReport[top]++;
+                if (++top == path.length) {
+                    path = Arrays.copyOf(path, top * 2);
+                    nextReport = Arrays.copyOf(nextReport, top * 2);
+                }
+                path[top] = reports.get(sibling);
+                nextReport[top] = 0;
+                enter(path[top], path[top - 1], top, sibling);
+                written++;
+            } else {
+                exit(path[top], top);
+                path[top--] = null;
+            }
+        }
+        end();
+        out.flush();
+        return written;
+    }
+
+    abstract void begin() throws IOException;
+
+    /**
+     * Called when an employee is reached, before any of their reports.
+     *
+     * @param manager Manager of the employee within the export, null for the export root
+     * @param sibling Position of the employee among their manager's reports
+     */
+    abstract void enter(Employee employee, Employee manager, int depth, int sibling) throws IOException;
+
+    /**
+     * Called once all exported reports of an employee have been written.
+     */
+    abstract void exit(Employee employee, int depth) throws IOException;
+
+    abstract void end() throws IOException;
+
+    static String formatSalary(double salary) {
+        return salary == Math.rint(salary) && Math.abs(salary) < 1e15
+                ? Long.toString((long) salary)
+                : BigDecimal.valueOf(salary).toPlainString();
+    }
+
+    /**
+     * Writes a string literal with quotes, backslashes and control characters escaped.
+     */
+    final void writeQuoted(String value) throws IOException {
+        out.write('"');
+        if (value != null) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '"' -> out.write("\\\"");
+                    case '\\' -> out.write("\\\\");
+                    case '\n' -> out.write("\\n");
+                    case '\r' -> out.write("\\r");
+                    case '\t' -> out.write("\\t");
+                    default -> {
+                        if (c < 0x20) {
+                            out.write(String.format("\\u%04x", (int) c));
+                        } else {
+                            out.write(c);
+                        }
+                    }
+                }
+            }
+        }
+        out.write('"');
+    }
+
+    /**
+     * One JSON object per employee with a {@code reports} array; {@code directReports} keeps the
+     * full count so that depth-limited exports show where the tree was cut.
+     */
+    private static final class JsonWriter extends HierarchyWriter {
+
+        JsonWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void begin() {
+        }
+
+        @Override
+        void enter(Employee employee, Employee manager, int depth, int sibling) throws IOException {
+            if (sibling > 0) {
+                out.write(',');
+            }
+            out.write("{\"id\":");
+            writeQuoted(employee.getId());
+            out.write(",\"firstName\":");
+            writeQuoted(employee.getFirstName());
+            out.write(",\"lastName\":");
+            writeQuoted(employee.getLastName());
+            out.write(",\"salary\":");
+            out.write(formatSalary(employee.getSalary()));
+            out.write(",\"managerId\":");
+            if (employee.getManagerId() == null) {
+                out.write("null");
+            } else {
+                writeQuoted(employee.getManagerId());
+            }
+            out.write(",\"reportingLevel\":");
+            out.write(Integer.toString(employee.getReportingLevel()));
+            out.write(",\"directReports\":");
+            out.write(Integer.toString(employee.getDirectSubordinates().size()));
+            out.write(",\"reports\":[");
+        }
+
+        @Override
+        void exit(Employee employee, int depth) throws IOException {
+            out.write("]}");
+        }
+
+        @Override
+        void end() throws IOException {
+            out.write('\n');
+        }
+    }
+
+    /**
+     * Graphviz digraph; nodes are labelled with name and salary, edges point from manager to report.
+     */
+    private static final class DotWriter extends HierarchyWriter {
+
+        DotWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void begin() throws IOException {
+            out.write("digraph organization {\n  node [shape=box];\n");
+        }
+
+        @Override
+        void enter(Employee employee, Employee manager, int depth, int sibling) throws IOException {
+            out.write("  ");
+            writeQuoted(employee.getId());
+            out.write(" [label=");
+            writeQuoted(employee.getFullName() + "\n" + formatSalary(employee.getSalary()));
+            out.write("];\n");
+            if (manager != null) {
+                out.write("  ");
+                writeQuoted(manager.getId());
+                out.write(" -> ");
+                writeQuoted(employee.getId());
+                out.write(";\n");
+            }
+        }
+
+        @Override
+        void exit(Employee employee, int depth) {
+        }
+
+        @Override
+        void end() throws IOException {
+            out.write("}\n");
+        }
+    }
+
+    /**
+     * Indented text outline, one employee per line.
+     */
+    private static final class OutlineWriter extends HierarchyWriter {
+
+        OutlineWriter(Writer out) {
+            super(out);
+        }
+
+        @Override
+        void begin() {
+        }
+
+        @Override
+        void enter(Employee employee, Employee manager, int depth, int sibling) throws IOException {
+            for (int i = 0; i < depth; i++) {
+                out.write("  ");
+            }
+            out.write("- ");
+            out.write(employee.getFullName());
+            out.write(" (ID: ");
+            out.write(employee.getId());
+            out.write(", Salary: ");
+            out.write(formatSalary(employee.getSalary()));
+            out.write(", Reports: ");
+            out.write(Integer.toString(employee.getDirectSubordinates().size()));
+            out.write(")\n");
+        }
+
+        @Override
+        void exit(Employee employee, int depth) {
+        }
+
+        @Override
+        void end() {
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package organisation.structure.exercise.service.history;
+
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.HistoricalSnapshot;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.NavigableSet;
+
+/**
+ * Interface for the time-versioned organization store.
+ * Successive versions are kept as persistent maps that share unchanged employees, so memory grows
+ * with the total amount of change rather than with the number of versions times the organization size.
+ */
+public interface HistoricalSnapshotStore {
+
+    /**
+     * Records the organization as of the given date, derived from the closest earlier version.
+     * A version already recorded for that date is replaced.
+     *
+     * @param asOf Date the employee data describes
+     * @param employees Employee records as loaded from a data source
+     * @return The recorded version
+     * @throws IllegalArgumentException if the records contain duplicate IDs
+     */
+    HistoricalSnapshot record(LocalDate asOf, List<Employee> employees);
+
+    /**
+     * Gets the version in effect on the given date, which is the latest one recorded on or before it.
+     *
+     * @param asOf Date to look up
+     * @return Version in effect, or null if nothing was recorded on or before that date
+     */
+    HistoricalSnapshot getVersion(LocalDate asOf);
+
+    /**
+     * Gets the dates of all recorded versions in ascending order.
+     */
+    NavigableSet<LocalDate> getVersionDates();
+
+    /**
+     * Materialises the version in effect on the given date as new mutable employees,
+     * which can be passed to any method of the analyzer API.
+     *
+     * @param asOf Date to look up
+     * @return Employees of that version, or an empty list if there is none
+     */
+    List<Employee> getEmployees(LocalDate asOf);
+
+    /**
+     * Analyzes the version in effect on the given date.
+     *
+     * @param asOf Date to look up
+     * @return AnalysisResult of that version, or a failure if there is none
+     */
+    AnalysisResult analyze(LocalDate asOf);
+
+    /**
+     * Removes the version recorded for exactly the given date.
+     *
+     * @param asOf Date of the version
+     * @return true if a version was removed
+     */
+    boolean remove(LocalDate asOf);
+}
@@ -0,0 +1,122 @@
+package organisation.structure.exercise.service.history.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.PersistentHashMap;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeRecord;
+import organisation.structure.exercise.core.model.HistoricalSnapshot;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.history.HistoricalSnapshotStore;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Default implementation of historical snapshot store.
+ * Each new version starts from the persistent map of the closest earlier version and applies only
+ * the differences; unchanged records and trie nodes are shared, and an unchanged record costs nothing.
+ */
+@Slf4j
+@Service
+public class DefaultHistoricalSnapshotStore implements HistoricalSnapshotStore {
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    private final ConcurrentNavigableMap<LocalDate, HistoricalSnapshot> versions = new ConcurrentSkipListMap<>();
+
+    @Override
+    public synchronized HistoricalSnapshot record(@NonNull final LocalDate asOf, @NonNull final List<Employee> employees) {
+        Map.Entry<LocalDate, HistoricalSnapshot> base = versions.lowerEntry(asOf);
+        PersistentHashMap<String, EmployeeRecord> previous = base == null
+                ? PersistentHashMap.empty()
+                : base.getValue().getEmployees();
+
+        PersistentHashMap<String, EmployeeRecord> current = previous;
+        Set<String> ids = new HashSet<>(employees.size() * 4 / 3 + 1);
+        int changed = 0;
+
+        for (Employee employee : employees) {
+            if (!ids.add(employee.getId())) {
+                throw new IllegalArgumentException("Duplicate employee ID in version " + asOf + ": " + employee.getId());
+            }
+            PersistentHashMap<String, EmployeeRecord> updated = current.put(employee.getId(), EmployeeRecord.of(employee));
+            if (updated != current) {
+                changed++;
+                current = updated;
+            }
+        }
+
+        // Departures are the base keys missing from the new data
+        List<String> departed = new ArrayList<>();
+        previous.forEach((id, employee) -> {
+            if (!ids.contains(id)) {
+                departed.add(id);
+            }
+        });
+        for (String id : departed) {
+            current = current.remove(id);
+        }
+
+        HistoricalSnapshot snapshot = new HistoricalSnapshot(asOf, current, changed, departed.size());
+        versions.put(asOf, snapshot);
+
+        log.info("[Organization Analyzes] Recorded organization as of {}: {} employees, {} added or changed, {} removed, {} shared with {}",
+                asOf, current.size(), changed, departed.size(), current.size() - changed,
+                base == null ? "no earlier version" : base.getKey());
+        return snapshot;
+    }
+
+    @Override
+    public HistoricalSnapshot getVersion(@NonNull final LocalDate asOf) {
+        Map.Entry<LocalDate, HistoricalSnapshot> entry = versions.floorEntry(asOf);
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public NavigableSet<LocalDate> getVersionDates() {
+        return Collections.unmodifiableNavigableSet(versions.navigableKeySet());
+    }
+
+    @Override
+    public List<Employee> getEmployees(@NonNull final LocalDate asOf) {
+        HistoricalSnapshot snapshot = getVersion(asOf);
+        return snapshot == null ? new ArrayList<>() : snapshot.toEmployees();
+    }
+
+    @Override
+    public AnalysisResult analyze(@NonNull final LocalDate asOf) {
+        HistoricalSnapshot snapshot = getVersion(asOf);
+        if (snapshot == null) {
+            log.error("[Organization Analyzes] No organization version recorded on or before {}", asOf);
+            return AnalysisResult.failure("No organization version recorded on or before " + asOf);
+        }
+
+        try {
+            List<Employee> employees = snapshot.toEmployees();
+            return organizationalAnalyzerService.analyzeSnapshot(OrganizationSnapshot.of(snapshot.getAsOf().toEpochDay(), employees));
+        } catch (IllegalArgumentException e) {
+            log.error("[Organization Analyzes] Error analyzing organization as of {}: {}", asOf, e.getMessage());
+            return AnalysisResult.failure("Error analyzing organization as of " + asOf + ": " + e.getMessage());
+        }
+    }
+
+    @Override
+    public boolean remove(@NonNull final LocalDate asOf) {
+        // Later versions hold complete persistent maps, so removing one version never invalidates another
+        return versions.remove(asOf) != null;
+    }
+}
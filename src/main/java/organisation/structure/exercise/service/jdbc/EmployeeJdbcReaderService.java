@@ -0,0 +1,31 @@
+package organisation.structure.exercise.service.jdbc;
+
+import organisation.structure.exercise.core.model.Employee;
+
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Interface for reading employee data directly from the configured datasource.
+ */
+public interface EmployeeJdbcReaderService {
+
+    /**
+     * Reads all employees returned by the configured employee query.
+     *
+     * @return List of Employee objects read from the database
+     * @throws SQLException If there's an error reading from the database
+     */
+    List<Employee> readEmployeesFromDatabase() throws SQLException;
+
+    /**
+     * Streams employees returned by the configured employee query to the consumer,
+     * one row at a time through a forward-only cursor.
+     *
+     * @param consumer Receives each employee as its row is read
+     * @return Number of employees streamed
+     * @throws SQLException If there's an error reading from the database
+     */
+    long streamEmployeesFromDatabase(Consumer<Employee> consumer) throws SQLException;
+}
@@ -0,0 +1,118 @@
+package organisation.structure.exercise.service.jdbc.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.JdbcProperties;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.NameDictionary;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.service.jdbc.EmployeeJdbcReaderService;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * JDBC implementation of the employee source.
+ * Reads with a read-only, forward-only cursor and a tuned fetch size, so rows are streamed
+ * from the database instead of being buffered as a whole by the driver.
+ */
+@Slf4j
+@Service
+public class DefaultEmployeeJdbcReaderService implements EmployeeJdbcReaderService {
+
+    private static final int BATCH_SIZE = 1000; // Log progress every batch of rows
+
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcProperties jdbcProperties;
+
+    @Override
+    public List<Employee> readEmployeesFromDatabase() throws SQLException {
+        List<Employee> employees = new IndexedEmployeeList();
+        streamEmployeesFromDatabase(employees::add);
+        return employees;
+    }
+
+    @Override
+    public long streamEmployeesFromDatabase(@NonNull final Consumer<Employee> consumer) throws SQLException {
+        log.info("[Organization Analyzes] Starting employee read from the database (fetch size: {})", jdbcProperties.getFetchSize());
+
+        long rowCount = 0;
+        // Repeated first and last names share one String per distinct name
+        NameDictionary names = new NameDictionary();
+        try (Connection connection = dataSource().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            // Drivers such as PostgreSQL only use a server-side cursor outside auto-commit mode
+            connection.setAutoCommit(false);
+            connection.setReadOnly(true);
+
+            try (PreparedStatement statement = connection.prepareStatement(jdbcProperties.getEmployeeQuery(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                statement.setFetchSize(jdbcProperties.getFetchSize());
+
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        consumer.accept(mapEmployee(resultSet, names));
+                        rowCount++;
+
+                        if (rowCount % BATCH_SIZE == 0) {
+                            log.debug("[Organization Analyzes] Read {} employees from the database", rowCount);
+                        }
+                    }
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setReadOnly(false);
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        log.info("[Organization Analyzes] Database read completed. Employees loaded: {}, Distinct names: {}", rowCount, names.size());
+        return rowCount;
+    }
+
+    private DataSource dataSource() {
+        if (dataSource == null) {
+            throw new IllegalStateException("No datasource configured: set spring.datasource.url");
+        }
+        return dataSource;
+    }
+
+    /**
+     * Maps the current row to an employee using the column order of the configured query.
+     *
+     * @param resultSet Result set positioned on a row
+     * @param names Dictionary canonicalising the name parts of this read
+     * @return Employee object for the row
+     * @throws SQLException If a column cannot be read
+     */
+    private Employee mapEmployee(ResultSet resultSet, NameDictionary names) throws SQLException {
+        String id = trim(resultSet.getString(1));
+        String firstName = names.canonical(trim(resultSet.getString(2)));
+        String lastName = names.canonical(trim(resultSet.getString(3)));
+        double salary = resultSet.getDouble(4);
+
+        String managerId = trim(resultSet.getString(5));
+        if (managerId != null && managerId.isEmpty()) {
+            managerId = null;
+        }
+
+        return new Employee(id, firstName, lastName, salary, managerId);
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+}
@@ -1,7 +1,11 @@
 package organisation.structure.exercise.service.logging;
 
+import organisation.structure.exercise.core.model.AnalysisPreview;
 import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.OrganizationDiffSummary;
 import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.core.model.RestructuringPlan;
+import organisation.structure.exercise.core.model.ThresholdSweepResult;
 
 /**
  * Interface for the organizational analysis view.
@@ -23,6 +27,34 @@ public interface OrganizationalAnalysisLogging {
      */
     void displayAnalysisResults(AnalysisResult result);
     
+    /**
+     * Displays a sampled preview with its confidence intervals.
+     * 
+     * @param preview The preview to display
+     */
+    void displayPreview(AnalysisPreview preview);
+    
+    /**
+     * Displays the flagged counts of every candidate threshold of a sweep.
+     * 
+     * @param sweep The sweep result to display
+     */
+    void displayThresholdSweep(ThresholdSweepResult sweep);
+    
+    /**
+     * Displays the highest-ranked moves of a restructuring plan.
+     * 
+     * @param plan The restructuring plan to display
+     */
+    void displayRestructuringPlan(RestructuringPlan plan);
+    
+    /**
+     * Displays the change totals of a comparison with an earlier organization version.
+     * 
+     * @param diff The diff summary to display
+     */
+    void displayOrganizationDiff(OrganizationDiffSummary diff);
+    
     /**
      * Displays an error message.
      * 
@@ -2,14 +2,29 @@ package organisation.structure.exercise.service.logging.impl;
 
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.QuantileSketch;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.AnalysisPreview;
 import organisation.structure.exercise.core.model.AnalysisResult;
 import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationDiffSummary;
 import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.core.model.RestructuringPlan;
+import organisation.structure.exercise.core.model.SalaryAnomaly;
+import organisation.structure.exercise.core.model.SalaryPercentiles;
+import organisation.structure.exercise.core.model.SpanOfControlAnalysis;
+import organisation.structure.exercise.core.model.ThresholdSweepResult;
+import organisation.structure.exercise.core.rule.impl.LongReportingLineRule;
+import organisation.structure.exercise.core.rule.impl.OverpaidManagerRule;
+import organisation.structure.exercise.core.rule.impl.UnderpaidManagerRule;
 import organisation.structure.exercise.core.util.LoggingUtil;
 import organisation.structure.exercise.service.logging.OrganizationalAnalysisLogging;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * Console-based view implementation for organizational analysis.
@@ -19,6 +34,12 @@ import java.util.List;
 @Service
 public class DefaultOrganizationalAnalysisLogging implements OrganizationalAnalysisLogging {
 
+    private static final Set<String> BUILT_IN_RULES =
+            Set.of(UnderpaidManagerRule.NAME, OverpaidManagerRule.NAME, LongReportingLineRule.NAME);
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
     @Override
     public void displayAnalysisResults(AnalysisResult result) {
         if (result.isSuccess()) {
@@ -28,18 +49,29 @@ public class DefaultOrganizationalAnalysisLogging implements OrganizationalAnaly
                 displayOrganizationalSummary(result.getOrganizationalSummary());
             }
 
-            if (result.getUnderpaidManagers() != null && !result.getUnderpaidManagers().isEmpty()) {
-                displayUnderpaidManagers(result.getUnderpaidManagers());
+            if (result.getUnderpaidManagerView() != null && !result.getUnderpaidManagerView().isEmpty()) {
+                displayUnderpaidManagers(result.getUnderpaidManagerView());
+            }
+
+            if (result.getOverpaidManagerView() != null && !result.getOverpaidManagerView().isEmpty()) {
+                displayOverpaidManagers(result.getOverpaidManagerView());
             }
 
-            if (result.getOverpaidManagers() != null && !result.getOverpaidManagers().isEmpty()) {
-                displayOverpaidManagers(result.getOverpaidManagers());
+            if (result.getLongReportingLineView() != null && !result.getLongReportingLineView().isEmpty()) {
+                displayLongReportingLines(result.getLongReportingLineView());
             }
 
-            if (result.getEmployeesWithLongReportingLines() != null && !result.getEmployeesWithLongReportingLines().isEmpty()) {
-                displayLongReportingLines(result.getEmployeesWithLongReportingLines());
+            if (result.getSalaryAnomalies() != null && !result.getSalaryAnomalies().isEmpty()) {
+                displaySalaryAnomalies(result.getSalaryAnomalies());
             }
 
+            // Built-in rules are shown above; every other configured rule gets a generic section
+            result.getFindingsByRule().forEach((ruleName, findings) -> {
+                if (!BUILT_IN_RULES.contains(ruleName) && !findings.isEmpty()) {
+                    displayRuleFindings(ruleName, findings);
+                }
+            });
+
         } else {
             displayError(result.getErrorMessage());
         }
@@ -58,6 +90,109 @@ public class DefaultOrganizationalAnalysisLogging implements OrganizationalAnaly
         log.info("[Organization Analyzes] Total Salary Budget: {}", LoggingUtil.logSwissFrankValue(totalSalaryBudget));
         double averageSalary = summary.getAverageSalary();
         log.info("[Organization Analyzes] Average Salary: {}", LoggingUtil.logSwissFrankValue(averageSalary));
+
+        SpanOfControlAnalysis spanOfControl = summary.getSpanOfControl();
+        if (spanOfControl != null) {
+            log.info("[Organization Analyzes] Span of Control: max [{}], average [{}]",
+                    spanOfControl.getMaxFanOut(), String.format("%.2f", spanOfControl.getAverageFanOut()));
+            for (SpanOfControlAnalysis.LevelBand band : spanOfControl.getLevels()) {
+                log.info("[Organization Analyzes] Level [{}]: [{}] employees, [{}] managers, salaries {} - {}",
+                        band.getLevel(), band.getHeadcount(), band.getManagers(),
+                        LoggingUtil.logSwissFrankValue(band.getSalaries().getMin()),
+                        LoggingUtil.logSwissFrankValue(band.getSalaries().getMax()));
+            }
+        }
+
+        SalaryPercentiles percentiles = summary.getSalaryPercentiles();
+        if (percentiles != null) {
+            percentiles.getByLevel().forEach((level, sketch) ->
+                    log.info("[Organization Analyzes] Level [{}] salary percentiles: {}", level, formatPercentiles(sketch)));
+            percentiles.getBySubtree().forEach((managerId, sketch) ->
+                    log.info("[Organization Analyzes] Subtree of [{}] salary percentiles: {}", managerId, formatPercentiles(sketch)));
+        }
+    }
+
+    private String formatPercentiles(QuantileSketch sketch) {
+        StringBuilder formatted = new StringBuilder();
+        for (double quantile : analysisProperties.getPercentiles().getReported()) {
+            if (!formatted.isEmpty()) {
+                formatted.append(", ");
+            }
+            formatted.append("p").append(Math.round(quantile * 100)).append(" ")
+                    .append(LoggingUtil.logSwissFrankValue(sketch.quantile(quantile)));
+        }
+        return formatted.toString();
+    }
+
+    @Override
+    public void displayPreview(AnalysisPreview preview) {
+        if (!preview.isSuccess()) {
+            displayError(preview.getErrorMessage());
+            return;
+        }
+        displaySuccess("[Organization Analyzes] === " + (preview.isExact() ? "EXACT" : "SAMPLED") + " PREVIEW ===");
+        log.info("[Organization Analyzes] File: [{}], sampled [{}] rows reading {}% of [{}] bytes ([{}] invalid rows)",
+                preview.getFilePath(), preview.getSampledRows(), String.format("%.2f", preview.getFractionRead() * 100),
+                preview.getFileBytes(), preview.getInvalidRows());
+        log.info("[Organization Analyzes] Confidence Level: [{}%]", String.format("%.0f", preview.getConfidenceLevel() * 100));
+        log.info("[Organization Analyzes] Employees: [{}] ± [{}]",
+                Math.round(preview.getEmployees().getValue()), Math.round(preview.getEmployees().getMarginOfError()));
+        log.info("[Organization Analyzes] Total Salary Budget: {} ± {}",
+                LoggingUtil.logSwissFrankValue(preview.getTotalSalary().getValue()),
+                LoggingUtil.logSwissFrankValue(preview.getTotalSalary().getMarginOfError()));
+        log.info("[Organization Analyzes] Average Salary: {} ± {}",
+                LoggingUtil.logSwissFrankValue(preview.getAverageSalary().getValue()),
+                LoggingUtil.logSwissFrankValue(preview.getAverageSalary().getMarginOfError()));
+        log.info("[Organization Analyzes] Salary percentiles: {}", formatPercentiles(preview.getSalaryDistribution()));
+    }
+
+    @Override
+    public void displayThresholdSweep(ThresholdSweepResult sweep) {
+        log.info("-------------------------------------------------------");
+        log.info("[Organization Analyzes] === THRESHOLD SENSITIVITY ===");
+        log.info("[Organization Analyzes] Managers: [{}], Employees: [{}]", sweep.getManagers(), sweep.getTotalEmployees());
+        sweep.getUnderpaidCounts().forEach((threshold, count) ->
+                log.info("[Organization Analyzes] Underpaid threshold [{}]: [{}] managers", threshold, count));
+        sweep.getOverpaidCounts().forEach((threshold, count) ->
+                log.info("[Organization Analyzes] Overpaid threshold [{}]: [{}] managers", threshold, count));
+        sweep.getLongReportingLineCounts().forEach((limit, count) ->
+                log.info("[Organization Analyzes] Max reporting levels [{}]: [{}] employees with too long reporting lines", limit, count));
+    }
+
+    @Override
+    public void displayRestructuringPlan(RestructuringPlan plan) {
+        log.info("-------------------------------------------------------");
+        log.info("[Organization Analyzes] === RESTRUCTURING RECOMMENDATION ===");
+        log.info("[Organization Analyzes] [{}] moves of [{}] employees fix [{}] of [{}] too long reporting lines (limit: [{}] levels)",
+                plan.getMoves().size(), plan.getEmployeesMoved(),
+                plan.getLongReportingLines() - plan.getRemainingLongReportingLines(),
+                plan.getLongReportingLines(), plan.getMaxReportingLevels());
+
+        List<RestructuringPlan.Move> moves = plan.getMoves();
+        int reported = Math.min(moves.size(), analysisProperties.getRestructuring().getReportedMoves());
+        for (int i = 0; i < reported; i++) {
+            RestructuringPlan.Move move = moves.get(i);
+            log.info("[Organization Analyzes] {}. Move [{}] (ID: [{}]) and [{}] employees from [{}] (ID: [{}]) to [{}] (ID: [{}]): " +
+                            "level [{}] -> [{}], fixes [{}], remaining [{}], salary findings +[{}]/-[{}]",
+                    i + 1, move.getEmployee().getFullName(), move.getEmployee().getId(), move.getMovedEmployees() - 1,
+                    move.getFromManager().getFullName(), move.getFromManager().getId(),
+                    move.getToManager().getFullName(), move.getToManager().getId(),
+                    move.getCurrentLevel(), move.getNewLevel(), move.getEmployeesFixed(),
+                    move.getRemainingLongReportingLines(), move.getSalaryFindingsIntroduced(), move.getSalaryFindingsResolved());
+        }
+        if (reported < moves.size()) {
+            log.info("[Organization Analyzes] ... and [{}] more moves", moves.size() - reported);
+        }
+    }
+
+    @Override
+    public void displayOrganizationDiff(OrganizationDiffSummary diff) {
+        log.info("-------------------------------------------------------");
+        log.info("[Organization Analyzes] === ORGANIZATION CHANGES ===");
+        log.info("[Organization Analyzes] Employees: [{}] -> [{}]", diff.getEmployeesBefore(), diff.getEmployeesAfter());
+        log.info("[Organization Analyzes] Hires: [{}], departures: [{}], salary changes: [{}], manager moves: [{}], status changes: [{}]",
+                diff.getHires(), diff.getDepartures(), diff.getSalaryChanges(), diff.getManagerMoves(), diff.getStatusChanges());
+        log.info("[Organization Analyzes] Salary budget change: {}", LoggingUtil.logSwissFrankValue(diff.getSalaryBudgetDelta()));
     }
 
     @Override
@@ -78,37 +213,62 @@ public class DefaultOrganizationalAnalysisLogging implements OrganizationalAnaly
     }
 
 
-    private void displayUnderpaidManagers(@NonNull final List<Employee> managers) {
+    private void displayUnderpaidManagers(@NonNull final EmployeeResultView managers) {
         log.info("--------------------------------------------------------");
         log.info("[Organization Analyzes]  === MANAGER SALARY ANALYSIS ===");
         log.info("[Organization Analyzes] ⚠ UNDERPAID MANAGERS:");
         for (Employee manager : managers) {
-            double underpayment = manager.getUnderpaymentAmount();
+            double underpayment = managers.severityOf(manager);
             log.info("[Organization Analyzes] [{}] (ID: [{}]): Underpaid by {}",
                     manager.getFullName(), manager.getId(), LoggingUtil.logSwissFrankValue(underpayment));
         }
     }
 
-    private void displayOverpaidManagers(@NonNull final List<Employee> managers) {
+    private void displayOverpaidManagers(@NonNull final EmployeeResultView managers) {
         log.info("--------------------------------------------");
         log.info("[Organization Analyzes] ⚠ OVERPAID MANAGERS:");
         for (Employee manager : managers) {
-            double overpayment = manager.getOverpaymentAmount();
+            double overpayment = managers.severityOf(manager);
             log.info("[Organization Analyzes] [{}] (ID: [{}]): Overpaid by {}",
                     manager.getFullName(), manager.getId(), LoggingUtil.logSwissFrankValue(overpayment));
         }
     }
 
-    private void displayLongReportingLines(@NonNull final List<Employee> employees) {
+    private void displaySalaryAnomalies(@NonNull final List<SalaryAnomaly> anomalies) {
+        log.info("-------------------------------------------------------");
+        log.info("[Organization Analyzes] === PEER SALARY ANALYSIS ===");
+        log.info("[Organization Analyzes] ⚠ SALARIES OUTSIDE PEER GROUP:");
+        for (SalaryAnomaly anomaly : anomalies) {
+            log.info("[Organization Analyzes] [{}] (ID: [{}]): {} is [{}] standard deviations {} the peer mean of {} (Level: [{}], Branch: [{}], Peers: [{}])",
+                    anomaly.getEmployee().getFullName(), anomaly.getEmployee().getId(),
+                    LoggingUtil.logSwissFrankValue(anomaly.getEmployee().getSalary()),
+                    String.format("%.2f", Math.abs(anomaly.getZScore())), anomaly.isBelowPeers() ? "below" : "above",
+                    LoggingUtil.logSwissFrankValue(anomaly.getPeerMeanSalary()),
+                    anomaly.getLevel(), anomaly.getBranchId(), anomaly.getPeerGroupSize());
+        }
+    }
+
+    private void displayRuleFindings(@NonNull final String ruleName, @NonNull final EmployeeResultView findings) {
+        log.info("-------------------------------------------------------");
+        log.info("[Organization Analyzes] === RULE [{}] ===", ruleName);
+        log.info("[Organization Analyzes] ⚠ [{}] FINDINGS:", findings.count());
+        for (Employee employee : findings) {
+            log.info("[Organization Analyzes] [{}] (ID: [{}]): severity [{}] (Employee Level: [{}], Direct Reports: [{}])",
+                    employee.getFullName(), employee.getId(), String.format("%.2f", findings.severityOf(employee)),
+                    employee.getReportingLevel(), employee.getDirectSubordinates().size());
+        }
+    }
+
+    private void displayLongReportingLines(@NonNull final EmployeeResultView employees) {
         log.info("-------------------------------------------------------");
         log.info("[Organization Analyzes] === REPORTING LINE ANALYSIS ===");
         log.info("[Organization Analyzes] ⚠ EMPLOYEES WITH TOO LONG REPORTING LINES:");
         for (Employee employee : employees) {
-            int excessLevels = employee.getExcessReportingLevels();
+            int excessLevels = (int) employees.severityOf(employee);
             log.info("[Organization Analyzes] Employee: [{}] (ID: [{}]) is [{}] levels too deep in organization hierarchy (Employee Level: [{}]). " +
-                            "Company wants to avoid too long reporting lines, and this employee has more than 4 managers between them and the CEO, which is not allowed.",
+                            "Company wants to avoid too long reporting lines, and this employee has more than {} managers between them and the CEO, which is not allowed.",
                     employee.getFullName(), employee.getId(),
-                    excessLevels, employee.getReportingLevel());
+                    excessLevels, employee.getReportingLevel(), analysisProperties.getMaxReportingLevels());
         }
     }
 }
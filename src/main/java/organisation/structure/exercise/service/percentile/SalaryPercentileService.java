@@ -0,0 +1,20 @@
+package organisation.structure.exercise.service.percentile;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryPercentiles;
+
+import java.util.List;
+
+/**
+ * Interface for approximate salary percentiles per reporting level and per subtree.
+ */
+public interface SalaryPercentileService {
+
+    /**
+     * Sketches the salaries of every reporting level and of every configured subtree.
+     *
+     * @param employees Employees with an established hierarchy and reporting levels
+     * @return Mergeable salary sketches per group
+     */
+    SalaryPercentiles analyze(List<Employee> employees);
+}
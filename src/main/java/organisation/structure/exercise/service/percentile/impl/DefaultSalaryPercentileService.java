@@ -0,0 +1,91 @@
+package organisation.structure.exercise.service.percentile.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.collection.QuantileSketch;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryPercentiles;
+import organisation.structure.exercise.service.percentile.SalaryPercentileService;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collector;
+
+/**
+ * Default implementation of salary percentile service.
+ * Level sketches are built per parallel chunk and merged; subtree sketches are built per branch
+ * below the configured manager and merged, so no group is ever materialised or sorted.
+ */
+@Slf4j
+@Service
+public class DefaultSalaryPercentileService implements SalaryPercentileService {
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public SalaryPercentiles analyze(@NonNull final List<Employee> employees) {
+        int k = analysisProperties.getPercentiles().getSketchAccuracy();
+        SalaryPercentiles percentiles = new SalaryPercentiles();
+
+        percentiles.getByLevel().putAll(employees.parallelStream().collect(levelSketches(k)));
+
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
+        for (String managerId : analysisProperties.getPercentiles().getSubtreeRoots()) {
+            Employee manager = indexed.findById(managerId);
+            if (manager == null) {
+                log.warn("[Organization Analyzes] Salary percentile subtree root not found: {}", managerId);
+                continue;
+            }
+            percentiles.getBySubtree().put(managerId, sketchSubtree(manager, k));
+        }
+
+        log.debug("[Organization Analyzes] Sketched salary percentiles for {} levels and {} subtrees",
+                percentiles.getByLevel().size(), percentiles.getBySubtree().size());
+        return percentiles;
+    }
+
+    private static Collector<Employee, Map<Integer, QuantileSketch>, Map<Integer, QuantileSketch>> levelSketches(int k) {
+        return Collector.of(
+                HashMap::new,
+                (sketches, employee) -> sketches
+                        .computeIfAbsent(employee.getReportingLevel(), level -> new QuantileSketch(k))
+                        .update(employee.getSalary()),
+                (left, right) -> {
+                    right.forEach((level, sketch) -> left.merge(level, sketch, QuantileSketch::merge));
+                    return left;
+                });
+    }
+
+    /**
+     * Sketches the manager and everyone reporting to them, one branch per direct report in parallel.
+     */
+    private static QuantileSketch sketchSubtree(Employee manager, int k) {
+        QuantileSketch sketch = new QuantileSketch(k);
+        sketch.update(manager.getSalary());
+        manager.getDirectSubordinates().parallelStream()
+                .map(branch -> sketchBranch(branch, k))
+                .reduce(QuantileSketch::merge)
+                .ifPresent(sketch::merge);
+        return sketch;
+    }
+
+    private static QuantileSketch sketchBranch(Employee root, int k) {
+        QuantileSketch sketch = new QuantileSketch(k);
+        Deque<Employee> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Employee employee = stack.pop();
+            sketch.update(employee.getSalary());
+            employee.getDirectSubordinates().forEach(stack::push);
+        }
+        return sketch;
+    }
+}
@@ -0,0 +1,31 @@
+package organisation.structure.exercise.service.persistence;
+
+import organisation.structure.exercise.core.model.AnalysisResult;
+
+import java.sql.SQLException;
+
+/**
+ * Interface for persisting analysis results to the configured datasource.
+ */
+public interface AnalysisResultWriter {
+
+    /**
+     * Persists the analysis result under a newly generated run id.
+     *
+     * @param result Successful analysis result to persist
+     * @return Generated run id
+     * @throws SQLException If there's an error writing to the database
+     */
+    String writeAnalysisResult(AnalysisResult result) throws SQLException;
+
+    /**
+     * Persists the analysis result under the given run id.
+     * Writing the same run id again replaces the previous rows of that run atomically.
+     *
+     * @param runId Run id identifying the analysis
+     * @param result Successful analysis result to persist
+     * @return Number of findings written
+     * @throws SQLException If there's an error writing to the database
+     */
+    long writeAnalysisResult(String runId, AnalysisResult result) throws SQLException;
+}
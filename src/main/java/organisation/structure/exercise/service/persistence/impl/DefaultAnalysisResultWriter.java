@@ -0,0 +1,181 @@
+package organisation.structure.exercise.service.persistence.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.JdbcProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.service.persistence.AnalysisResultWriter;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * JDBC implementation of the analysis result writer.
+ * Writes a run in one transaction: rows of a previous write of the same run id are replaced,
+ * and findings are sent as JDBC batches instead of one round trip per row.
+ * The findings of every evaluated rule are written, typed by the rule name in upper snake case,
+ * e.g. {@code UNDERPAID_MANAGER} or {@code SPAN_OF_CONTROL}.
+ */
+@Slf4j
+@Service
+public class DefaultAnalysisResultWriter implements AnalysisResultWriter {
+
+    private static final String DELETE_FINDINGS = "DELETE FROM analysis_finding WHERE run_id = ?";
+    private static final String DELETE_RUN = "DELETE FROM analysis_run WHERE run_id = ?";
+    private static final String INSERT_RUN = "INSERT INTO analysis_run (run_id, created_at, ceo_id, total_employees, "
+            + "managers, individual_contributors, total_salary_budget, average_salary, max_reporting_level) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_FINDING = "INSERT INTO analysis_finding (run_id, finding_type, employee_id, "
+            + "amount, reporting_level) VALUES (?, ?, ?, ?, ?)";
+
+    @Autowired(required = false)
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcProperties jdbcProperties;
+
+    @Override
+    public String writeAnalysisResult(@NonNull final AnalysisResult result) throws SQLException {
+        String runId = UUID.randomUUID().toString();
+        writeAnalysisResult(runId, result);
+        return runId;
+    }
+
+    @Override
+    public long writeAnalysisResult(@NonNull final String runId, @NonNull final AnalysisResult result) throws SQLException {
+        if (!result.isSuccess() || result.getOrganizationalSummary() == null) {
+            throw new IllegalArgumentException("Only successful analysis results can be persisted");
+        }
+        log.info("[Organization Analyzes] Persisting analysis result for run: {}", runId);
+
+        long findings;
+        try (Connection connection = dataSource().getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+
+            try {
+                deleteRun(connection, runId);
+                insertRun(connection, runId, result.getOrganizationalSummary());
+
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_FINDING)) {
+                    BatchCounter counter = new BatchCounter(statement, jdbcProperties.getWriteBatchSize());
+                    for (Map.Entry<String, EmployeeResultView> rule : result.getFindingsByRule().entrySet()) {
+                        addFindings(statement, counter, runId, findingType(rule.getKey()), rule.getValue());
+                    }
+                    findings = counter.flush();
+                }
+
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+
+        log.info("[Organization Analyzes] Persisted run {} with {} findings", runId, findings);
+        return findings;
+    }
+
+    private void deleteRun(Connection connection, String runId) throws SQLException {
+        try (PreparedStatement findings = connection.prepareStatement(DELETE_FINDINGS);
+             PreparedStatement run = connection.prepareStatement(DELETE_RUN)) {
+            findings.setString(1, runId);
+            findings.executeUpdate();
+            run.setString(1, runId);
+            run.executeUpdate();
+        }
+    }
+
+    private void insertRun(Connection connection, String runId, OrganizationalSummary summary) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_RUN)) {
+            statement.setString(1, runId);
+            statement.setTimestamp(2, Timestamp.from(Instant.now()));
+            statement.setString(3, summary.getCeo() == null ? null : summary.getCeo().getId());
+            statement.setInt(4, summary.getTotalEmployees());
+            statement.setInt(5, summary.getManagers());
+            statement.setInt(6, summary.getIndividualContributors());
+            statement.setBigDecimal(7, money(summary.getTotalSalaryBudget()));
+            statement.setBigDecimal(8, money(summary.getAverageSalary()));
+            statement.setInt(9, summary.getMaxReportingLevel());
+            statement.executeUpdate();
+        }
+    }
+
+    private void addFindings(PreparedStatement statement, BatchCounter counter, String runId,
+                             String findingType, EmployeeResultView findings) throws SQLException {
+        if (findings == null) {
+            return;
+        }
+        for (Employee employee : findings) {
+            statement.setString(1, runId);
+            statement.setString(2, findingType);
+            statement.setString(3, employee.getId());
+            statement.setBigDecimal(4, money(findings.severityOf(employee)));
+            statement.setInt(5, employee.getReportingLevel());
+            statement.addBatch();
+            counter.added();
+        }
+    }
+
+    private static String findingType(String ruleName) {
+        return ruleName.toUpperCase(Locale.ROOT).replace('-', '_');
+    }
+
+    private DataSource dataSource() {
+        if (dataSource == null) {
+            throw new IllegalStateException("No datasource configured: set spring.datasource.url");
+        }
+        return dataSource;
+    }
+
+    private static BigDecimal money(double value) {
+        return BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Executes the pending batch whenever the configured batch size is reached.
+     */
+    private static class BatchCounter {
+        final PreparedStatement statement;
+        final int batchSize;
+        int pending;
+        long written;
+
+        BatchCounter(PreparedStatement statement, int batchSize) {
+            this.statement = statement;
+            this.batchSize = Math.max(1, batchSize);
+        }
+
+        void added() throws SQLException {
+            pending++;
+            if (pending >= batchSize) {
+                flush();
+            }
+        }
+
+        long flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                written += pending;
+                pending = 0;
+            }
+            return written;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package organisation.structure.exercise.service.restructuring;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.RestructuringPlan;
+
+/**
+ * Interface for recommending manager changes that fix too long reporting lines.
+ */
+public interface RestructuringRecommendationService {
+
+    /**
+     * Recommends subtree re-parentings that bring every reporting line within the configured limit.
+     * Runs in time linear in the size of the hierarchy plus sorting the moves; the hierarchy is not modified.
+     *
+     * @param ceo Root of an established hierarchy
+     * @return Ranked moves with their incrementally validated effect on reporting lines and manager salaries
+     */
+    RestructuringPlan recommend(Employee ceo);
+}
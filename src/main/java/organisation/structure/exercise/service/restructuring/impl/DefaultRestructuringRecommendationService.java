@@ -0,0 +1,213 @@
+package organisation.structure.exercise.service.restructuring.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.RestructuringPlan;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.service.restructuring.RestructuringRecommendationService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Recommends the maximal subtrees to move up their own reporting line.
+ * A subtree of height H fits within a limit of L levels when its root reports to a manager at level
+ * L-1-H or above. Heights are computed bottom-up; a subtree that reaches height L-1 can only sit directly
+ * below the CEO and is cut there. A top-down pass over the employees that stay in place then cuts the
+ * highest subtree on every remaining too long reporting line and moves it to the lowest ancestor at which
+ * it fits, so it stays as close to its current manager as possible.
+ */
+@Slf4j
+@Service
+public class DefaultRestructuringRecommendationService implements RestructuringRecommendationService {
+
+    private static final int NOT_MOVED = -1;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public RestructuringPlan recommend(@NonNull final Employee ceo) {
+        int limit = analysisProperties.getMaxReportingLevels();
+
+        // Breadth-first order places the reports of every employee in one contiguous range
+        List<Employee> order = new ArrayList<>();
+        order.add(ceo);
+        for (int i = 0; i < order.size(); i++) {
+            order.addAll(order.get(i).getDirectSubordinates());
+        }
+        int size = order.size();
+        int[] firstReport = new int[size + 1];
+        int[] parent = new int[size];
+        int[] level = new int[size];
+        firstReport[0] = 1;
+        for (int i = 0; i < size; i++) {
+            firstReport[i + 1] = firstReport[i] + order.get(i).getDirectSubordinates().size();
+            for (int report = firstReport[i]; report < firstReport[i + 1]; report++) {
+                parent[report] = i;
+                level[report] = level[i] + 1;
+            }
+        }
+
+        int longReportingLines = 0;
+        for (int i = 0; i < size; i++) {
+            if (level[i] > limit) {
+                longReportingLines++;
+            }
+        }
+        if (longReportingLines == 0 || limit < 1) {
+            if (longReportingLines > 0) {
+                log.warn("[Organization Analyzes] No re-parenting can fix reporting lines with a limit of {} levels", limit);
+            }
+            return new RestructuringPlan(limit, longReportingLines, List.of());
+        }
+
+        int[] height = new int[size];
+        int[] pieceSize = new int[size];
+        int[] pieceViolations = new int[size];
+        int[] target = new int[size];
+        Arrays.fill(target, NOT_MOVED);
+
+        // Bottom-up: heights of what stays below each employee, cutting subtrees only the CEO can take
+        for (int i = size - 1; i >= 0; i--) {
+            pieceSize[i] = 1;
+            pieceViolations[i] = level[i] > limit ? 1 : 0;
+            for (int report = firstReport[i]; report < firstReport[i + 1]; report++) {
+                if (i != 0 && height[report] >= limit - 1) {
+                    target[report] = 0;
+                    continue;
+                }
+                height[i] = Math.max(height[i], height[report] + 1);
+                pieceSize[i] += pieceSize[report];
+                pieceViolations[i] += pieceViolations[report];
+            }
+        }
+
+        // Top-down over employees that stay in place, keeping the reporting line on an explicit stack
+        int[] path = new int[Math.min(limit, size) + 1];
+        int[] nextReport = new int[path.length];
+        int top = 0;
+        path[0] = 0;
+        nextReport[0] = firstReport[0];
+        while (top >= 0) {
+            int current = path[top];
+            if (nextReport[top] == firstReport[current + 1]) {
+                top--;
+                continue;
+            }
+            int report = nextReport[top]++;
+            if (target[report] != NOT_MOVED) {
+                continue;
+            }
+            if (level[report] + height[report] > limit) {
+                target[report] = path[limit - 1 - height[report]];
+            } else if (height[report] > 0) {
+                path[++top] = report;
+                nextReport[top] = firstReport[report];
+            }
+        }
+
+        List<RestructuringPlan.Move> moves = new ArrayList<>();
+        for (int i = 1; i < size; i++) {
+            if (target[i] == NOT_MOVED) {
+                continue;
+            }
+            int newLevel = level[target[i]] + 1;
+            if (newLevel + height[i] > limit || newLevel >= level[i]) {
+                throw new IllegalStateException("Invalid move of employee " + order.get(i).getId()
+                        + " from level " + level[i] + " to level " + newLevel);
+            }
+            moves.add(new RestructuringPlan.Move(order.get(i), order.get(parent[i]), order.get(target[i]),
+                    level[i], newLevel, pieceSize[i], pieceViolations[i], 0, 0, 0));
+        }
+        moves.sort(Comparator.comparingInt(RestructuringPlan.Move::getEmployeesFixed).reversed()
+                .thenComparingInt(RestructuringPlan.Move::getMovedEmployees)
+                .thenComparing(move -> move.getEmployee().getId()));
+
+        validate(moves, longReportingLines);
+
+        log.info("[Organization Analyzes] Recommended {} moves fixing {} too long reporting lines",
+                moves.size(), longReportingLines);
+        return new RestructuringPlan(limit, longReportingLines, moves);
+    }
+
+    /**
+     * Applies the ranked moves one by one, tracking remaining long reporting lines and, from the changed
+     * direct reports of the two managers involved, which salary findings each move introduces or resolves.
+     */
+    private void validate(List<RestructuringPlan.Move> moves, int longReportingLines) {
+        double underpaidThreshold = analysisProperties.getUnderpaidThreshold();
+        double overpaidThreshold = analysisProperties.getOverpaidThreshold();
+        Map<Employee, ReportSalaries> reportSalaries = new IdentityHashMap<>();
+
+        int remaining = longReportingLines;
+        for (RestructuringPlan.Move move : moves) {
+            remaining -= move.getEmployeesFixed();
+            move.setRemainingLongReportingLines(remaining);
+
+            long salary = SalaryStatistics.toMinorUnits(move.getEmployee().getSalary());
+            ReportSalaries from = reportSalaries.computeIfAbsent(move.getFromManager(), ReportSalaries::of);
+            ReportSalaries to = reportSalaries.computeIfAbsent(move.getToManager(), ReportSalaries::of);
+
+            boolean fromBefore = from.hasFinding(underpaidThreshold, overpaidThreshold);
+            boolean toBefore = to.hasFinding(underpaidThreshold, overpaidThreshold);
+            from.remove(salary);
+            to.add(salary);
+            boolean fromAfter = from.hasFinding(underpaidThreshold, overpaidThreshold);
+            boolean toAfter = to.hasFinding(underpaidThreshold, overpaidThreshold);
+
+            move.setSalaryFindingsIntroduced((!fromBefore && fromAfter ? 1 : 0) + (!toBefore && toAfter ? 1 : 0));
+            move.setSalaryFindingsResolved((fromBefore && !fromAfter ? 1 : 0) + (toBefore && !toAfter ? 1 : 0));
+        }
+    }
+
+    /**
+     * Running direct-report salary total of one manager, in minor units, while moves are applied.
+     */
+    private static final class ReportSalaries {
+        final long managerSalary;
+        long total;
+        int count;
+
+        private ReportSalaries(long managerSalary) {
+            this.managerSalary = managerSalary;
+        }
+
+        static ReportSalaries of(Employee manager) {
+            ReportSalaries salaries = new ReportSalaries(SalaryStatistics.toMinorUnits(manager.getSalary()));
+            for (Employee report : manager.getDirectSubordinates()) {
+                salaries.add(SalaryStatistics.toMinorUnits(report.getSalary()));
+            }
+            return salaries;
+        }
+
+        void add(long salary) {
+            total += salary;
+            count++;
+        }
+
+        void remove(long salary) {
+            total -= salary;
+            count--;
+        }
+
+        /**
+         * Applies the rules of {@link Employee#isUnderpaid(double)} and {@link Employee#isOverpaid(double)}.
+         */
+        boolean hasFinding(double underpaidThreshold, double overpaidThreshold) {
+            if (count == 0 || total == 0) {
+                return false;
+            }
+            double ratio = SalaryStatistics.ratioToAverage(managerSalary, count, total);
+            return ratio < underpaidThreshold || ratio > overpaidThreshold;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package organisation.structure.exercise.service.rule;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.RuleEvaluationResult;
+import organisation.structure.exercise.core.rule.CompiledRuleSet;
+
+import java.util.List;
+
+/**
+ * Interface for the configurable rule engine.
+ * Compiles the registered organizational rules into one evaluator that runs in a single pass.
+ */
+public interface RuleEngineService {
+
+    /**
+     * Compiles the rules enabled by {@code app.analysis.rules.enabled} into one evaluator.
+     * All registered rules are compiled when no rule is explicitly enabled.
+     *
+     * @return Compiled rule set
+     */
+    CompiledRuleSet compileConfiguredRules();
+
+    /**
+     * Evaluates the configured rules against the employees in one parallel pass.
+     *
+     * @param employees List of employees with established hierarchy and calculated reporting levels
+     * @return RuleEvaluationResult containing the findings of every rule
+     */
+    RuleEvaluationResult evaluate(List<Employee> employees);
+}
@@ -0,0 +1,68 @@
+package organisation.structure.exercise.service.rule.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.RuleEvaluationResult;
+import organisation.structure.exercise.core.rule.CompiledRuleSet;
+import organisation.structure.exercise.core.rule.OrganizationalRule;
+import organisation.structure.exercise.service.rule.RuleEngineService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Default implementation of the rule engine service.
+ * Selects the configured rules from all registered rule beans and evaluates them in one fused scan.
+ */
+@Slf4j
+@Service
+public class DefaultRuleEngineService implements RuleEngineService {
+
+    @Autowired
+    private List<OrganizationalRule> registeredRules;
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    private volatile CompiledRuleSet compiledRuleSet;
+
+    @Override
+    public CompiledRuleSet compileConfiguredRules() {
+        List<String> enabled = analysisProperties.getRules().getEnabled();
+        if (enabled == null || enabled.isEmpty()) {
+            return new CompiledRuleSet(registeredRules);
+        }
+
+        Map<String, OrganizationalRule> rulesByName = registeredRules.stream()
+                .collect(Collectors.toMap(OrganizationalRule::getName, Function.identity()));
+
+        List<OrganizationalRule> rules = new ArrayList<>(enabled.size());
+        for (String name : enabled) {
+            OrganizationalRule rule = rulesByName.get(name.trim());
+            if (rule == null) {
+                throw new IllegalStateException("Unknown organizational rule configured: " + name);
+            }
+            rules.add(rule);
+        }
+        return new CompiledRuleSet(rules);
+    }
+
+    @Override
+    public RuleEvaluationResult evaluate(@NonNull final List<Employee> employees) {
+        CompiledRuleSet rules = compiledRuleSet;
+        if (rules == null) {
+            rules = compileConfiguredRules();
+            compiledRuleSet = rules;
+        }
+
+        log.debug("[Organization Analyzes] Evaluating rules {} for {} employees", rules.getRuleNames(), employees.size());
+        return rules.evaluate(employees);
+    }
+}
@@ -0,0 +1,19 @@
+package organisation.structure.exercise.service.shard;
+
+import organisation.structure.exercise.core.model.ShardedOrganization;
+
+import java.util.List;
+
+/**
+ * Interface for assembling one organization from several CSV files.
+ */
+public interface ShardedOrganizationLoader {
+
+    /**
+     * Reads every file in parallel, then merges the shards and resolves manager references across files.
+     *
+     * @param filePaths CSV files that together hold the organization, e.g. one per country
+     * @return Merged employees with shard-level and cross-shard errors reported separately
+     */
+    ShardedOrganization load(List<String> filePaths);
+}
@@ -0,0 +1,141 @@
+package organisation.structure.exercise.service.shard.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.ShardReport;
+import organisation.structure.exercise.core.model.ShardedOrganization;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.shard.ShardedOrganizationLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Default implementation of sharded organization loader.
+ * Shards are read and checked on their own in parallel; only then are they appended to one
+ * indexed list, so manager IDs resolve against the whole organization regardless of file.
+ */
+@Slf4j
+@Service
+public class DefaultShardedOrganizationLoader implements ShardedOrganizationLoader {
+
+    private static final int NONE = -1;
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Override
+    public ShardedOrganization load(@NonNull final List<String> filePaths) {
+        log.info("[Organization Analyzes] Loading organization from {} shards", filePaths.size());
+
+        // Phase 1: read and check every shard on its own
+        List<Shard> shards = IntStream.range(0, filePaths.size()).parallel()
+                .mapToObj(index -> readShard(filePaths.get(index)))
+                .toList();
+
+        // Phase 2: merge into one index and resolve references across shards
+        ShardedOrganization organization = merge(shards);
+
+        organization.getShards().forEach(shard -> shard.getErrors().forEach(error ->
+                log.error("[Organization Analyzes] Shard {}: {}", shard.getFilePath(), error)));
+        organization.getCrossShardErrors().forEach(error ->
+                log.error("[Organization Analyzes] Cross-shard: {}", error));
+        log.info("[Organization Analyzes] Merged {} employees from {} shards with {} cross-shard references, {} shard errors, {} cross-shard errors",
+                organization.getEmployees().size(), shards.size(), organization.getCrossShardReferences(),
+                organization.getShardErrorCount(), organization.getCrossShardErrors().size());
+        return organization;
+    }
+
+    private Shard readShard(String filePath) {
+        ShardReport report = new ShardReport();
+        report.setFilePath(filePath);
+
+        List<Employee> employees;
+        try {
+            employees = csvReaderService.readEmployeesFromCsv(filePath);
+        } catch (Exception e) {
+            report.getErrors().add("Failed to read shard: " + e.getMessage());
+            return new Shard(report, List.of());
+        }
+
+        IndexedEmployeeList indexed = IndexedEmployeeList.of(employees);
+        if (indexed.hasDuplicateIds()) {
+            for (int position = 0; position < indexed.size(); position++) {
+                String id = indexed.get(position).getId();
+                if (indexed.positionOf(id) != position) {
+                    report.getErrors().add("Duplicate employee ID within shard: " + id);
+                }
+            }
+        }
+        report.setEmployees(indexed.size());
+        return new Shard(report, indexed);
+    }
+
+    private ShardedOrganization merge(List<Shard> shards) {
+        int total = shards.stream().mapToInt(shard -> shard.employees.size()).sum();
+        IndexedEmployeeList employees = new IndexedEmployeeList(total);
+        int[] shardOf = new int[total];
+        List<String> crossShardErrors = new ArrayList<>();
+        List<ShardReport> reports = new ArrayList<>(shards.size());
+
+        for (int shardIndex = 0; shardIndex < shards.size(); shardIndex++) {
+            Shard shard = shards.get(shardIndex);
+            reports.add(shard.report);
+            for (Employee employee : shard.employees) {
+                int existing = employees.positionOf(employee.getId());
+                if (existing != NONE) {
+                    // Duplicates inside one shard are already reported on the shard
+                    if (shardOf[existing] != shardIndex) {
+                        crossShardErrors.add("Employee ID " + employee.getId() + " is defined in both "
+                                + shards.get(shardOf[existing]).report.getFilePath() + " and " + shard.report.getFilePath());
+                    }
+                    continue;
+                }
+                shardOf[employees.size()] = shardIndex;
+                employees.add(employee);
+            }
+        }
+
+        int crossShardReferences = 0;
+        List<String> ceoShards = new ArrayList<>();
+        for (int position = 0; position < employees.size(); position++) {
+            Employee employee = employees.get(position);
+            ShardReport report = reports.get(shardOf[position]);
+            if (employee.isCEO()) {
+                ceoShards.add(employee.getId() + " in " + report.getFilePath());
+                continue;
+            }
+            int manager = employees.managerPositionOf(position);
+            if (manager == NONE) {
+                crossShardErrors.add("Manager " + employee.getManagerId() + " of employee " + employee.getId()
+                        + " (" + report.getFilePath() + ") is not defined in any shard");
+            } else if (shardOf[manager] != shardOf[position]) {
+                crossShardReferences++;
+                report.setOutgoingReferences(report.getOutgoingReferences() + 1);
+            }
+        }
+
+        if (ceoShards.isEmpty()) {
+            crossShardErrors.add("No CEO found in any shard");
+        } else if (ceoShards.size() > 1) {
+            crossShardErrors.add("Multiple CEOs found across shards: " + String.join(", ", ceoShards));
+        }
+
+        return new ShardedOrganization(employees, reports, crossShardErrors, crossShardReferences);
+    }
+
+    private static final class Shard {
+        final ShardReport report;
+        final List<Employee> employees;
+
+        Shard(ShardReport report, List<Employee> employees) {
+            this.report = report;
+            this.employees = employees;
+        }
+    }
+}
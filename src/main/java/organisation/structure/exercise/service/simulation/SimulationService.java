@@ -0,0 +1,33 @@
+package organisation.structure.exercise.service.simulation;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationBaseline;
+import organisation.structure.exercise.core.model.SimulationResult;
+
+import java.util.List;
+
+/**
+ * Interface for what-if simulations of compensation rounds and reorganisations.
+ * Evaluates hypothetical changes against a loaded organization without copying or modifying it.
+ */
+public interface SimulationService {
+
+    /**
+     * Prepares a reusable simulation baseline from an analysed organization.
+     *
+     * @param employees List of employees with established hierarchy and calculated reporting levels
+     * @return Baseline shared by any number of simulations
+     */
+    SimulationBaseline prepareBaseline(List<Employee> employees);
+
+    /**
+     * Simulates a batch of changes, applied in order, and returns the resulting analysis delta.
+     * Only the managers and subtrees touched by the changes are recomputed.
+     *
+     * @param baseline Baseline to simulate against
+     * @param changes Hypothetical changes
+     * @return SimulationResult containing the findings that appear or disappear
+     */
+    SimulationResult simulate(SimulationBaseline baseline, List<SimulatedChange> changes);
+}
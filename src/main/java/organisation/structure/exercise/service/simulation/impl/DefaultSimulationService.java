@@ -0,0 +1,152 @@
+package organisation.structure.exercise.service.simulation.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.configuration.properties.AnalysisProperties;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationBaseline;
+import organisation.structure.exercise.core.model.SimulationResult;
+import organisation.structure.exercise.service.simulation.SimulationService;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Default implementation of simulation service.
+ * Applies changes to a copy-on-write overlay and recomputes only affected managers and moved subtrees.
+ */
+@Slf4j
+@Service
+public class DefaultSimulationService implements SimulationService {
+
+    @Autowired
+    private AnalysisProperties analysisProperties;
+
+    @Override
+    public SimulationBaseline prepareBaseline(@NonNull final List<Employee> employees) {
+        log.debug("[Organization Analyzes] Preparing simulation baseline for {} employees", employees.size());
+        return new SimulationBaseline(employees);
+    }
+
+    @Override
+    public SimulationResult simulate(@NonNull final SimulationBaseline baseline, @NonNull final List<SimulatedChange> changes) {
+        log.debug("[Organization Analyzes] Simulating {} changes against {} employees", changes.size(), baseline.size());
+
+        try {
+            OrganizationOverlay overlay = new OrganizationOverlay(baseline);
+            for (SimulatedChange change : changes) {
+                overlay.apply(change);
+            }
+
+            SimulationResult result = new SimulationResult(true, null,
+                    overlay.getHires().size() - overlay.getRemovedEmployees().size(),
+                    overlay.salaryBudgetDelta(), 0, 0,
+                    new ArrayList<>(), new ArrayList<>(), new ArrayList<>(),
+                    new ArrayList<>(), new ArrayList<>(), new ArrayList<>());
+
+            recomputeManagerSalaries(baseline, overlay, result);
+            recomputeReportingLevels(baseline, overlay, result);
+            return result;
+
+        } catch (IllegalArgumentException e) {
+            log.warn("[Organization Analyzes] Simulation rejected: {}", e.getMessage());
+            return SimulationResult.failure(e.getMessage());
+        }
+    }
+
+    /**
+     * Recomputes the salary classification of managers whose salary or direct reports changed.
+     */
+    private void recomputeManagerSalaries(SimulationBaseline baseline, OrganizationOverlay overlay, SimulationResult result) {
+        double underpaidThreshold = analysisProperties.getUnderpaidThreshold();
+        double overpaidThreshold = analysisProperties.getOverpaidThreshold();
+
+        for (String managerId : overlay.getAffectedManagers()) {
+            Employee original = overlay.isHire(managerId) ? null : baseline.getEmployee(managerId);
+            boolean wasUnderpaid = original != null && original.isUnderpaid(underpaidThreshold);
+            boolean wasOverpaid = original != null && original.isOverpaid(overpaidThreshold);
+
+            boolean isUnderpaid = false;
+            boolean isOverpaid = false;
+            if (overlay.exists(managerId)) {
+                List<String> children = overlay.childrenOf(managerId);
+                if (!children.isEmpty()) {
+                    long total = 0;
+                    for (String childId : children) {
+                        total += SalaryStatistics.toMinorUnits(overlay.salaryOf(childId));
+                    }
+                    double ratio = SalaryStatistics.ratioToAverage(SalaryStatistics.toMinorUnits(overlay.salaryOf(managerId)),
+                            children.size(), total);
+                    isUnderpaid = ratio < underpaidThreshold;
+                    isOverpaid = ratio > overpaidThreshold;
+                }
+            }
+
+            recordDelta(managerId, wasUnderpaid, isUnderpaid,
+                    result.getNewlyUnderpaidManagers(), result.getResolvedUnderpaidManagers());
+            recordDelta(managerId, wasOverpaid, isOverpaid,
+                    result.getNewlyOverpaidManagers(), result.getResolvedOverpaidManagers());
+        }
+        result.setRecomputedManagers(overlay.getAffectedManagers().size());
+    }
+
+    /**
+     * Recomputes reporting levels for the subtrees whose position in the hierarchy changed.
+     */
+    private void recomputeReportingLevels(SimulationBaseline baseline, OrganizationOverlay overlay, SimulationResult result) {
+        int maxReportingLevels = analysisProperties.getMaxReportingLevels();
+        Set<String> visited = new HashSet<>();
+        Deque<String> stack = new ArrayDeque<>();
+        Deque<Integer> levels = new ArrayDeque<>();
+
+        for (String rootId : overlay.getMovedRoots()) {
+            if (!overlay.exists(rootId) || visited.contains(rootId)) {
+                continue;
+            }
+            stack.push(rootId);
+            levels.push(overlay.levelOf(rootId));
+
+            while (!stack.isEmpty()) {
+                String employeeId = stack.pop();
+                int level = levels.pop();
+                if (!visited.add(employeeId)) {
+                    continue;
+                }
+
+                Employee original = overlay.isHire(employeeId) ? null : baseline.getEmployee(employeeId);
+                boolean wasTooLong = original != null && original.hasTooLongReportingLine(maxReportingLevels);
+                recordDelta(employeeId, wasTooLong, level > maxReportingLevels,
+                        result.getNewLongReportingLines(), result.getResolvedLongReportingLines());
+
+                for (String childId : overlay.childrenOf(employeeId)) {
+                    stack.push(childId);
+                    levels.push(level + 1);
+                }
+            }
+        }
+
+        for (String employeeId : overlay.getRemovedEmployees()) {
+            if (baseline.getEmployee(employeeId).hasTooLongReportingLine(maxReportingLevels)) {
+                result.getResolvedLongReportingLines().add(employeeId);
+            }
+        }
+        result.setRecomputedReportingLevels(visited.size());
+    }
+
+    private static void recordDelta(String employeeId, boolean before, boolean after,
+                                    List<String> appeared, List<String> resolved) {
+        if (!before && after) {
+            appeared.add(employeeId);
+        } else if (before && !after) {
+            resolved.add(employeeId);
+        }
+    }
+}
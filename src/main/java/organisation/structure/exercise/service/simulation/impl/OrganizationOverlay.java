@@ -0,0 +1,252 @@
+package organisation.structure.exercise.service.simulation.impl;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SimulatedChange;
+import organisation.structure.exercise.core.model.SimulationBaseline;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Copy-on-write overlay of hypothetical changes on top of a simulation baseline.
+ * Only changed salaries, manager assignments and membership are stored; every other value
+ * is read through to the baseline employees, which are never modified.
+ */
+final class OrganizationOverlay {
+
+    private final SimulationBaseline baseline;
+
+    private final Map<String, Double> salaryOverrides = new HashMap<>();
+    private final Map<String, String> managerOverrides = new HashMap<>();
+    private final Map<String, Set<String>> detachedChildren = new HashMap<>();
+    private final Map<String, Set<String>> attachedChildren = new HashMap<>();
+    private final Set<String> hires = new HashSet<>();
+    private final Set<String> removed = new HashSet<>();
+
+    private final Set<String> affectedManagers = new LinkedHashSet<>();
+    private final Set<String> movedRoots = new LinkedHashSet<>();
+    private final Set<String> removedEmployees = new LinkedHashSet<>();
+
+    private final Map<String, Integer> levelCache = new HashMap<>();
+
+    OrganizationOverlay(SimulationBaseline baseline) {
+        this.baseline = baseline;
+    }
+
+    /**
+     * Applies one change to the overlay.
+     *
+     * @throws IllegalArgumentException if the change does not fit the current overlay state
+     */
+    void apply(SimulatedChange change) {
+        if (change == null || change.getType() == null) {
+            throw new IllegalArgumentException("Change type is required");
+        }
+        String employeeId = change.getEmployeeId();
+
+        switch (change.getType()) {
+            case SALARY_ADJUSTMENT -> {
+                requireExists(employeeId);
+                double oldSalary = salaryOf(employeeId);
+                salaryOverrides.put(employeeId, change.getSalary());
+                if (oldSalary != change.getSalary()) {
+                    affectedManagers.add(employeeId);
+                    addIfPresent(affectedManagers, managerOf(employeeId));
+                }
+            }
+            case MANAGER_MOVE -> {
+                requireExists(employeeId);
+                requireExists(change.getManagerId());
+                if (managerOf(employeeId) == null) {
+                    throw new IllegalArgumentException("The CEO cannot be moved: " + employeeId);
+                }
+                reattach(employeeId, change.getManagerId());
+            }
+            case NEW_HIRE -> {
+                if (employeeId == null || employeeId.isBlank() || exists(employeeId)) {
+                    throw new IllegalArgumentException("New hire requires an unused employee ID: " + employeeId);
+                }
+                requireExists(change.getManagerId());
+                hires.add(employeeId);
+                removed.remove(employeeId);
+                salaryOverrides.put(employeeId, change.getSalary());
+                managerOverrides.put(employeeId, change.getManagerId());
+                attachedChildren.computeIfAbsent(change.getManagerId(), id -> new LinkedHashSet<>()).add(employeeId);
+                affectedManagers.add(change.getManagerId());
+                movedRoots.add(employeeId);
+            }
+            case REMOVAL -> {
+                requireExists(employeeId);
+                String managerId = managerOf(employeeId);
+                if (managerId == null) {
+                    throw new IllegalArgumentException("The CEO cannot be removed: " + employeeId);
+                }
+                for (String childId : new ArrayList<>(childrenOf(employeeId))) {
+                    reattach(childId, managerId);
+                }
+                detach(employeeId, managerId);
+                removed.add(employeeId);
+                affectedManagers.add(managerId);
+                if (!hires.remove(employeeId)) {
+                    removedEmployees.add(employeeId);
+                }
+            }
+        }
+    }
+
+    boolean exists(String employeeId) {
+        if (employeeId == null || removed.contains(employeeId)) {
+            return false;
+        }
+        return hires.contains(employeeId) || baseline.contains(employeeId);
+    }
+
+    boolean isHire(String employeeId) {
+        return hires.contains(employeeId);
+    }
+
+    double salaryOf(String employeeId) {
+        Double salary = salaryOverrides.get(employeeId);
+        return salary != null ? salary : baseline.getEmployee(employeeId).getSalary();
+    }
+
+    String managerOf(String employeeId) {
+        if (managerOverrides.containsKey(employeeId)) {
+            return managerOverrides.get(employeeId);
+        }
+        Employee employee = baseline.getEmployee(employeeId);
+        return employee == null || employee.isCEO() ? null : employee.getManagerId();
+    }
+
+    /**
+     * Returns the current direct reports of an employee: baseline reports minus detached ones plus attached ones.
+     */
+    List<String> childrenOf(String employeeId) {
+        Employee employee = baseline.getEmployee(employeeId);
+        Set<String> detached = detachedChildren.getOrDefault(employeeId, Collections.emptySet());
+        Set<String> attached = attachedChildren.getOrDefault(employeeId, Collections.emptySet());
+
+        List<String> children = new ArrayList<>();
+        if (employee != null && !hires.contains(employeeId)) {
+            for (Employee subordinate : employee.getDirectSubordinates()) {
+                if (!detached.contains(subordinate.getId())) {
+                    children.add(subordinate.getId());
+                }
+            }
+        }
+        children.addAll(attached);
+        return children;
+    }
+
+    /**
+     * Returns the reporting level in the overlay, walking up changed manager chains only.
+     *
+     * @throws IllegalArgumentException if the changes created a circular reporting line
+     */
+    int levelOf(String employeeId) {
+        Deque<String> path = new ArrayDeque<>();
+        Set<String> onPath = new HashSet<>();
+        String current = employeeId;
+        int level = 0;
+
+        while (current != null) {
+            Integer cached = levelCache.get(current);
+            if (cached != null) {
+                level = cached;
+                break;
+            }
+            if (!onPath.add(current)) {
+                throw new IllegalArgumentException("Changes create a circular reporting line at employee: " + current);
+            }
+            path.push(current);
+            current = managerOf(current);
+            if (current == null) {
+                // Reached the CEO, who sits at level 0
+                level = -1;
+            }
+        }
+
+        while (!path.isEmpty()) {
+            level++;
+            levelCache.put(path.pop(), level);
+        }
+        return level;
+    }
+
+    /**
+     * Returns the change of the total salary budget caused by the overlay.
+     */
+    double salaryBudgetDelta() {
+        double delta = 0.0;
+        for (Map.Entry<String, Double> entry : salaryOverrides.entrySet()) {
+            String employeeId = entry.getKey();
+            if (!exists(employeeId)) {
+                continue;
+            }
+            Employee employee = baseline.getEmployee(employeeId);
+            delta += hires.contains(employeeId) ? entry.getValue() : entry.getValue() - employee.getSalary();
+        }
+        for (String employeeId : removedEmployees) {
+            delta -= baseline.getEmployee(employeeId).getSalary();
+        }
+        return delta;
+    }
+
+    Set<String> getAffectedManagers() {
+        return affectedManagers;
+    }
+
+    Set<String> getMovedRoots() {
+        return movedRoots;
+    }
+
+    Set<String> getRemovedEmployees() {
+        return removedEmployees;
+    }
+
+    Set<String> getHires() {
+        return hires;
+    }
+
+    private void reattach(String employeeId, String newManagerId) {
+        String oldManagerId = managerOf(employeeId);
+        if (employeeId.equals(newManagerId)) {
+            throw new IllegalArgumentException("An employee cannot report to themselves: " + employeeId);
+        }
+        if (oldManagerId != null) {
+            detach(employeeId, oldManagerId);
+            affectedManagers.add(oldManagerId);
+        }
+        managerOverrides.put(employeeId, newManagerId);
+        attachedChildren.computeIfAbsent(newManagerId, id -> new LinkedHashSet<>()).add(employeeId);
+        affectedManagers.add(newManagerId);
+        movedRoots.add(employeeId);
+    }
+
+    private void detach(String employeeId, String managerId) {
+        Set<String> attached = attachedChildren.get(managerId);
+        if (attached == null || !attached.remove(employeeId)) {
+            detachedChildren.computeIfAbsent(managerId, id -> new HashSet<>()).add(employeeId);
+        }
+    }
+
+    private void requireExists(String employeeId) {
+        if (!exists(employeeId)) {
+            throw new IllegalArgumentException("Employee not found: " + employeeId);
+        }
+    }
+
+    private static void addIfPresent(Set<String> target, String value) {
+        if (value != null) {
+            target.add(value);
+        }
+    }
+}
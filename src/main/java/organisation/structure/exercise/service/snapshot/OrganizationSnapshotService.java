@@ -0,0 +1,31 @@
+package organisation.structure.exercise.service.snapshot;
+
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+
+import java.util.List;
+
+/**
+ * Interface for publishing immutable organization snapshots.
+ * Readers take the current snapshot without locking and keep a consistent view of it for as long as
+ * they hold the reference, while writers build and publish newer versions.
+ */
+public interface OrganizationSnapshotService {
+
+    /**
+     * Gets the currently published snapshot.
+     *
+     * @return Current snapshot, or null if nothing has been published yet
+     */
+    OrganizationSnapshot current();
+
+    /**
+     * Builds a snapshot from the given employee records and publishes it as the next version.
+     * The records are copied, so the caller may keep modifying or discard them.
+     *
+     * @param employees Employee records as loaded from a data source
+     * @return The built snapshot; it is not current if a newer version was published concurrently
+     * @throws IllegalArgumentException if the records contain duplicate IDs or no CEO
+     */
+    OrganizationSnapshot publish(List<Employee> employees);
+}
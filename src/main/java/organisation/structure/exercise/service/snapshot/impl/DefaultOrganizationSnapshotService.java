@@ -0,0 +1,51 @@
+package organisation.structure.exercise.service.snapshot.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.OrganizationSnapshot;
+import organisation.structure.exercise.service.snapshot.OrganizationSnapshotService;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Default implementation of organization snapshot service.
+ * The current snapshot sits in an atomic reference: writers build the next version off to the side
+ * and swap it in atomically, readers never block. A replaced version becomes garbage as soon
+ * as the last reader holding it lets go.
+ */
+@Slf4j
+@Service
+public class DefaultOrganizationSnapshotService implements OrganizationSnapshotService {
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final AtomicReference<OrganizationSnapshot> currentSnapshot = new AtomicReference<>();
+
+    @Override
+    public OrganizationSnapshot current() {
+        return currentSnapshot.get();
+    }
+
+    @Override
+    public OrganizationSnapshot publish(@NonNull final List<Employee> employees) {
+        long version = versions.incrementAndGet();
+        OrganizationSnapshot next = OrganizationSnapshot.of(version, employees);
+
+        // A slower writer holding an older version must never replace a newer snapshot
+        OrganizationSnapshot published = currentSnapshot.accumulateAndGet(next,
+                (previous, candidate) -> previous == null || candidate.getVersion() > previous.getVersion() ? candidate : previous);
+
+        if (published == next) {
+            log.info("[Organization Analyzes] Published organization snapshot version {} with {} employees",
+                    version, next.size());
+        } else {
+            log.debug("[Organization Analyzes] Snapshot version {} superseded by version {} before publishing",
+                    version, published.getVersion());
+        }
+        return next;
+    }
+}
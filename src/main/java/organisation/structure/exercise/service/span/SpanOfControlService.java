@@ -0,0 +1,29 @@
+package organisation.structure.exercise.service.span;
+
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SpanOfControlAnalysis;
+
+/**
+ * Interface for span-of-control and level distribution analysis.
+ */
+public interface SpanOfControlService {
+
+    /**
+     * Computes fan-out and direct and indirect headcount of every manager, the level histogram and the
+     * salary band of every level in one level-synchronous traversal from the CEO.
+     *
+     * @param ceo Root of an established hierarchy
+     * @return Span-of-control metrics of the organization below and including the CEO
+     */
+    SpanOfControlAnalysis analyze(Employee ceo);
+
+    /**
+     * Computes the same metrics, taking the level salary bands from an existing salary layout of the organization.
+     *
+     * @param ceo Root of an established hierarchy
+     * @param salaries Breadth-first salary layout of the same organization
+     * @return Span-of-control metrics of the organization below and including the CEO
+     */
+    SpanOfControlAnalysis analyze(Employee ceo, HierarchySalaryColumn salaries);
+}
@@ -0,0 +1,123 @@
+package organisation.structure.exercise.service.span.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.SpanOfControlAnalysis;
+import organisation.structure.exercise.core.model.SpanOfControlAnalysis.LevelBand;
+import organisation.structure.exercise.core.model.SpanOfControlAnalysis.ManagerSpan;
+import organisation.structure.exercise.service.span.SpanOfControlService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Default implementation of span-of-control service.
+ * Walks the hierarchy one level at a time. Every level is an array in which the direct reports of each
+ * manager of the level above occupy one contiguous range, located by a prefix sum over the fan-outs.
+ * Levels are filled top-down and headcounts are summed bottom-up over those ranges; large levels are
+ * processed in parallel since each range is written by exactly one task.
+ */
+@Slf4j
+@Service
+public class DefaultSpanOfControlService implements SpanOfControlService {
+
+    private static final int PARALLEL_THRESHOLD = 4096;
+
+    @Override
+    public SpanOfControlAnalysis analyze(@NonNull final Employee ceo) {
+        return analyze(ceo, HierarchySalaryColumn.of(ceo));
+    }
+
+    @Override
+    public SpanOfControlAnalysis analyze(@NonNull final Employee ceo, @NonNull final HierarchySalaryColumn salaries) {
+        List<Employee[]> levels = new ArrayList<>();
+        List<int[]> childOffsets = new ArrayList<>();
+
+        // Top-down: build each level from the one above
+        Employee[] frontier = {ceo};
+        while (frontier.length > 0) {
+            Employee[] current = frontier;
+            int[] offsets = new int[current.length + 1];
+            indexes(current.length).forEach(i -> offsets[i + 1] = current[i].getDirectSubordinates().size());
+            prefixSum(offsets);
+
+            Employee[] next = new Employee[offsets[current.length]];
+            indexes(current.length).forEach(i -> {
+                List<Employee> subordinates = current[i].getDirectSubordinates();
+                for (int j = 0; j < subordinates.size(); j++) {
+                    next[offsets[i] + j] = subordinates.get(j);
+                }
+            });
+
+            levels.add(current);
+            childOffsets.add(offsets);
+            frontier = next;
+        }
+
+        // Bottom-up: a manager's headcount is their direct reports plus each direct report's headcount
+        int depth = levels.size();
+        int[][] headcounts = new int[depth][];
+        for (int level = depth - 1; level >= 0; level--) {
+            int[] offsets = childOffsets.get(level);
+            int[] below = level + 1 < depth ? headcounts[level + 1] : new int[0];
+            int[] totals = new int[levels.get(level).length];
+            indexes(totals.length).forEach(i -> {
+                int total = 0;
+                for (int j = offsets[i]; j < offsets[i + 1]; j++) {
+                    total += 1 + below[j];
+                }
+                totals[i] = total;
+            });
+            headcounts[level] = totals;
+        }
+
+        List<LevelBand> bands = new ArrayList<>(depth);
+        List<ManagerSpan> spans = new ArrayList<>();
+        int maxFanOut = 0;
+        long totalFanOut = 0;
+
+        for (int level = 0; level < depth; level++) {
+            Employee[] employees = levels.get(level);
+            int[] offsets = childOffsets.get(level);
+            int levelManagers = 0;
+
+            for (int i = 0; i < employees.length; i++) {
+                int fanOut = offsets[i + 1] - offsets[i];
+                if (fanOut > 0) {
+                    levelManagers++;
+                    maxFanOut = Math.max(maxFanOut, fanOut);
+                    totalFanOut += fanOut;
+                    spans.add(new ManagerSpan(employees[i].getId(), level, fanOut, headcounts[level][i]));
+                }
+            }
+
+            bands.add(new LevelBand(level, employees.length, levelManagers, salaries.levelStatistics(level)));
+        }
+
+        double averageFanOut = spans.isEmpty() ? 0.0 : (double) totalFanOut / spans.size();
+        log.debug("[Organization Analyzes] Span of control: {} levels, {} managers, max fan-out {}, average fan-out {}",
+                depth, spans.size(), maxFanOut, averageFanOut);
+
+        return new SpanOfControlAnalysis(spans.size(), maxFanOut, averageFanOut, bands, spans);
+    }
+
+    private static IntStream indexes(int size) {
+        IntStream indexes = IntStream.range(0, size);
+        return size >= PARALLEL_THRESHOLD ? indexes.parallel() : indexes;
+    }
+
+    private static void prefixSum(int[] values) {
+        if (values.length >= PARALLEL_THRESHOLD) {
+            Arrays.parallelPrefix(values, Integer::sum);
+        } else {
+            for (int i = 1; i < values.length; i++) {
+                values[i] += values[i - 1];
+            }
+        }
+    }
+}
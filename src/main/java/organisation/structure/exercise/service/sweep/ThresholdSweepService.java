@@ -0,0 +1,49 @@
+package organisation.structure.exercise.service.sweep;
+
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.ThresholdSensitivityProfile;
+import organisation.structure.exercise.core.model.ThresholdSweepResult;
+
+import java.util.List;
+
+/**
+ * Interface for threshold sensitivity analysis.
+ * Shows how the flagged counts change across candidate salary thresholds and reporting level limits.
+ */
+public interface ThresholdSweepService {
+
+    /**
+     * Builds a sensitivity profile by computing each manager's salary ratio and each employee's
+     * reporting level once and sorting them.
+     *
+     * @param employees List of employees with established hierarchy and calculated reporting levels
+     * @return Profile answering flagged counts for any threshold by binary search
+     */
+    ThresholdSensitivityProfile buildProfile(List<Employee> employees);
+
+    /**
+     * Builds a sensitivity profile from the salary layout of an analysed organization, without converting
+     * or copying salaries again. Reporting levels are the breadth-first levels of the layout.
+     *
+     * @param salaries Breadth-first salary layout, as kept by the organizational summary
+     * @return Profile answering flagged counts for any threshold by binary search
+     */
+    ThresholdSensitivityProfile buildProfile(HierarchySalaryColumn salaries);
+
+    /**
+     * Computes flagged counts for every candidate threshold.
+     * The profile is built once; each candidate is then answered by binary search without another pass
+     * over the employees.
+     *
+     * @param employees List of employees with established hierarchy and calculated reporting levels
+     * @param underpaidThresholds Candidate underpaid thresholds
+     * @param overpaidThresholds Candidate overpaid thresholds
+     * @param maxReportingLevels Candidate reporting level limits
+     * @return ThresholdSweepResult containing flagged counts per candidate
+     */
+    ThresholdSweepResult sweep(List<Employee> employees,
+                               double[] underpaidThresholds,
+                               double[] overpaidThresholds,
+                               int[] maxReportingLevels);
+}
@@ -0,0 +1,70 @@
+package organisation.structure.exercise.service.sweep.impl;
+
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import organisation.structure.exercise.core.collection.HierarchySalaryColumn;
+import organisation.structure.exercise.core.collection.ManagerSalaryAggregates;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.ThresholdSensitivityProfile;
+import organisation.structure.exercise.core.model.ThresholdSweepResult;
+import organisation.structure.exercise.service.sweep.ThresholdSweepService;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Default implementation of threshold sweep service.
+ * Sorts salary ratios and reporting levels once, then answers every candidate threshold by binary search.
+ */
+@Slf4j
+@Service
+public class DefaultThresholdSweepService implements ThresholdSweepService {
+
+    @Override
+    public ThresholdSensitivityProfile buildProfile(@NonNull final List<Employee> employees) {
+        log.debug("[Organization Analyzes] Building threshold sensitivity profile for {} employees", employees.size());
+
+        // Direct-report salaries laid out per manager, so each ratio is one pass over a contiguous range
+        double[] salaryRatios = ManagerSalaryAggregates.of(employees).salaryRatiosToAverage();
+
+        int[] reportingLevels = employees.parallelStream()
+                .mapToInt(Employee::getReportingLevel)
+                .toArray();
+
+        Arrays.parallelSort(salaryRatios);
+        Arrays.parallelSort(reportingLevels);
+
+        return new ThresholdSensitivityProfile(salaryRatios, reportingLevels);
+    }
+
+    @Override
+    public ThresholdSensitivityProfile buildProfile(@NonNull final HierarchySalaryColumn salaries) {
+        log.debug("[Organization Analyzes] Building threshold sensitivity profile for {} employees from the salary layout", salaries.size());
+
+        double[] salaryRatios = ManagerSalaryAggregates.of(salaries).salaryRatiosToAverage();
+        Arrays.parallelSort(salaryRatios);
+
+        // Breadth-first positions are already ordered by reporting level
+        int[] reportingLevels = new int[salaries.size()];
+        int position = 0;
+        for (int level = 0; level < salaries.depth(); level++) {
+            int end = position + salaries.levelSize(level);
+            Arrays.fill(reportingLevels, position, end, level);
+            position = end;
+        }
+
+        return new ThresholdSensitivityProfile(salaryRatios, reportingLevels);
+    }
+
+    @Override
+    public ThresholdSweepResult sweep(@NonNull final List<Employee> employees,
+                                      @NonNull final double[] underpaidThresholds,
+                                      @NonNull final double[] overpaidThresholds,
+                                      @NonNull final int[] maxReportingLevels) {
+        log.debug("[Organization Analyzes] Sweeping {} underpaid, {} overpaid and {} reporting level thresholds",
+                underpaidThresholds.length, overpaidThresholds.length, maxReportingLevels.length);
+
+        return buildProfile(employees).sweep(underpaidThresholds, overpaidThresholds, maxReportingLevels);
+    }
+}
@@ -0,0 +1,32 @@
+-- Employee master data read by the JDBC employee source.
+-- Applied automatically to embedded databases (H2); managed by migrations elsewhere.
+CREATE TABLE IF NOT EXISTS employees (
+    id          VARCHAR(64)    NOT NULL PRIMARY KEY,
+    first_name  VARCHAR(255)   NOT NULL,
+    last_name   VARCHAR(255)   NOT NULL,
+    salary      DECIMAL(15, 2) NOT NULL,
+    manager_id  VARCHAR(64)
+);
+
+-- Persisted analysis runs, one row per run id.
+CREATE TABLE IF NOT EXISTS analysis_run (
+    run_id                   VARCHAR(64)    NOT NULL PRIMARY KEY,
+    created_at               TIMESTAMP      NOT NULL,
+    ceo_id                   VARCHAR(64),
+    total_employees          INT            NOT NULL,
+    managers                 INT            NOT NULL,
+    individual_contributors  INT            NOT NULL,
+    total_salary_budget      DECIMAL(18, 2) NOT NULL,
+    average_salary           DECIMAL(15, 2) NOT NULL,
+    max_reporting_level      INT            NOT NULL
+);
+
+-- Findings of a persisted analysis run.
+CREATE TABLE IF NOT EXISTS analysis_finding (
+    run_id           VARCHAR(64)    NOT NULL,
+    finding_type     VARCHAR(32)    NOT NULL,
+    employee_id      VARCHAR(64)    NOT NULL,
+    amount           DECIMAL(15, 2) NOT NULL,
+    reporting_level  INT            NOT NULL,
+    PRIMARY KEY (run_id, finding_type, employee_id)
+);
@@ -0,0 +1,99 @@
+package organisation.structure.exercise.service.distributed.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.AutowireCapableBeanFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import organisation.structure.exercise.core.configuration.properties.DistributedProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.core.model.OrganizationalSummary;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.csv.ICsvReaderService;
+import organisation.structure.exercise.service.distributed.DistributedAnalysisService;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs a distributed analysis on two partition workers listening on ephemeral loopback ports and
+ * compares it with the analysis of the same organization in this process.
+ */
+@SpringBootTest(properties = "app.local-test.enabled=false")
+@ActiveProfiles("test")
+class DefaultDistributedAnalysisServiceTest {
+
+    private static final String LARGE_ORGANIZATION = "src/test/resources/test-data/large-employees.csv";
+
+    @Autowired
+    private DistributedAnalysisService distributedAnalysisService;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    @Autowired
+    private ICsvReaderService csvReaderService;
+
+    @Autowired
+    private DistributedProperties distributedProperties;
+
+    @Autowired
+    private AutowireCapableBeanFactory beanFactory;
+
+    private DefaultPartitionWorkerService firstWorker;
+    private DefaultPartitionWorkerService secondWorker;
+
+    @BeforeEach
+    void startWorkers() throws Exception {
+        firstWorker = beanFactory.createBean(DefaultPartitionWorkerService.class);
+        secondWorker = beanFactory.createBean(DefaultPartitionWorkerService.class);
+        distributedProperties.setWorkers(List.of(
+                "127.0.0.1:" + firstWorker.start(0), "127.0.0.1:" + secondWorker.start(0)));
+    }
+
+    @AfterEach
+    void stopWorkers() {
+        distributedProperties.setWorkers(List.of());
+        firstWorker.stop();
+        secondWorker.stop();
+    }
+
+    @Test
+    void matchesTheLocalAnalysis() throws Exception {
+        // Each analysis gets its own rows, as building the hierarchy links the employees it is given
+        AnalysisResult local = organizationalAnalyzerService.analyzeOrganizationalStructure(
+                csvReaderService.readEmployeesFromCsv(LARGE_ORGANIZATION));
+        AnalysisResult distributed = distributedAnalysisService.analyzeDistributed(
+                csvReaderService.readEmployeesFromCsv(LARGE_ORGANIZATION));
+
+        assertThat(local.isSuccess()).as(local.getErrorMessage()).isTrue();
+        assertThat(distributed.isSuccess()).as(distributed.getErrorMessage()).isTrue();
+
+        OrganizationalSummary expected = local.getOrganizationalSummary();
+        OrganizationalSummary actual = distributed.getOrganizationalSummary();
+        assertThat(actual.getCeo().getId()).isEqualTo(expected.getCeo().getId());
+        assertThat(actual.getTotalEmployees()).isEqualTo(expected.getTotalEmployees());
+        assertThat(actual.getManagers()).isEqualTo(expected.getManagers());
+        assertThat(actual.getExactTotalSalaryBudget()).isEqualTo(expected.getExactTotalSalaryBudget());
+        assertThat(actual.getAverageSalary()).isEqualTo(expected.getAverageSalary());
+        assertThat(actual.getMaxReportingLevel()).isEqualTo(expected.getMaxReportingLevel());
+
+        assertThat(idsOf(local.getUnderpaidManagerView())).isNotEmpty()
+                .isEqualTo(idsOf(distributed.getUnderpaidManagerView()));
+        assertThat(idsOf(local.getOverpaidManagerView())).isNotEmpty()
+                .isEqualTo(idsOf(distributed.getOverpaidManagerView()));
+        assertThat(idsOf(local.getLongReportingLineView())).isNotEmpty()
+                .isEqualTo(idsOf(distributed.getLongReportingLineView()));
+    }
+
+    private static Set<String> idsOf(EmployeeResultView findings) {
+        return findings.stream().map(Employee::getId).collect(Collectors.toSet());
+    }
+}
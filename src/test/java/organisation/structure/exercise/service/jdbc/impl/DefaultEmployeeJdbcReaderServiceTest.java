@@ -0,0 +1,78 @@
+package organisation.structure.exercise.service.jdbc.impl;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import organisation.structure.exercise.core.collection.IndexedEmployeeList;
+import organisation.structure.exercise.core.model.Employee;
+import organisation.structure.exercise.service.jdbc.EmployeeJdbcReaderService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Reads employees from the embedded H2 database of the test profile, created from schema.sql.
+ */
+@SpringBootTest(properties = "app.local-test.enabled=false")
+@ActiveProfiles("test")
+class DefaultEmployeeJdbcReaderServiceTest {
+
+    @Autowired
+    private EmployeeJdbcReaderService employeeJdbcReaderService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void loadEmployees() {
+        jdbcTemplate.update("DELETE FROM employees");
+        jdbcTemplate.batchUpdate("INSERT INTO employees (id, first_name, last_name, salary, manager_id) VALUES (?, ?, ?, ?, ?)",
+                List.of(
+                        new Object[]{"1", "Joe", "Doe", 60000, null},
+                        new Object[]{"2", " Martin ", "Chekov", 45000, "1"},
+                        new Object[]{"3", "Bob", "Ronstad", 47000.50, "1"},
+                        new Object[]{"4", "Alice", "Hasacat", 50000, " "},
+                        new Object[]{"5", "Brett", "Doe", 34000, "4"}));
+    }
+
+    @Test
+    void streamsEveryRowInQueryOrder() throws Exception {
+        List<Employee> streamed = new ArrayList<>();
+
+        long rows = employeeJdbcReaderService.streamEmployeesFromDatabase(streamed::add);
+
+        assertThat(rows).isEqualTo(5);
+        assertThat(streamed).extracting(Employee::getId).containsExactlyInAnyOrder("1", "2", "3", "4", "5");
+    }
+
+    @Test
+    void mapsColumnsLikeTheCsvReader() throws Exception {
+        List<Employee> employees = employeeJdbcReaderService.readEmployeesFromDatabase();
+
+        assertThat(employees).isInstanceOf(IndexedEmployeeList.class).hasSize(5);
+        Employee ceo = byId(employees, "1");
+        assertThat(ceo.getManagerId()).isNull();
+        assertThat(ceo.isCEO()).isTrue();
+
+        Employee martin = byId(employees, "2");
+        assertThat(martin.getFirstName()).isEqualTo("Martin");
+        assertThat(martin.getManagerId()).isEqualTo("1");
+        assertThat(byId(employees, "3").getSalary()).isEqualTo(47000.50);
+        assertThat(byId(employees, "4").getManagerId()).isNull();
+
+        // Repeated name parts of one read share a single instance
+        assertThat(byId(employees, "5").getLastName()).isSameAs(ceo.getLastName());
+    }
+
+    private static Employee byId(List<Employee> employees, String id) {
+        return employees.stream()
+                .filter(employee -> id.equals(employee.getId()))
+                .findFirst()
+                .orElseThrow();
+    }
+}
@@ -0,0 +1,137 @@
+package organisation.structure.exercise.service.persistence.impl;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import organisation.structure.exercise.core.configuration.properties.JdbcProperties;
+import organisation.structure.exercise.core.model.AnalysisResult;
+import organisation.structure.exercise.core.model.EmployeeResultView;
+import organisation.structure.exercise.service.analysis.OrganizationalAnalyzerService;
+import organisation.structure.exercise.service.persistence.AnalysisResultWriter;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Persists analysis results into the embedded H2 database of the test profile, created from schema.sql.
+ */
+@SpringBootTest(properties = "app.local-test.enabled=false")
+@ActiveProfiles("test")
+class DefaultAnalysisResultWriterTest {
+
+    private static final String LARGE_ORGANIZATION = "src/test/resources/test-data/large-employees.csv";
+
+    @Autowired
+    private AnalysisResultWriter analysisResultWriter;
+
+    @Autowired
+    private OrganizationalAnalyzerService organizationalAnalyzerService;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void rewritingARunReplacesItsRows() throws Exception {
+        AnalysisResult result = analyze();
+        long expectedFindings = findingsOf(result);
+
+        long first = analysisResultWriter.writeAnalysisResult("idempotent-run", result);
+        long second = analysisResultWriter.writeAnalysisResult("idempotent-run", result);
+
+        assertThat(first).isEqualTo(expectedFindings);
+        assertThat(second).isEqualTo(expectedFindings);
+        assertThat(count("SELECT COUNT(*) FROM analysis_run WHERE run_id = ?", "idempotent-run")).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM analysis_finding WHERE run_id = ?", "idempotent-run"))
+                .isEqualTo(expectedFindings);
+        assertThat(count("SELECT COUNT(*) FROM analysis_finding WHERE run_id = ? AND finding_type = ?",
+                "idempotent-run", "SPAN_OF_CONTROL"))
+                .isEqualTo(result.getFindingsByRule().get("span-of-control").count());
+        assertThat(jdbcTemplate.queryForObject("SELECT total_employees FROM analysis_run WHERE run_id = ?",
+                Integer.class, "idempotent-run")).isEqualTo(result.getOrganizationalSummary().getTotalEmployees());
+    }
+
+    @Test
+    void writesFindingsInBatches() throws Exception {
+        AnalysisResult result = analyze();
+        long expectedFindings = findingsOf(result);
+        int batchSize = 25;
+
+        AtomicInteger batches = new AtomicInteger();
+        JdbcProperties jdbcProperties = new JdbcProperties();
+        jdbcProperties.setWriteBatchSize(batchSize);
+        DefaultAnalysisResultWriter writer = new DefaultAnalysisResultWriter();
+        ReflectionTestUtils.setField(writer, "dataSource", countingBatches(dataSource, batches));
+        ReflectionTestUtils.setField(writer, "jdbcProperties", jdbcProperties);
+
+        long written = writer.writeAnalysisResult("batched-run", result);
+
+        assertThat(written).isEqualTo(expectedFindings);
+        assertThat(batches.get()).isEqualTo((int) ((expectedFindings + batchSize - 1) / batchSize));
+        assertThat(count("SELECT COUNT(*) FROM analysis_finding WHERE run_id = ?", "batched-run"))
+                .isEqualTo(expectedFindings);
+    }
+
+    private AnalysisResult analyze() {
+        AnalysisResult result = organizationalAnalyzerService.analyzeOrganizationFromCsv(LARGE_ORGANIZATION);
+        assertThat(result.isSuccess()).as(result.getErrorMessage()).isTrue();
+        return result;
+    }
+
+    private static long findingsOf(AnalysisResult result) {
+        long findings = result.getFindingsByRule().values().stream().mapToLong(EmployeeResultView::count).sum();
+        assertThat(findings).isGreaterThan(100);
+        return findings;
+    }
+
+    private long count(String sql, Object... arguments) {
+        return jdbcTemplate.queryForObject(sql, Long.class, arguments);
+    }
+
+    /**
+     * Wraps the datasource so that every executed JDBC batch is counted.
+     */
+    private static DataSource countingBatches(DataSource target, AtomicInteger batches) {
+        return new DelegatingDataSource(target) {
+            @Override
+            public Connection getConnection() throws SQLException {
+                Connection connection = super.getConnection();
+                return proxy(Connection.class, connection, (method, result) -> method.equals("prepareStatement")
+                        ? proxy(PreparedStatement.class, (PreparedStatement) result, (statementMethod, statementResult) -> {
+                            if (statementMethod.equals("executeBatch")) {
+                                batches.incrementAndGet();
+                            }
+                            return statementResult;
+                        })
+                        : result);
+            }
+        };
+    }
+
+    private interface ResultHook {
+        Object after(String method, Object result);
+    }
+
+    private static <T> T proxy(Class<T> type, T target, ResultHook hook) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, arguments) -> {
+            try {
+                return hook.after(method.getName(), method.invoke(target, arguments));
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }));
+    }
+}
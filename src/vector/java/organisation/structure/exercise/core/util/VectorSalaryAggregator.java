@@ -0,0 +1,48 @@
+package organisation.structure.exercise.core.util;
+
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import organisation.structure.exercise.core.model.SalaryStatistics;
+
+/**
+ * SIMD salary aggregation on the {@code jdk.incubator.vector} API.
+ * Kept apart from {@link SalaryAggregationUtil} so that nothing references the incubator module unless it is present.
+ */
+final class VectorSalaryAggregator implements SalaryAggregationUtil.RangeAggregator {
+
+    private static final VectorSpecies<Long> SPECIES = LongVector.SPECIES_PREFERRED;
+
+    @Override
+    public SalaryStatistics aggregate(long[] minorUnits, int from, int to) {
+        int length = to - from;
+        // Short ranges such as a single manager's reports are faster without vector setup
+        if (length < SPECIES.length() * 2) {
+            return SalaryAggregationUtil.aggregateScalar(minorUnits, from, to);
+        }
+
+        LongVector sums = LongVector.zero(SPECIES);
+        LongVector mins = LongVector.broadcast(SPECIES, Long.MAX_VALUE);
+        LongVector maxs = LongVector.broadcast(SPECIES, Long.MIN_VALUE);
+
+        int i = from;
+        int bound = from + SPECIES.loopBound(length);
+        for (; i < bound; i += SPECIES.length()) {
+            LongVector values = LongVector.fromArray(SPECIES, minorUnits, i);
+            sums = sums.add(values);
+            mins = mins.min(values);
+            maxs = maxs.max(values);
+        }
+
+        long sum = sums.reduceLanes(VectorOperators.ADD);
+        long min = mins.reduceLanes(VectorOperators.MIN);
+        long max = maxs.reduceLanes(VectorOperators.MAX);
+        for (; i < to; i++) {
+            long value = minorUnits[i];
+            sum += value;
+            min = Math.min(min, value);
+            max = Math.max(max, value);
+        }
+        return SalaryAggregationUtil.statistics(length, sum, min, max);
+    }
+}